@@ -0,0 +1,16 @@
+-- IDENTITY → pooled 시퀀스 전환 마이그레이션 (MySQL)
+-- Reservation, FormAnswer, EventSchedule, FormQuestion의 ID를 시퀀스 에뮬레이션 테이블에서 50개씩 할당받는다.
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 ID 이후부터 시작한다. (할당 단위만큼 여유를 둔다)
+-- 사용법: 애플리케이션 배포 전에 mysql -u {user} -p {database} < docs/sql/pooled-sequence-migration.sql
+
+CREATE TABLE IF NOT EXISTS reservations_seq (next_val BIGINT);
+INSERT INTO reservations_seq SELECT COALESCE(MAX(id), 0) + 51 FROM reservations;
+
+CREATE TABLE IF NOT EXISTS form_answers_seq (next_val BIGINT);
+INSERT INTO form_answers_seq SELECT COALESCE(MAX(id), 0) + 51 FROM form_answers;
+
+CREATE TABLE IF NOT EXISTS event_schedules_seq (next_val BIGINT);
+INSERT INTO event_schedules_seq SELECT COALESCE(MAX(id), 0) + 51 FROM event_schedules;
+
+CREATE TABLE IF NOT EXISTS form_questions_seq (next_val BIGINT);
+INSERT INTO form_questions_seq SELECT COALESCE(MAX(id), 0) + 51 FROM form_questions;
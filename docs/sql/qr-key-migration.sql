@@ -0,0 +1,37 @@
+-- QR 토큰 128비트 키(qr_key) 전환 마이그레이션 (MySQL)
+-- QR 조회를 VARCHAR qr_token(UUID 36자) 유니크 인덱스에서 BINARY(16) qr_key 유니크 인덱스로 옮긴다.
+-- 기존 UUID 토큰은 하이픈을 뺀 16진수가 곧 128비트 값이므로 발급된 QR 코드는 그대로 조회된다.
+-- 사용법: 1단계는 애플리케이션 배포 전, 2단계는 배포 후에 mysql -u {user} -p {database}로 실행한다.
+-- 배포 중에는 이전 버전이 qr_key 없이 예약을 저장하므로, 새 버전은 qr_key가 NULL인 행을 qr_token(UUID 문자열)으로 찾는다.
+-- 2단계까지 끝나면 reservation.qr-token.null-key-fallback을 false로 바꾼다.
+-- qr_token의 UNIQUE 인덱스는 그대로 둔다. 대체 조회가 이 인덱스를 타고, 기존 토큰 하나가 두 행에 일치하지 않게 막는다.
+--
+-- 측정 결과: 아직 측정하지 않았다. 인덱스 크기 감소와 조회 시간 개선은 기대치일 뿐 수치로 확인된 것이 아니다.
+-- 운영 DB에서 아래 [측정] 쿼리를 전환 전후로 실행하고 결과(size_mb, actual time)를 이 주석에 기록한다.
+
+-- [측정] 전환 전 인덱스 크기 (ANALYZE TABLE 후 확인)
+ANALYZE TABLE reservations;
+SELECT index_name, ROUND(stat_value * @@innodb_page_size / 1024 / 1024, 2) AS size_mb
+FROM mysql.innodb_index_stats
+WHERE database_name = DATABASE() AND table_name = 'reservations' AND stat_name = 'size';
+
+-- 1단계 (배포 전): 컬럼 추가와 기존 토큰 채우기. 이전 버전이 계속 INSERT할 수 있도록 NULL을 허용한다.
+ALTER TABLE reservations ADD COLUMN qr_key BINARY(16) NULL;
+UPDATE reservations SET qr_key = UNHEX(REPLACE(qr_token, '-', '')) WHERE qr_key IS NULL;
+
+-- 2단계 (배포 후): 배포 중 이전 버전이 만든 예약을 다시 채운 뒤 제약 조건을 옮긴다.
+UPDATE reservations SET qr_key = UNHEX(REPLACE(qr_token, '-', '')) WHERE qr_key IS NULL;
+ALTER TABLE reservations
+    MODIFY qr_key BINARY(16) NOT NULL,
+    ADD CONSTRAINT uk_reservation_qr_key UNIQUE (qr_key);
+
+-- qr_token의 기존 UNIQUE 인덱스가 남아 있는지 확인한다. (Reservation.qrToken의 unique = true와 같아야 한다)
+SELECT index_name, non_unique FROM information_schema.statistics
+WHERE table_schema = DATABASE() AND table_name = 'reservations' AND column_name = 'qr_token';
+
+-- [측정] 전환 후 인덱스 크기와 조회 시간 (qr_token 인덱스 대비 uk_reservation_qr_key 크기, EXPLAIN ANALYZE의 actual time)
+ANALYZE TABLE reservations;
+SELECT index_name, ROUND(stat_value * @@innodb_page_size / 1024 / 1024, 2) AS size_mb
+FROM mysql.innodb_index_stats
+WHERE database_name = DATABASE() AND table_name = 'reservations' AND stat_name = 'size';
+EXPLAIN ANALYZE SELECT id FROM reservations WHERE qr_key = (SELECT qr_key FROM reservations ORDER BY id DESC LIMIT 1);
@@ -0,0 +1,5 @@
+-- 예약자 목록 키셋 페이지네이션용 복합 인덱스 (MySQL)
+-- WHERE event_schedule_id = ? AND id < ? ORDER BY id DESC LIMIT ? 를 인덱스 범위 스캔만으로 처리한다.
+-- 사용법: mysql -u {user} -p {database} < docs/sql/reservation-keyset-index.sql
+
+CREATE INDEX idx_reservation_schedule_id ON reservations (event_schedule_id, id);
@@ -0,0 +1,16 @@
+-- 스케줄별 대시보드 집계 컬럼 초기화 (MySQL)
+-- checked_in_count / cancelled_count 컬럼이 추가된 뒤 기존 예약 데이터로 한 번 채운다.
+-- 이후에는 예약 취소/체크인 시 애플리케이션이 조건부 UPDATE로 갱신한다.
+-- 사용법: mysql -u {user} -p {database} < docs/sql/schedule-counters-migration.sql
+
+UPDATE event_schedules s
+SET s.checked_in_count = (
+        SELECT COALESCE(SUM(r.ticket_count), 0)
+        FROM reservations r
+        WHERE r.event_schedule_id = s.id AND r.status = 'CONFIRMED' AND r.is_checked_in = TRUE
+    ),
+    s.cancelled_count = (
+        SELECT COALESCE(SUM(r.ticket_count), 0)
+        FROM reservations r
+        WHERE r.event_schedule_id = s.id AND r.status = 'CANCELLED'
+    );
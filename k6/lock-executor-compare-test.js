@@ -0,0 +1,100 @@
+/**
+ * ===========================================
+ * LockExecutor 비교 테스트 — InMemory vs Redis
+ * ===========================================
+ *
+ * 목적:
+ *   예약 생성 직후 취소를 반복하여 스케줄 락(LockExecutor)을 거치는 취소 경로에 부하를 건다.
+ *   같은 스크립트를 기본 프로필(InMemoryLockExecutor)과 redis 프로필(RedisLockExecutor) 서버에
+ *   각각 실행하고 lock_cancel_duration, lock_timeout 지표를 비교한다.
+ *
+ * 실행 방법:
+ *   # 1) 기본 프로필 서버
+ *   ./perf.sh --env local --script lock-executor-compare-test.js --test-id lock-inmemory
+ *   # 2) SPRING_PROFILES_ACTIVE=dev,redis 로 재기동한 서버
+ *   ./perf.sh --env local --script lock-executor-compare-test.js --test-id lock-redis
+ *
+ * 주의:
+ *   Redis 결과는 노드 간 상호 배제 비용(네트워크 왕복, Lua 스크립트, Pub/Sub 알림)을 포함한다.
+ *   다중 노드 비교 시 BASE_URL을 로드밸런서 주소로 지정한다.
+ */
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter, Rate, Trend } from 'k6/metrics';
+import { BASE_URL, SCHEDULE_ID, TEST_ID, acquireQueueToken, generateUniquePhone } from './reservation-helpers.js';
+
+// ============================================
+// Custom Metrics
+// ============================================
+const cancelDuration = new Trend('lock_cancel_duration');    // 락 구간을 포함한 취소 응답 시간
+const lockTimeout = new Counter('lock_timeout');             // 429 — 락 대기 초과
+const serverErrorRate = new Rate('server_error_rate');
+
+export const options = {
+  scenarios: {
+    create_then_cancel: {
+      executor: 'constant-vus',
+      vus: 100,
+      duration: '60s',
+    },
+  },
+
+  thresholds: {
+    lock_cancel_duration: ['p(95)<5000'],
+    server_error_rate: ['rate<0.01'],
+  },
+
+  summaryTrendStats: ['avg', 'min', 'med', 'max', 'p(90)', 'p(95)', 'p(99)', 'count'],
+};
+
+const params = {
+  headers: {
+    'Content-Type': 'application/json',
+    'X-Test-Id': TEST_ID,
+    'X-Perf-Test': 'true',
+  },
+};
+
+export default function () {
+  const queueToken = acquireQueueToken();
+  if (queueToken === null) {
+    sleep(0.5);
+    return;
+  }
+
+  const payload = JSON.stringify({
+    scheduleId: SCHEDULE_ID,
+    guestName: `lock_${__VU}_${__ITER}`,
+    guestPhoneNumber: generateUniquePhone(),
+    ticketCount: 1,
+    answers: [],
+  });
+
+  const created = http.post(`${BASE_URL}/api/reservations`, payload, {
+    headers: Object.assign({}, params.headers, { 'X-Queue-Token': queueToken }),
+    tags: { name: '/api/reservations' },
+  });
+  if (created.status !== 201) {
+    serverErrorRate.add(created.status >= 500);
+    sleep(0.5);
+    return;
+  }
+
+  const reservationId = JSON.parse(created.body).id;
+  const startTime = Date.now();
+  const cancelled = http.del(`${BASE_URL}/api/reservations/${reservationId}`, null,
+    Object.assign({}, params, { tags: { name: '/api/reservations/{id}' } }));
+  cancelDuration.add(Date.now() - startTime);
+
+  check(cancelled, {
+    'cancel status is 204': (r) => r.status === 204,
+  });
+
+  if (cancelled.status === 429) {
+    lockTimeout.add(1);
+  }
+  serverErrorRate.add(cancelled.status >= 500);
+
+  sleep(0.5);
+}
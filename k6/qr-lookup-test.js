@@ -0,0 +1,112 @@
+/**
+ * ===========================================
+ * QR 조회 테스트 — qr_key(BINARY(16)) 조회 지연 측정
+ * ===========================================
+ *
+ * 목적:
+ *   GET /api/reservations/qr/{qrToken}의 조회 지연을 측정한다.
+ *   - 정상 토큰: 형식·서명 검증 후 qr_key 유니크 인덱스로 조회 (If-None-Match 없이 매번 DB 조회)
+ *   - 위조 토큰: 서명 태그가 틀린 토큰이 DB 조회 없이 400으로 거절되는 시간
+ *   docs/sql/qr-key-migration.sql의 인덱스 크기 측정과 함께 전환 전후를 비교한다.
+ *
+ * 실행 방법:
+ *   ./perf.sh --env local --script qr-lookup-test.js --test-id qr-key
+ *
+ * 환경변수:
+ *   TOKEN_COUNT  - setup에서 생성할 예약 수 (기본: 20)
+ */
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate, Trend } from 'k6/metrics';
+import { BASE_URL, SCHEDULE_ID, TEST_ID, acquireQueueToken, generateUniquePhone } from './reservation-helpers.js';
+
+const TOKEN_COUNT = parseInt(__ENV.TOKEN_COUNT || '20', 10);
+
+// ============================================
+// Custom Metrics
+// ============================================
+const lookupDuration = new Trend('qr_lookup_duration');          // 정상 토큰 조회 응답 시간
+const forgedDuration = new Trend('qr_forged_reject_duration');   // 위조 토큰 거절 응답 시간
+const serverErrorRate = new Rate('server_error_rate');
+
+export const options = {
+  scenarios: {
+    lookup: {
+      executor: 'constant-vus',
+      vus: 50,
+      duration: '60s',
+      exec: 'lookup',
+    },
+    forged: {
+      executor: 'constant-vus',
+      vus: 10,
+      duration: '60s',
+      exec: 'forged',
+    },
+  },
+
+  thresholds: {
+    server_error_rate: ['rate<0.01'],
+  },
+
+  summaryTrendStats: ['avg', 'min', 'med', 'max', 'p(90)', 'p(95)', 'p(99)', 'count'],
+};
+
+const params = {
+  headers: {
+    'X-Test-Id': TEST_ID,
+    'X-Perf-Test': 'true',
+  },
+  tags: { name: '/api/reservations/qr/{qrToken}' },
+};
+
+export function setup() {
+  const tokens = [];
+  for (let i = 0; i < TOKEN_COUNT; i++) {
+    const queueToken = acquireQueueToken();
+    if (queueToken === null) {
+      continue;
+    }
+    const payload = JSON.stringify({
+      scheduleId: SCHEDULE_ID,
+      guestName: `qr_${i}`,
+      guestPhoneNumber: generateUniquePhone(),
+      ticketCount: 1,
+      answers: [],
+    });
+    const res = http.post(`${BASE_URL}/api/reservations`, payload, {
+      headers: Object.assign({}, params.headers, { 'Content-Type': 'application/json', 'X-Queue-Token': queueToken }),
+      tags: { name: '/api/reservations' },
+    });
+    if (res.status === 201) {
+      tokens.push(JSON.parse(res.body).qrToken);
+    }
+  }
+  console.log(`[${TEST_ID}] 조회 대상 토큰 ${tokens.length}개 (길이 ${tokens.length > 0 ? tokens[0].length : 0})`);
+  return { tokens };
+}
+
+export function lookup(data) {
+  const token = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+  const startTime = Date.now();
+  const res = http.get(`${BASE_URL}/api/reservations/qr/${token}`, params);
+  lookupDuration.add(Date.now() - startTime);
+  check(res, {
+    'lookup status is 200': (r) => r.status === 200,
+  });
+  serverErrorRate.add(res.status >= 500);
+}
+
+export function forged(data) {
+  const token = data.tokens[Math.floor(Math.random() * data.tokens.length)];
+  // 값 부분의 첫 글자를 바꿔 태그와 맞지 않는 토큰을 만든다. (서명 키가 없으면 존재하지 않는 토큰으로 DB 조회 후 거절)
+  const tampered = (token[0] === 'A' ? 'B' : 'A') + token.substring(1);
+  const startTime = Date.now();
+  const res = http.get(`${BASE_URL}/api/reservations/qr/${tampered}`, params);
+  forgedDuration.add(Date.now() - startTime);
+  check(res, {
+    'forged status is 400': (r) => r.status === 400,
+  });
+  serverErrorRate.add(res.status >= 500);
+}
@@ -5,6 +5,7 @@
  *
  * 예약 API 전용 메트릭, 헬퍼 함수, 요청 로직을 제공합니다.
  * reservation-test.js, reservation-constant-test.js에서 import하여 사용합니다.
+ * 예약 API는 대기열 입장 토큰(X-Queue-Token)이 필요하므로 요청 전에 대기열에 입장합니다.
  *
  * 환경변수:
  *   BASE_URL     - API 서버 URL (기본: https://api.form-pass.life)
@@ -46,6 +47,30 @@ export function generateUniquePhone() {
   return `010${String(num).padStart(8, '0')}`;
 }
 
+/**
+ * 대기열에 입장하여 예약 진입이 허용된 토큰을 발급받습니다.
+ * 입장이 허용될 때까지 상태를 폴링하며, 제한 시간 안에 허용되지 않으면 null을 반환합니다.
+ */
+export function acquireQueueToken(maxWaitSeconds = 60) {
+  const entered = http.post(`${BASE_URL}/api/queues/schedules/${SCHEDULE_ID}/tokens`, null,
+    { headers: { 'X-Test-Id': TEST_ID, 'X-Perf-Test': 'true' }, tags: { name: '/api/queues/schedules/{id}/tokens' } });
+  if (entered.status !== 201) {
+    return null;
+  }
+  let status = JSON.parse(entered.body);
+  const deadline = Date.now() + maxWaitSeconds * 1000;
+  while (!status.admitted && Date.now() < deadline) {
+    sleep(1);
+    const polled = http.get(`${BASE_URL}/api/queues/schedules/${SCHEDULE_ID}/tokens/${status.token}`,
+      { tags: { name: '/api/queues/schedules/{id}/tokens/{token}' } });
+    if (polled.status !== 200) {
+      return null;
+    }
+    status = JSON.parse(polled.body);
+  }
+  return status.admitted ? status.token : null;
+}
+
 // ============================================
 // Main Test Logic
 // ============================================
@@ -56,6 +81,13 @@ export function generateUniquePhone() {
  */
 export function createReservation() {
   const phoneNumber = generateUniquePhone();
+  const queueToken = acquireQueueToken();
+  if (queueToken === null) {
+    reservationFailed.add(1);
+    errorRate.add(1);
+    console.log(`[VU ${__VU}] Queue admission failed`);
+    return;
+  }
 
   const payload = JSON.stringify({
     scheduleId: SCHEDULE_ID,
@@ -70,6 +102,7 @@ export function createReservation() {
       'Content-Type': 'application/json',
       'X-Test-Id': TEST_ID,
       'X-Perf-Test': 'true',
+      'X-Queue-Token': queueToken,
     },
     tags: { name: '/api/reservations' },
   };
@@ -28,7 +28,7 @@
 import http from 'k6/http';
 import { check, sleep } from 'k6';
 import { Counter, Rate, Trend } from 'k6/metrics';
-import { BASE_URL, SCHEDULE_ID, TEST_ID, generateUniquePhone } from './reservation-helpers.js';
+import { BASE_URL, SCHEDULE_ID, TEST_ID, acquireQueueToken, generateUniquePhone } from './reservation-helpers.js';
 
 // ============================================
 // Custom Metrics
@@ -82,6 +82,12 @@ export function setup() {
 
 export default function () {
   const phoneNumber = generateUniquePhone();
+  const queueToken = acquireQueueToken();
+  if (queueToken === null) {
+    serverErrorRate.add(0);
+    sleep(0.5);
+    return;
+  }
 
   const payload = JSON.stringify({
     scheduleId: SCHEDULE_ID,
@@ -96,6 +102,7 @@ export default function () {
       'Content-Type': 'application/json',
       'X-Test-Id': TEST_ID,
       'X-Perf-Test': 'true',
+      'X-Queue-Token': queueToken,
     },
     tags: { name: '/api/reservations' },
   };
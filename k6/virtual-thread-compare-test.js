@@ -0,0 +1,167 @@
+/**
+ * ===========================================
+ * 가상 스레드 비교 테스트 — 플랫폼 스레드 vs 가상 스레드
+ * ===========================================
+ *
+ * 목적:
+ *   Tomcat 요청 스레드 풀(기본 200개)보다 많은 동시 요청을 걸어, 같은 서버를
+ *   플랫폼 스레드(기본값)와 가상 스레드(VIRTUAL_THREADS_ENABLED=true)로 각각 기동했을 때
+ *   처리량(http_reqs/s)과 서버 스레드 수(jvm_threads_live_threads, jvm_threads_peak_threads)를 비교한다.
+ *   - 게스트 이벤트 조회: 캐시 적중 위주의 짧은 요청
+ *   - 예약 생성 후 취소: 스케줄 락(LockExecutor) 대기와 DB I/O가 포함된 요청
+ *
+ * 실행 방법:
+ *   # 1) 기본 서버 (플랫폼 스레드)
+ *   ./perf.sh --env local --script virtual-thread-compare-test.js --test-id vt-off
+ *   # 2) VIRTUAL_THREADS_ENABLED=true 로 재기동한 서버
+ *   ./perf.sh --env local --script virtual-thread-compare-test.js --test-id vt-on
+ *
+ * 환경변수:
+ *   EVENT_CODE   - 조회 대상 공개 이벤트 코드 (SCHEDULE_ID가 속한 이벤트)
+ *
+ * 주의:
+ *   서버 스레드 수는 /actuator/prometheus에서 읽으므로 해당 엔드포인트가 노출된 환경에서 실행한다.
+ *   DB 커넥션 풀(Hikari 기본 10개)은 그대로이므로, 가상 스레드 모드의 이점은 주로 요청 스레드 대기열 해소에서 나온다.
+ *   가상 스레드 모드에서는 virtual_thread_pinned_total 지표가 0에 가까운지도 함께 확인한다.
+ */
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Rate, Trend } from 'k6/metrics';
+import { BASE_URL, SCHEDULE_ID, TEST_ID, acquireQueueToken, generateUniquePhone } from './reservation-helpers.js';
+
+const EVENT_CODE = __ENV.EVENT_CODE || 'TEST';
+
+// ============================================
+// Custom Metrics
+// ============================================
+const eventReadDuration = new Trend('vt_event_read_duration');       // 게스트 이벤트 조회 응답 시간
+const cancelDuration = new Trend('vt_cancel_duration');              // 락 구간을 포함한 취소 응답 시간
+const serverLiveThreads = new Trend('vt_server_live_threads');       // 테스트 중 샘플링한 서버 live 스레드 수
+const serverErrorRate = new Rate('server_error_rate');
+
+export const options = {
+  scenarios: {
+    event_read: {
+      executor: 'constant-vus',
+      vus: 400,
+      duration: '60s',
+      exec: 'readEvent',
+    },
+    create_then_cancel: {
+      executor: 'constant-vus',
+      vus: 100,
+      duration: '60s',
+      exec: 'createThenCancel',
+    },
+    thread_sampler: {
+      executor: 'constant-arrival-rate',
+      rate: 1,
+      timeUnit: '1s',
+      duration: '60s',
+      preAllocatedVUs: 1,
+      exec: 'sampleThreads',
+    },
+  },
+
+  thresholds: {
+    server_error_rate: ['rate<0.01'],
+  },
+
+  summaryTrendStats: ['avg', 'min', 'med', 'max', 'p(90)', 'p(95)', 'p(99)', 'count'],
+};
+
+const params = {
+  headers: {
+    'Content-Type': 'application/json',
+    'X-Test-Id': TEST_ID,
+    'X-Perf-Test': 'true',
+  },
+};
+
+/**
+ * Prometheus 텍스트 형식에서 단일 값 지표를 읽습니다. 없으면 null을 반환합니다.
+ */
+function readGauge(body, name) {
+  const match = body.match(new RegExp(`^${name}(?:\\{[^}]*\\})? ([0-9.eE+-]+)$`, 'm'));
+  return match ? parseFloat(match[1]) : null;
+}
+
+function scrapeThreads() {
+  const res = http.get(`${BASE_URL}/actuator/prometheus`, { tags: { name: '/actuator/prometheus' } });
+  if (res.status !== 200) {
+    return null;
+  }
+  return {
+    live: readGauge(res.body, 'jvm_threads_live_threads'),
+    peak: readGauge(res.body, 'jvm_threads_peak_threads'),
+    pinned: readGauge(res.body, 'virtual_thread_pinned_total'),
+  };
+}
+
+export function setup() {
+  const threads = scrapeThreads();
+  console.log(`[${TEST_ID}] 시작 시 서버 스레드: ${JSON.stringify(threads)}`);
+  return { before: threads };
+}
+
+export function readEvent() {
+  const startTime = Date.now();
+  const res = http.get(`${BASE_URL}/api/events/${EVENT_CODE}`,
+    Object.assign({}, params, { tags: { name: '/api/events/{eventCode}' } }));
+  eventReadDuration.add(Date.now() - startTime);
+  check(res, {
+    'event status is 200': (r) => r.status === 200,
+  });
+  serverErrorRate.add(res.status >= 500);
+}
+
+export function createThenCancel() {
+  const queueToken = acquireQueueToken();
+  if (queueToken === null) {
+    sleep(0.5);
+    return;
+  }
+
+  const payload = JSON.stringify({
+    scheduleId: SCHEDULE_ID,
+    guestName: `vt_${__VU}_${__ITER}`,
+    guestPhoneNumber: generateUniquePhone(),
+    ticketCount: 1,
+    answers: [],
+  });
+
+  const created = http.post(`${BASE_URL}/api/reservations`, payload, {
+    headers: Object.assign({}, params.headers, { 'X-Queue-Token': queueToken }),
+    tags: { name: '/api/reservations' },
+  });
+  if (created.status !== 201) {
+    serverErrorRate.add(created.status >= 500);
+    sleep(0.5);
+    return;
+  }
+
+  const reservationId = JSON.parse(created.body).id;
+  const startTime = Date.now();
+  const cancelled = http.del(`${BASE_URL}/api/reservations/${reservationId}`, null,
+    Object.assign({}, params, { tags: { name: '/api/reservations/{id}' } }));
+  cancelDuration.add(Date.now() - startTime);
+
+  check(cancelled, {
+    'cancel status is 204': (r) => r.status === 204,
+  });
+  serverErrorRate.add(cancelled.status >= 500);
+}
+
+export function sampleThreads() {
+  const threads = scrapeThreads();
+  if (threads !== null && threads.live !== null) {
+    serverLiveThreads.add(threads.live);
+  }
+}
+
+export function teardown(data) {
+  const threads = scrapeThreads();
+  console.log(`[${TEST_ID}] 시작 시 서버 스레드: ${JSON.stringify(data.before)}`);
+  console.log(`[${TEST_ID}] 종료 시 서버 스레드: ${JSON.stringify(threads)}`);
+}
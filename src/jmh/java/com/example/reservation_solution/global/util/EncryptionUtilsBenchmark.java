@@ -0,0 +1,117 @@
+package com.example.reservation_solution.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EncryptionUtils 처리량/할당량 벤치마크
+ * legacy* 벤치마크는 변경 전 구현(호출마다 Cipher.getInstance + init, JDK Base64)을 그대로 재현한 기준선이다.
+ * -prof gc(build.gradle 설정)의 gc.alloc.rate.norm 값이 연산당 할당 바이트다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class EncryptionUtilsBenchmark {
+
+    private static final String SECRET_KEY = "ticket-form-default-secret-key-32chars!!";
+    private static final int LIST_SIZE = 100;
+
+    private EncryptionUtils encryptionUtils;
+    private LegacyEncryption legacyEncryption;
+    private String phoneNumber;
+    private String encryptedPhoneNumber;
+    private List<String> encryptedPage;
+
+    @Setup
+    public void setUp() throws Exception {
+        encryptionUtils = new EncryptionUtils(SECRET_KEY);
+        legacyEncryption = new LegacyEncryption(SECRET_KEY);
+        phoneNumber = "01012345678";
+        encryptedPhoneNumber = encryptionUtils.encrypt(phoneNumber);
+        encryptedPage = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            encryptedPage.add(encryptionUtils.encrypt(String.format("010%08d", i)));
+        }
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionUtils.encrypt(phoneNumber);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtils.decrypt(encryptedPhoneNumber);
+    }
+
+    @Benchmark
+    public List<String> decryptAllPage() {
+        return encryptionUtils.decryptAll(encryptedPage);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() throws Exception {
+        return legacyEncryption.encrypt(phoneNumber);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() throws Exception {
+        return legacyEncryption.decrypt(encryptedPhoneNumber);
+    }
+
+    @Benchmark
+    public List<String> legacyDecryptPage() throws Exception {
+        List<String> decrypted = new ArrayList<>(LIST_SIZE);
+        for (String encrypted : encryptedPage) {
+            decrypted.add(legacyEncryption.decrypt(encrypted));
+        }
+        return decrypted;
+    }
+
+    private static final class LegacyEncryption {
+
+        private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
+
+        private final SecretKeySpec secretKey;
+        private final IvParameterSpec ivParameterSpec;
+
+        private LegacyEncryption(String secretKey) throws Exception {
+            byte[] key = MessageDigest.getInstance("SHA-256").digest(secretKey.getBytes(StandardCharsets.UTF_8));
+            key = Arrays.copyOf(key, 32);
+            this.secretKey = new SecretKeySpec(key, "AES");
+            this.ivParameterSpec = new IvParameterSpec(Arrays.copyOf(key, 16));
+        }
+
+        private String encrypt(String plainText) throws Exception {
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
+            return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        private String decrypt(String encryptedText) throws Exception {
+            Cipher cipher = Cipher.getInstance(ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
+            return new String(cipher.doFinal(Base64.getDecoder().decode(encryptedText)), StandardCharsets.UTF_8);
+        }
+    }
+}
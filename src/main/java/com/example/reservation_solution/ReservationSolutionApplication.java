@@ -1,6 +1,7 @@
 package com.example.reservation_solution;
 
 import com.example.reservation_solution.global.config.VerificationProperties;
+import com.example.reservation_solution.global.config.WaitingRoomProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -10,7 +11,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @EnableAsync
 @SpringBootApplication
 @EnableJpaAuditing
-@EnableConfigurationProperties(VerificationProperties.class)
+@EnableConfigurationProperties({VerificationProperties.class, WaitingRoomProperties.class})
 public class ReservationSolutionApplication {
 
 	public static void main(String[] args) {
@@ -1,17 +1,24 @@
 package com.example.reservation_solution.api.event.controller;
 
 import com.example.reservation_solution.api.event.dto.EventResponse;
+import com.example.reservation_solution.global.common.dto.VersionedResponse;
 import com.example.reservation_solution.global.docs.GetAllEventsDocs;
 import com.example.reservation_solution.global.docs.GetEventByCodeDocs;
+import com.example.reservation_solution.global.docs.StreamSeatAvailabilityDocs;
 import com.example.reservation_solution.global.security.HostUserDetails;
 import com.example.reservation_solution.api.event.service.EventService;
+import com.example.reservation_solution.api.event.service.SeatAvailabilityStreamService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Event Guest", description = "게스트 이벤트 조회 API (Public)")
 @RestController
@@ -20,11 +27,13 @@ import java.util.List;
 public class GuestEventController {
 
     private final EventService eventService;
+    private final SeatAvailabilityStreamService seatAvailabilityStreamService;
 
     @GetAllEventsDocs
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllEvents() {
-        List<EventResponse> events = eventService.getAllEvents();
+    public ResponseEntity<Page<EventResponse>> getAllEvents(
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<EventResponse> events = eventService.getAllEvents(pageable);
         return ResponseEntity.ok(events);
     }
 
@@ -35,7 +44,16 @@ public class GuestEventController {
             @AuthenticationPrincipal HostUserDetails userDetails) {
         // 선택적 인증: 토큰이 있으면 이메일을 가져오고, 없으면 null
         String requestEmail = (userDetails != null) ? userDetails.getUsername() : null;
-        EventResponse response = eventService.getEvent(eventCode, requestEmail);
-        return ResponseEntity.ok(response);
+        VersionedResponse<EventResponse> response = eventService.getEvent(eventCode, requestEmail);
+        // If-None-Match가 ETag와 같으면 Spring이 본문 직렬화 없이 304 Not Modified로 응답한다.
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .body(response.body());
+    }
+
+    @StreamSeatAvailabilityDocs
+    @GetMapping(value = "/{eventCode}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatAvailability(@PathVariable String eventCode) {
+        return seatAvailabilityStreamService.subscribe(eventCode);
     }
 }
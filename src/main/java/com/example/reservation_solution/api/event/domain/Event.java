@@ -36,6 +36,10 @@ public class Event extends BaseTimeEntity {
     @Column(nullable = false)
     private Boolean isPublic = false;
 
+    // 게스트 페이지 ETag용. 이벤트 정보나 공개 여부가 바뀔 때마다 증가한다.
+    @Column(nullable = false)
+    private Long contentVersion = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id", nullable = false)
     private Host host;
@@ -86,6 +90,7 @@ public class Event extends BaseTimeEntity {
         this.title = title;
         this.location = location;
         this.description = description;
+        this.contentVersion++;
     }
 
     public void clearSchedules() {
@@ -102,5 +107,6 @@ public class Event extends BaseTimeEntity {
 
     public void updateVisibility(Boolean isPublic) {
         this.isPublic = isPublic;
+        this.contentVersion++;
     }
 }
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class EventSchedule extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_schedule_seq_generator")
+    @SequenceGenerator(name = "event_schedule_seq_generator", sequenceName = "event_schedules_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -32,6 +33,16 @@ public class EventSchedule extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer reservedCount = 0;
 
+    // 대시보드용 집계 (티켓 수 기준). 예약 취소/체크인 시 조건부 UPDATE로 함께 갱신한다.
+    @Column(nullable = false)
+    private Integer checkedInCount = 0;
+
+    @Column(nullable = false)
+    private Integer cancelledCount = 0;
+
+    // 마지막으로 이 스케줄을 갱신한 분산 락의 펜싱 토큰 (더 오래된 토큰의 쓰기는 거절)
+    private Long fencingToken;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
@@ -42,6 +53,8 @@ public class EventSchedule extends BaseTimeEntity {
         this.endTime = endTime;
         this.maxCapacity = maxCapacity;
         this.reservedCount = 0;
+        this.checkedInCount = 0;
+        this.cancelledCount = 0;
     }
 
     public static EventSchedule create(LocalDateTime startTime, LocalDateTime endTime, Integer maxCapacity) {
@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class FormQuestion extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "form_question_seq_generator")
+    @SequenceGenerator(name = "form_question_seq_generator", sequenceName = "form_questions_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -2,6 +2,8 @@ package com.example.reservation_solution.api.event.dto;
 
 import com.example.reservation_solution.api.event.domain.Event;
 import com.example.reservation_solution.api.event.domain.EventImage;
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.api.event.domain.FormQuestion;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -23,7 +25,15 @@ public class EventResponse {
     private List<QuestionResponse> questions;
 
     public static EventResponse from(Event event) {
-        List<String> imageUrls = event.getImages().stream()
+        return from(event, event.getImages(), event.getSchedules(), event.getQuestions());
+    }
+
+    /**
+     * 목록 조회처럼 컬렉션을 따로 일괄 조회한 경우 사용한다. (Event의 지연 로딩 컬렉션에 접근하지 않음)
+     */
+    public static EventResponse from(Event event, List<EventImage> images, List<EventSchedule> schedules,
+                                     List<FormQuestion> questions) {
+        List<String> imageUrls = images.stream()
                 .sorted(Comparator.comparing(EventImage::getOrderIndex))
                 .map(EventImage::getImageUrl)
                 .collect(Collectors.toList());
@@ -36,12 +46,16 @@ public class EventResponse {
                 event.getDescription(),
                 event.getEventCode(),
                 event.getIsPublic(),
-                event.getSchedules().stream()
+                schedules.stream()
                         .map(ScheduleResponse::from)
                         .collect(Collectors.toList()),
-                event.getQuestions().stream()
+                questions.stream()
                         .map(QuestionResponse::from)
                         .collect(Collectors.toList())
         );
     }
+
+    public EventResponse withSchedules(List<ScheduleResponse> schedules) {
+        return new EventResponse(id, title, location, images, description, eventCode, isPublic, schedules, questions);
+    }
 }
@@ -3,10 +3,12 @@ package com.example.reservation_solution.api.event.dto;
 import com.example.reservation_solution.api.event.domain.EventSchedule;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class ScheduleResponse {
     private Long id;
@@ -24,4 +26,8 @@ public class ScheduleResponse {
                 schedule.getReservedCount()
         );
     }
+
+    public ScheduleResponse withReservedCount(int reservedCount) {
+        return new ScheduleResponse(id, startTime, endTime, maxCapacity, Math.max(0, Math.min(reservedCount, maxCapacity)));
+    }
 }
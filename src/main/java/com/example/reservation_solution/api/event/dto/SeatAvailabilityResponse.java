@@ -0,0 +1,18 @@
+package com.example.reservation_solution.api.event.dto;
+
+import java.util.List;
+
+/**
+ * 이벤트 잔여 좌석 스트림(SSE)의 availability 이벤트 본문
+ */
+public record SeatAvailabilityResponse(
+    String eventCode,
+    List<ScheduleAvailability> schedules
+) {
+    public record ScheduleAvailability(
+        Long scheduleId,
+        int maxCapacity,
+        int availableSeats
+    ) {
+    }
+}
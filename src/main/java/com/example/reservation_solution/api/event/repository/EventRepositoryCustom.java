@@ -1,7 +1,12 @@
 package com.example.reservation_solution.api.event.repository;
 
 import com.example.reservation_solution.api.event.domain.Event;
+import com.example.reservation_solution.api.event.domain.EventImage;
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.api.event.domain.FormQuestion;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EventRepositoryCustom {
@@ -9,4 +14,13 @@ public interface EventRepositoryCustom {
     Optional<Event> findByIdWithSchedules(Long eventId);
 
     Optional<Event> findByEventCodeWithSchedules(String eventCode);
+
+    /**
+     * 이벤트 목록 응답 조립용. 이벤트마다 컬렉션을 지연 로딩하지 않고 IN 조건 한 번으로 읽는다.
+     */
+    List<EventSchedule> findSchedulesByEventIds(Collection<Long> eventIds);
+
+    List<FormQuestion> findQuestionsByEventIds(Collection<Long> eventIds);
+
+    List<EventImage> findImagesByEventIds(Collection<Long> eventIds);
 }
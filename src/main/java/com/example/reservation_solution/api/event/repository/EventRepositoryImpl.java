@@ -1,13 +1,20 @@
 package com.example.reservation_solution.api.event.repository;
 
 import com.example.reservation_solution.api.event.domain.Event;
+import com.example.reservation_solution.api.event.domain.EventImage;
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.api.event.domain.FormQuestion;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static com.example.reservation_solution.api.event.domain.QEvent.event;
+import static com.example.reservation_solution.api.event.domain.QEventImage.eventImage;
 import static com.example.reservation_solution.api.event.domain.QEventSchedule.eventSchedule;
+import static com.example.reservation_solution.api.event.domain.QFormQuestion.formQuestion;
 
 @RequiredArgsConstructor
 public class EventRepositoryImpl implements EventRepositoryCustom {
@@ -33,4 +40,40 @@ public class EventRepositoryImpl implements EventRepositoryCustom {
                 .fetchOne();
         return Optional.ofNullable(result);
     }
+
+    @Override
+    public List<EventSchedule> findSchedulesByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(eventSchedule)
+                .where(eventSchedule.event.id.in(eventIds))
+                .orderBy(eventSchedule.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<FormQuestion> findQuestionsByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(formQuestion)
+                .where(formQuestion.event.id.in(eventIds))
+                .orderBy(formQuestion.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<EventImage> findImagesByEventIds(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(eventImage)
+                .where(eventImage.event.id.in(eventIds))
+                .orderBy(eventImage.orderIndex.asc())
+                .fetch();
+    }
 }
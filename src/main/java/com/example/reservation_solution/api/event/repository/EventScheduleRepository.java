@@ -2,6 +2,55 @@ package com.example.reservation_solution.api.event.repository;
 
 import com.example.reservation_solution.api.event.domain.EventSchedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface EventScheduleRepository extends JpaRepository<EventSchedule, Long>, EventScheduleRepositoryCustom {
+
+    @Modifying
+    @Query("UPDATE EventSchedule s SET s.reservedCount = s.reservedCount + :count " +
+            "WHERE s.id = :scheduleId AND s.reservedCount + :count <= s.maxCapacity")
+    int increaseReservedCount(@Param("scheduleId") Long scheduleId, @Param("count") int count);
+
+    @Modifying
+    @Query("UPDATE EventSchedule s SET s.checkedInCount = s.checkedInCount + :count WHERE s.id = :scheduleId")
+    int increaseCheckedInCount(@Param("scheduleId") Long scheduleId, @Param("count") int count);
+
+    @Query("SELECT s.event.id FROM EventSchedule s WHERE s.id = :scheduleId")
+    Optional<Long> findEventIdById(@Param("scheduleId") Long scheduleId);
+
+    @Query("SELECT s FROM EventSchedule s JOIN FETCH s.event WHERE s.id = :scheduleId")
+    Optional<EventSchedule> findByIdWithEvent(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 영속성 컨텍스트를 거치지 않고 DB의 현재 잔여 좌석을 조회한다. (조건부 UPDATE 실패 후 재계산용)
+     */
+    @Query("SELECT s.maxCapacity - s.reservedCount FROM EventSchedule s WHERE s.id = :scheduleId")
+    Optional<Integer> findAvailableSeats(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 분산 락 안의 트랜잭션이 다른 어떤 쓰기보다 먼저 호출하는 펜스.
+     * 더 새로운 토큰이 이미 기록되어 있으면 0을 반환하고, 통과하면 커밋까지 스케줄 행 잠금을 잡으므로
+     * 같은 트랜잭션의 이후 쓰기(예약 상태 변경 등)도 이 토큰 순서로만 반영된다.
+     */
+    @Modifying
+    @Query("UPDATE EventSchedule s SET s.fencingToken = :fencingToken " +
+            "WHERE s.id = :scheduleId AND COALESCE(s.fencingToken, 0L) <= :fencingToken")
+    int fence(@Param("scheduleId") Long scheduleId, @Param("fencingToken") Long fencingToken);
+
+    /**
+     * 분산 락 안에서 호출되면 펜싱 토큰을 함께 검사하여, 임대가 만료된 이전 보유자의 늦은 쓰기를 거절한다.
+     * fencingToken이 null이면(단일 JVM 락) 토큰 검사를 생략한다.
+     */
+    @Modifying
+    @Query("UPDATE EventSchedule s SET s.reservedCount = s.reservedCount - :count, " +
+            "s.cancelledCount = s.cancelledCount + :count, " +
+            "s.fencingToken = COALESCE(:fencingToken, s.fencingToken) " +
+            "WHERE s.id = :scheduleId AND s.reservedCount >= :count " +
+            "AND (:fencingToken IS NULL OR COALESCE(s.fencingToken, 0L) <= :fencingToken)")
+    int decreaseReservedCount(@Param("scheduleId") Long scheduleId, @Param("count") int count,
+                              @Param("fencingToken") Long fencingToken);
 }
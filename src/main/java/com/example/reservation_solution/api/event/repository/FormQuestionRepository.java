@@ -2,10 +2,19 @@ package com.example.reservation_solution.api.event.repository;
 
 import com.example.reservation_solution.api.event.domain.FormQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FormQuestionRepository extends JpaRepository<FormQuestion, Long>, FormQuestionRepositoryCustom {
 
     List<FormQuestion> findByEventIdOrderById(Long eventId);
+
+    /**
+     * 캐시된 폼 스키마로 검증한 답변의 질문이 아직 이벤트에 남아 있는지 확인한다. (예약 생성 트랜잭션 안에서 호출)
+     */
+    @Query("SELECT q.id FROM FormQuestion q WHERE q.event.id = :eventId AND q.id IN :questionIds")
+    List<Long> findExistingIds(@Param("eventId") Long eventId, @Param("questionIds") Collection<Long> questionIds);
 }
@@ -0,0 +1,86 @@
+package com.example.reservation_solution.api.event.service;
+
+import com.example.reservation_solution.api.event.domain.Event;
+import com.example.reservation_solution.api.event.dto.EventResponse;
+import com.example.reservation_solution.api.event.repository.EventRepository;
+import com.example.reservation_solution.global.util.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게스트 이벤트 페이지(GET /api/events/{eventCode}) 응답 캐시
+ * - 이미지·스케줄·질문·호스트를 조회해 완성한 EventResponse를 eventCode로 보관한다.
+ * - 잔여 좌석은 캐시하지 않으며, 조회 시 EventService가 SeatInventory 값으로 덮어쓴다.
+ * - 이벤트 수정/공개 여부 변경 트랜잭션이 커밋되면 제거한다. (다른 노드 대비 expire-after-write도 둔다)
+ * - 적중/미적중 수는 cache.gets{cache="eventPage"} 등 Micrometer 지표로 노출된다.
+ */
+@Component
+public class EventPageCache {
+
+    private static final String CACHE_NAME = "eventPage";
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AsyncCache<String, CachedEvent> cache;
+
+    public EventPageCache(EventRepository eventRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${event.page-cache.max-size:1000}") long maxSize,
+                          @Value("${event.page-cache.expire-after-write-seconds:300}") long expireSeconds) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시에 없으면 한 트랜잭션에서 이벤트를 조회해 응답을 만든다. 같은 eventCode의 동시 미적중은 한 번만 조회한다.
+     * 조회는 캐시 내부 잠금 밖에서 한다. (CacheLoads)
+     */
+    public CachedEvent get(String eventCode) {
+        return CacheLoads.getOrLoad(cache, eventCode, code -> transactionTemplate.execute(status -> load(code)));
+    }
+
+    public void evictAfterCommit(String eventCode) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.synchronous().invalidate(eventCode);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.synchronous().invalidate(eventCode);
+            }
+        });
+    }
+
+    private CachedEvent load(String eventCode) {
+        Event event = eventRepository.findByEventCodeWithSchedules(eventCode)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다"));
+        return new CachedEvent(EventResponse.from(event), event.getHost().getEmail(), event.getIsPublic(),
+                event.getContentVersion());
+    }
+
+    /**
+     * @param hostEmail 비공개 이벤트의 소유자 확인용 (응답에는 포함되지 않는다)
+     * @param contentVersion ETag 생성용 이벤트 버전
+     */
+    public record CachedEvent(EventResponse response, String hostEmail, boolean isPublic, long contentVersion) {
+    }
+}
@@ -8,17 +8,26 @@ import com.example.reservation_solution.api.auth.domain.Host;
 import com.example.reservation_solution.api.event.dto.CreateEventRequest;
 import com.example.reservation_solution.api.event.dto.EventResponse;
 import com.example.reservation_solution.api.event.dto.EventUpdateRequest;
+import com.example.reservation_solution.api.event.dto.ScheduleResponse;
+import com.example.reservation_solution.global.common.dto.VersionedResponse;
 import com.example.reservation_solution.global.util.CodeGenerator;
 import com.example.reservation_solution.api.event.repository.EventRepository;
 import com.example.reservation_solution.api.reservation.repository.FormAnswerRepository;
+import com.example.reservation_solution.api.reservation.service.SeatInventory;
 import com.example.reservation_solution.api.auth.repository.HostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @Slf4j
@@ -30,6 +39,9 @@ public class EventService {
     private final EventRepository eventRepository;
     private final HostRepository hostRepository;
     private final FormAnswerRepository formAnswerRepository;
+    private final SeatInventory seatInventory;
+    private final EventPageCache eventPageCache;
+    private final FormSchemaCache formSchemaCache;
 
     @Transactional
     public EventResponse createEvent(String email, CreateEventRequest request) {
@@ -80,9 +92,7 @@ public class EventService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 호스트입니다"));
 
         List<Event> events = eventRepository.findByHost(host);
-        return events.stream()
-                .map(EventResponse::from)
-                .toList();
+        return toResponses(events);
     }
 
     public EventResponse getEventDetail(Long eventId, String email) {
@@ -95,25 +105,62 @@ public class EventService {
         return EventResponse.from(event);
     }
 
-    public List<EventResponse> getAllEvents() {
-        List<Event> events = eventRepository.findAll();
+    public Page<EventResponse> getAllEvents(Pageable pageable) {
+        Page<Event> events = eventRepository.findAll(pageable);
+        return new PageImpl<>(toResponses(events.getContent()), pageable, events.getTotalElements());
+    }
+
+    /**
+     * 이벤트 목록의 스케줄·질문·이미지를 종류별로 한 번씩 IN 조회한 뒤 메모리에서 조립한다. (이벤트 수와 무관하게 쿼리 3회)
+     */
+    private List<EventResponse> toResponses(List<Event> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        List<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .toList();
+        Map<Long, List<EventSchedule>> schedulesByEvent = eventRepository.findSchedulesByEventIds(eventIds).stream()
+                .collect(Collectors.groupingBy(schedule -> schedule.getEvent().getId()));
+        Map<Long, List<FormQuestion>> questionsByEvent = eventRepository.findQuestionsByEventIds(eventIds).stream()
+                .collect(Collectors.groupingBy(question -> question.getEvent().getId()));
+        Map<Long, List<EventImage>> imagesByEvent = eventRepository.findImagesByEventIds(eventIds).stream()
+                .collect(Collectors.groupingBy(image -> image.getEvent().getId()));
+
         return events.stream()
-                .map(EventResponse::from)
+                .map(event -> EventResponse.from(event,
+                        imagesByEvent.getOrDefault(event.getId(), List.of()),
+                        schedulesByEvent.getOrDefault(event.getId(), List.of()),
+                        questionsByEvent.getOrDefault(event.getId(), List.of())))
                 .toList();
     }
 
-    public EventResponse getEvent(String eventCode, String requestEmail) {
-        Event event = eventRepository.findByEventCodeWithSchedules(eventCode)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이벤트입니다"));
+    /**
+     * 캐시에 적중하면 트랜잭션 없이 응답하며, 잔여 좌석만 SeatInventory의 메모리 카운터로 덮어쓴다.
+     * ETag는 이벤트 버전과 스케줄별 예약 수를 그대로 담으므로, 바뀐 것이 없으면 컨트롤러가 본문 없이 304로 응답한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public VersionedResponse<EventResponse> getEvent(String eventCode, String requestEmail) {
+        EventPageCache.CachedEvent cached = eventPageCache.get(eventCode);
 
-        if (!event.getIsPublic()) {
-            boolean isOwner = requestEmail != null && event.getHost().getEmail().equals(requestEmail);
+        if (!cached.isPublic()) {
+            boolean isOwner = requestEmail != null && cached.hostEmail().equals(requestEmail);
             if (!isOwner) {
                 throw new AccessDeniedException("비공개된 이벤트입니다");
             }
         }
 
-        return EventResponse.from(event);
+        EventResponse response = cached.response();
+        List<ScheduleResponse> schedules = response.getSchedules().stream()
+                .map(schedule -> schedule.withReservedCount(
+                        schedule.getMaxCapacity() - seatInventory.getAvailableSeats(schedule.getId())))
+                .toList();
+        // 해시는 서로 다른 예약 수 조합이 같은 값이 되어 304로 오래된 좌석을 보여 줄 수 있으므로, 예약 수를 그대로 36진수로 붙인다.
+        String reservedCounts = schedules.stream()
+                .map(schedule -> Integer.toString(schedule.getReservedCount(), Character.MAX_RADIX))
+                .collect(Collectors.joining("_"));
+        String etag = "\"e" + response.getId() + "." + cached.contentVersion() + "." + reservedCounts + "\"";
+        return new VersionedResponse<>(response.withSchedules(schedules), etag);
     }
 
     @Transactional
@@ -125,6 +172,7 @@ public class EventService {
             throw new IllegalArgumentException("해당 이벤트에 대한 권한이 없습니다");
         }
 
+        eventPageCache.evictAfterCommit(event.getEventCode());
         event.updateBasicInfo(
                 request.getTitle(),
                 request.getLocation(),
@@ -138,7 +186,12 @@ public class EventService {
                     .forEach(event::addImage);
         }
 
+        List<Long> replacedScheduleIds = event.getSchedules().stream()
+                .map(EventSchedule::getId)
+                .toList();
         event.clearSchedules();
+        seatInventory.evict(replacedScheduleIds);
+        formSchemaCache.evictAfterCommit(eventId, replacedScheduleIds);
         request.getSchedules().stream()
                 .map(scheduleReq -> EventSchedule.create(
                         scheduleReq.getStartTime(),
@@ -173,5 +226,6 @@ public class EventService {
         }
 
         event.updateVisibility(isPublic);
+        eventPageCache.evictAfterCommit(event.getEventCode());
     }
 }
@@ -0,0 +1,123 @@
+package com.example.reservation_solution.api.event.service;
+
+import com.example.reservation_solution.api.event.domain.FormQuestion;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 이벤트 예약 폼의 불변 스키마 (예약 검증 전용)
+ * - 질문 ID → 질문 순번을 박싱 없는 open addressing 배열로 찾는다.
+ * - 필수 여부와 "답변을 반드시 받아야 하는 질문"(필수이면서 이름·전화번호 같은 기본 정보가 아닌 질문)을 BitSet으로 미리 계산한다.
+ * - 기본 정보 질문 판별(소문자 변환·공백 제거)은 생성 시 한 번만 수행한다.
+ */
+public final class FormSchema {
+
+    private static final long EMPTY_SLOT = Long.MIN_VALUE;
+    private static final FormSchema EMPTY = new FormSchema(List.of());
+
+    private final long[] questionIds;
+    private final String[] questionTexts;
+    private final BitSet required;
+    private final BitSet mustAnswer;
+    private final long[] slotKeys;
+    private final int[] slotIndexes;
+    private final int slotMask;
+
+    private FormSchema(List<FormQuestion> questions) {
+        int size = questions.size();
+        this.questionIds = new long[size];
+        this.questionTexts = new String[size];
+        this.required = new BitSet(size);
+        this.mustAnswer = new BitSet(size);
+        // 적재율 50% 이하가 되도록 2의 거듭제곱 크기로 잡는다.
+        int capacity = Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+        this.slotKeys = new long[capacity];
+        this.slotIndexes = new int[capacity];
+        this.slotMask = capacity - 1;
+        Arrays.fill(slotKeys, EMPTY_SLOT);
+
+        for (int i = 0; i < size; i++) {
+            FormQuestion question = questions.get(i);
+            questionIds[i] = question.getId();
+            questionTexts[i] = question.getQuestionText();
+            if (Boolean.TRUE.equals(question.getIsRequired())) {
+                required.set(i);
+                if (!isBuiltInQuestion(question.getQuestionText())) {
+                    mustAnswer.set(i);
+                }
+            }
+            int slot = slotOf(questionIds[i]);
+            while (slotKeys[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & slotMask;
+            }
+            slotKeys[slot] = questionIds[i];
+            slotIndexes[slot] = i;
+        }
+    }
+
+    public static FormSchema of(List<FormQuestion> questions) {
+        return questions.isEmpty() ? EMPTY : new FormSchema(questions);
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    /**
+     * @return 질문 순번, 이 이벤트의 질문이 아니면 -1
+     */
+    public int indexOf(Long questionId) {
+        if (questionId == null || questionId == EMPTY_SLOT) {
+            return -1;
+        }
+        long id = questionId;
+        int slot = slotOf(id);
+        while (slotKeys[slot] != EMPTY_SLOT) {
+            if (slotKeys[slot] == id) {
+                return slotIndexes[slot];
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return -1;
+    }
+
+    public long questionId(int index) {
+        return questionIds[index];
+    }
+
+    public String questionText(int index) {
+        return questionTexts[index];
+    }
+
+    public boolean isRequired(int index) {
+        return required.get(index);
+    }
+
+    /**
+     * @param answered 답변한 질문 순번 (null이면 답변 없음)
+     * @return 답변하지 않은 첫 필수 질문의 순번, 모두 답변했으면 -1
+     */
+    public int firstUnanswered(BitSet answered) {
+        for (int i = mustAnswer.nextSetBit(0); i >= 0; i = mustAnswer.nextSetBit(i + 1)) {
+            if (answered == null || !answered.get(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & slotMask;
+    }
+
+    private static boolean isBuiltInQuestion(String questionText) {
+        String normalized = questionText.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+        return normalized.contains("이름") || normalized.contains("name") ||
+               normalized.contains("전화") || normalized.contains("연락처") ||
+               normalized.contains("핸드폰") || normalized.contains("phone");
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.reservation_solution.api.event.service;
+
+import com.example.reservation_solution.api.event.repository.EventScheduleRepository;
+import com.example.reservation_solution.api.event.repository.FormQuestionRepository;
+import com.example.reservation_solution.global.util.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트별 예약 폼 스키마(FormSchema) 캐시
+ * - 예약 요청은 스케줄 ID만 가지므로 스케줄 → 이벤트 ID 매핑도 함께 보관한다.
+ * - 이벤트 수정으로 질문·스케줄이 교체되면 커밋 후 해당 이벤트의 스키마와 교체된 스케줄 매핑을 제거한다.
+ *   제거는 수정한 노드에서만 일어나므로, 다른 노드의 스키마는 expire-after-write-seconds가 지나면 다시 적재한다.
+ *   그 사이 삭제된 질문에 대한 답변은 예약 트랜잭션에서 DB로 한 번 더 확인해 해당 요청만 거절한다. (ReservationService)
+ * - 스케줄 → 이벤트 매핑은 바뀌지 않으므로(교체된 스케줄은 새 ID를 받는다) 크기만 제한한다.
+ * - 적중/미적중 수는 cache.gets{cache="formSchema"} 지표로 노출된다.
+ */
+@Component
+public class FormSchemaCache {
+
+    private static final String CACHE_NAME = "formSchema";
+
+    private final EventScheduleRepository eventScheduleRepository;
+    private final FormQuestionRepository formQuestionRepository;
+    private final AsyncCache<Long, Long> eventIdsBySchedule;
+    private final AsyncCache<Long, FormSchema> schemasByEvent;
+
+    public FormSchemaCache(EventScheduleRepository eventScheduleRepository,
+                           FormQuestionRepository formQuestionRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${event.form-schema-cache.max-size:10000}") long maxSize,
+                           @Value("${event.form-schema-cache.expire-after-write-seconds:60}") long expireSeconds) {
+        this.eventScheduleRepository = eventScheduleRepository;
+        this.formQuestionRepository = formQuestionRepository;
+        this.eventIdsBySchedule = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .buildAsync();
+        this.schemasByEvent = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, schemasByEvent, CACHE_NAME);
+    }
+
+    public FormSchema getByScheduleId(Long scheduleId) {
+        // 조회는 캐시 내부 잠금 밖에서 한다. (CacheLoads)
+        Long eventId = CacheLoads.getOrLoad(eventIdsBySchedule, scheduleId, id -> eventScheduleRepository.findEventIdById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 스케줄입니다.")));
+        return CacheLoads.getOrLoad(schemasByEvent, eventId, id -> FormSchema.of(formQuestionRepository.findByEventIdOrderById(id)));
+    }
+
+    /**
+     * 예약 트랜잭션이 캐시된 스키마와 DB 질문이 어긋난 것을 발견했을 때 호출한다.
+     */
+    public void evict(Long eventId) {
+        schemasByEvent.synchronous().invalidate(eventId);
+    }
+
+    public void evictAfterCommit(Long eventId, Collection<Long> replacedScheduleIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(eventId, replacedScheduleIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(eventId, replacedScheduleIds);
+            }
+        });
+    }
+
+    private void evict(Long eventId, Collection<Long> replacedScheduleIds) {
+        schemasByEvent.synchronous().invalidate(eventId);
+        eventIdsBySchedule.synchronous().invalidateAll(replacedScheduleIds);
+    }
+}
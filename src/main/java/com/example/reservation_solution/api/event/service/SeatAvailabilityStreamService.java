@@ -0,0 +1,201 @@
+package com.example.reservation_solution.api.event.service;
+
+import com.example.reservation_solution.api.event.dto.ScheduleResponse;
+import com.example.reservation_solution.api.event.dto.SeatAvailabilityResponse;
+import com.example.reservation_solution.api.reservation.service.SeatInventory;
+import com.example.reservation_solution.global.sse.SseDispatcher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * 이벤트별 잔여 좌석 SSE 스트림
+ * - 구독자마다 스레드를 두지 않고 비동기 SseEmitter만 보관하며, 발행 스레드 하나가 interval마다 모든 이벤트를 확인한다.
+ *   실제 전송은 SseDispatcher에 맡기므로 느린 구독자가 발행 스레드나 다른 이벤트의 발행을 막지 않는다.
+ * - 잔여 좌석은 SeatInventory 메모리 카운터, 스케줄 목록은 EventPageCache에서 읽는다.
+ *   스케줄을 처음 적재하거나 캐시가 만료되었을 때, 그리고 SeatInventory가 resync-interval-millis마다 재적재할 때만 DB를 조회한다.
+ *   발행 스레드는 peekAvailableSeats로 읽으므로 재적재를 기다리지 않으며, 아직 적재되지 않은 스케줄은 캐시된 예약 수로 보낸다.
+ * - 카운터는 노드별 값이므로 다른 노드에서 생긴 예약·취소는 최대 resync-interval-millis + interval만큼 늦게 전송된다.
+ * - 이벤트당 한 번만 직렬화하고, 구독자마다 마지막으로 전달된 내용과 다를 때만 보낸다.
+ *   이전 전송이 끝나지 않아 건너뛴 구독자는 다음 주기에 최신 내용을 받는다.
+ * - 변화가 없어도 heartbeat 주기마다 주석 이벤트를 보내 프록시가 연결을 끊지 않게 한다.
+ * - 공개 이벤트만 구독할 수 있으며, 비공개로 바뀌거나 삭제되면 스트림을 종료한다.
+ */
+@Slf4j
+@Service
+public class SeatAvailabilityStreamService {
+
+    private static final long SSE_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+    private static final String EVENT_NAME = "availability";
+
+    private final EventPageCache eventPageCache;
+    private final SeatInventory seatInventory;
+    private final ObjectMapper objectMapper;
+    private final SseDispatcher sseDispatcher;
+    private final long intervalMillis;
+    private final long heartbeatMillis;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-availability-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SeatAvailabilityStreamService(EventPageCache eventPageCache,
+                                         SeatInventory seatInventory,
+                                         ObjectMapper objectMapper,
+                                         SseDispatcher sseDispatcher,
+                                         @Value("${event.availability-stream.interval-millis:1000}") long intervalMillis,
+                                         @Value("${event.availability-stream.heartbeat-millis:15000}") long heartbeatMillis) {
+        this.eventPageCache = eventPageCache;
+        this.seatInventory = seatInventory;
+        this.objectMapper = objectMapper;
+        this.sseDispatcher = sseDispatcher;
+        this.intervalMillis = intervalMillis;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        publisher.scheduleWithFixedDelay(this::publishAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+        channels.values().forEach(channel -> channel.emitters.keySet().forEach(SseEmitter::complete));
+    }
+
+    public SseEmitter subscribe(String eventCode) {
+        EventPageCache.CachedEvent cached = eventPageCache.get(eventCode);
+        if (!cached.isPublic()) {
+            throw new AccessDeniedException("비공개된 이벤트입니다");
+        }
+
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        // 첫 이벤트는 아직 발행 대상이 아니므로 요청 스레드에서 직접 보낸다.
+        String payload = serialize(snapshot(eventCode, cached,
+                schedule -> seatInventory.getAvailableSeats(schedule.getId())));
+        try {
+            emitter.send(availability(payload));
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        // 빈 채널 정리(publishAll)와 경합하지 않도록 채널 생성과 구독자 추가를 한 번의 compute로 처리한다.
+        Channel channel = channels.compute(eventCode, (code, existing) -> {
+            Channel target = existing != null ? existing : new Channel();
+            target.emitters.put(emitter, payload);
+            return target;
+        });
+        emitter.onCompletion(() -> channel.emitters.remove(emitter));
+        emitter.onTimeout(() -> channel.emitters.remove(emitter));
+        emitter.onError(e -> channel.emitters.remove(emitter));
+        return emitter;
+    }
+
+    private void publishAll() {
+        channels.forEach((eventCode, channel) -> {
+            try {
+                publish(eventCode, channel);
+            } catch (RuntimeException e) {
+                log.warn("잔여 좌석 스트림 종료: eventCode={}, reason={}", eventCode, e.getMessage());
+                close(eventCode, channel);
+            }
+        });
+        channels.keySet().forEach(eventCode ->
+                channels.computeIfPresent(eventCode, (code, channel) -> channel.emitters.isEmpty() ? null : channel));
+    }
+
+    private void publish(String eventCode, Channel channel) {
+        if (channel.emitters.isEmpty()) {
+            return;
+        }
+        EventPageCache.CachedEvent cached = eventPageCache.get(eventCode);
+        if (!cached.isPublic()) {
+            close(eventCode, channel);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String payload = serialize(snapshot(eventCode, cached, this::peekAvailableSeats));
+        boolean changed = !payload.equals(channel.lastPayload);
+        boolean heartbeat = !changed && now - channel.lastSentAt >= heartbeatMillis;
+        if (changed || heartbeat) {
+            channel.lastPayload = payload;
+            channel.lastSentAt = now;
+        }
+        channel.emitters.forEach((emitter, deliveredPayload) -> {
+            if (!payload.equals(deliveredPayload)) {
+                dispatch(channel, emitter, availability(payload), payload);
+            } else if (heartbeat) {
+                dispatch(channel, emitter, SseEmitter.event().comment("heartbeat"), payload);
+            }
+        });
+    }
+
+    private void dispatch(Channel channel, SseEmitter emitter, SseEmitter.SseEventBuilder event, String payload) {
+        sseDispatcher.send(emitter, event,
+                () -> channel.emitters.replace(emitter, payload),
+                () -> channel.emitters.remove(emitter));
+    }
+
+    private SeatAvailabilityResponse snapshot(String eventCode, EventPageCache.CachedEvent cached,
+                                              ToIntFunction<ScheduleResponse> availableSeats) {
+        List<SeatAvailabilityResponse.ScheduleAvailability> schedules = cached.response().getSchedules().stream()
+                .map(schedule -> new SeatAvailabilityResponse.ScheduleAvailability(
+                        schedule.getId(),
+                        schedule.getMaxCapacity(),
+                        Math.max(0, Math.min(availableSeats.applyAsInt(schedule), schedule.getMaxCapacity()))))
+                .toList();
+        return new SeatAvailabilityResponse(eventCode, schedules);
+    }
+
+    private int peekAvailableSeats(ScheduleResponse schedule) {
+        return seatInventory.peekAvailableSeats(schedule.getId())
+                .orElse(schedule.getMaxCapacity() - schedule.getReservedCount());
+    }
+
+    private String serialize(SeatAvailabilityResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("잔여 좌석 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder availability(String payload) {
+        // SseEventBuilder는 전송할 때 내부 상태가 바뀌므로 구독자마다 새로 만든다.
+        return SseEmitter.event().name(EVENT_NAME).data(payload, MediaType.APPLICATION_JSON);
+    }
+
+    private void close(String eventCode, Channel channel) {
+        channels.remove(eventCode, channel);
+        channel.emitters.keySet().forEach(SseEmitter::complete);
+    }
+
+    private static final class Channel {
+
+        // 구독자별로 마지막으로 전달된 잔여 좌석 JSON
+        private final Map<SseEmitter, String> emitters = new ConcurrentHashMap<>();
+        private volatile String lastPayload;
+        private volatile long lastSentAt;
+    }
+}
@@ -6,8 +6,10 @@ import com.example.reservation_solution.api.host.dto.*;
 import com.example.reservation_solution.api.auth.dto.*;
 import com.example.reservation_solution.global.docs.*;
 import com.example.reservation_solution.global.security.HostUserDetails;
+import com.example.reservation_solution.api.host.service.GateCheckinService;
 import com.example.reservation_solution.api.host.service.HostReservationFacade;
 import com.example.reservation_solution.api.host.service.HostReservationService;
+import com.example.reservation_solution.api.host.service.ReservationExportService;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -16,9 +18,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -31,6 +37,8 @@ public class HostReservationController {
 
     private final HostReservationService hostReservationService;
     private final HostReservationFacade hostReservationFacade;
+    private final ReservationExportService reservationExportService;
+    private final GateCheckinService gateCheckinService;
 
     @GetDashboardDocs
     @GetMapping("/events/{eventId}/dashboard")
@@ -55,6 +63,22 @@ public class HostReservationController {
         return ResponseEntity.ok(response);
     }
 
+    @GetReservationListByCursorDocs
+    @GetMapping("/events/{eventId}/reservations/cursor")
+    public ResponseEntity<ReservationCursorResponse> getReservationListByCursor(
+            @PathVariable Long eventId,
+            @Parameter(description = "특정 스케줄로 필터링 (선택사항)") @RequestParam(required = false) Long scheduleId,
+            @Parameter(description = "이름 또는 전화번호로 검색 (선택사항)") @RequestParam(required = false) String searchKeyword,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 건수 (최대 100)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "첫 조회 시 전체 건수 계산 여부") @RequestParam(defaultValue = "false") boolean includeCount,
+            @AuthenticationPrincipal HostUserDetails userDetails) {
+        String email = userDetails.getUsername();
+        ReservationCursorResponse response = hostReservationService.getReservationListByCursor(
+                eventId, scheduleId, searchKeyword, cursor, size, includeCount, email);
+        return ResponseEntity.ok(response);
+    }
+
     @GetReservationDetailDocs
     @GetMapping("/reservations/{reservationId}")
     public ResponseEntity<ReservationResponse> getReservationDetail(
@@ -85,6 +109,48 @@ public class HostReservationController {
         return ResponseEntity.ok(response);
     }
 
+    @BulkCheckinDocs
+    @PostMapping("/events/{eventId}/checkin/bulk")
+    public ResponseEntity<BulkCheckinResponse> bulkCheckin(
+            @PathVariable Long eventId,
+            @RequestBody BulkCheckinRequest request,
+            @AuthenticationPrincipal HostUserDetails userDetails) {
+        String email = userDetails.getUsername();
+        BulkCheckinResponse response = hostReservationService.bulkCheckin(eventId, request, email);
+        return ResponseEntity.ok(response);
+    }
+
+    @OpenGateDocs
+    @PostMapping("/events/{eventId}/gate")
+    public ResponseEntity<GateStatusResponse> openGate(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal HostUserDetails userDetails) {
+        String email = userDetails.getUsername();
+        GateStatusResponse response = gateCheckinService.open(eventId, email);
+        return ResponseEntity.ok(response);
+    }
+
+    @CloseGateDocs
+    @DeleteMapping("/events/{eventId}/gate")
+    public ResponseEntity<GateStatusResponse> closeGate(
+            @PathVariable Long eventId,
+            @AuthenticationPrincipal HostUserDetails userDetails) {
+        String email = userDetails.getUsername();
+        GateStatusResponse response = gateCheckinService.close(eventId, email);
+        return ResponseEntity.ok(response);
+    }
+
+    @GateCheckinDocs
+    @PostMapping("/events/{eventId}/gate/checkin")
+    public ResponseEntity<CheckinResponse> gateCheckin(
+            @PathVariable Long eventId,
+            @RequestBody CheckinRequest request,
+            @AuthenticationPrincipal HostUserDetails userDetails) {
+        String email = userDetails.getUsername();
+        CheckinResponse response = gateCheckinService.checkin(eventId, request, email);
+        return ResponseEntity.ok(response);
+    }
+
     @ManualCheckinDocs
     @PatchMapping("/reservations/{reservationId}/checkin")
     public ResponseEntity<CheckinResponse> manualCheckin(
@@ -104,4 +170,40 @@ public class HostReservationController {
         List<ScheduleStatusResponse> response = hostReservationService.getScheduleStatus(eventId, email);
         return ResponseEntity.ok(response);
     }
+
+    @GetScheduleReservationsDocs
+    @GetMapping("/events/{eventId}/schedules-status/{scheduleId}/reservations")
+    public ResponseEntity<ScheduleReservationsResponse> getScheduleReservations(
+            @PathVariable Long eventId,
+            @PathVariable Long scheduleId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) Long lastSeenId,
+            @Parameter(description = "조회 건수 (최대 500)") @RequestParam(defaultValue = "100") int size,
+            @AuthenticationPrincipal HostUserDetails userDetails) {
+        String email = userDetails.getUsername();
+        ScheduleReservationsResponse response = hostReservationService.getScheduleReservations(
+                eventId, scheduleId, lastSeenId, size, email);
+        return ResponseEntity.ok(response);
+    }
+
+    @ExportReservationsDocs
+    @GetMapping("/events/{eventId}/reservations/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @PathVariable Long eventId,
+            @Parameter(description = "특정 스케줄만 내보내기 (선택사항)") @RequestParam(required = false) Long scheduleId,
+            @Parameter(description = "파일 형식 (CSV, JSONL)") @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @AuthenticationPrincipal HostUserDetails userDetails) {
+        String email = userDetails.getUsername();
+        // 권한 검증은 응답 스트리밍이 시작되기 전에 끝내 오류를 일반 에러 응답으로 돌려준다.
+        List<Long> scheduleIds = hostReservationService.getExportScheduleIds(eventId, scheduleId, email);
+        StreamingResponseBody body = outputStream ->
+                reservationExportService.export(eventId, scheduleIds, format, outputStream);
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("reservations-" + eventId + "." + format.getExtension())
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .body(body);
+    }
 }
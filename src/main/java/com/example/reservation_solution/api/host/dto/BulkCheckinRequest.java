@@ -0,0 +1,6 @@
+package com.example.reservation_solution.api.host.dto;
+
+import java.util.List;
+
+public record BulkCheckinRequest(List<CheckinScan> scans) {
+}
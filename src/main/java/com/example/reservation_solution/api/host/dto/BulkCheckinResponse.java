@@ -0,0 +1,10 @@
+package com.example.reservation_solution.api.host.dto;
+
+import java.util.List;
+
+public record BulkCheckinResponse(
+    int requested,
+    int checkedIn,
+    List<BulkCheckinResult> results
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.reservation_solution.api.host.dto;
+
+import java.time.LocalDateTime;
+
+public record BulkCheckinResult(
+    String qrToken,
+    LocalDateTime scannedAt,
+    BulkCheckinStatus status,
+    String guestName,
+    Integer ticketCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.reservation_solution.api.host.dto;
+
+public enum BulkCheckinStatus {
+    CHECKED_IN,
+    ALREADY_CHECKED_IN,
+    CANCELLED,
+    NOT_FOUND,
+    OTHER_EVENT,
+    DUPLICATE
+}
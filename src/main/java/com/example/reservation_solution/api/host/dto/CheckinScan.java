@@ -0,0 +1,12 @@
+package com.example.reservation_solution.api.host.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게이트 기기에서 스캔한 QR 토큰과 스캔 시각 (오프라인 중 쌓인 스캔을 재전송할 때 사용)
+ */
+public record CheckinScan(
+    String qrToken,
+    LocalDateTime scannedAt
+) {
+}
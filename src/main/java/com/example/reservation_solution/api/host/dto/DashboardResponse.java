@@ -5,6 +5,7 @@ public record DashboardResponse(
     Integer reservedCount,
     Double reservationRate,
     Integer checkedInCount,
-    Integer availableSeats
+    Integer availableSeats,
+    Integer cancelledCount
 ) {
 }
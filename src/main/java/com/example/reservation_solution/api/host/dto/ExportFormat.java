@@ -0,0 +1,14 @@
+package com.example.reservation_solution.api.host.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    JSONL("application/x-ndjson; charset=UTF-8", "jsonl");
+
+    private final String contentType;
+    private final String extension;
+}
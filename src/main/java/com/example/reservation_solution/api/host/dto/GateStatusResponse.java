@@ -0,0 +1,9 @@
+package com.example.reservation_solution.api.host.dto;
+
+public record GateStatusResponse(
+    Long eventId,
+    boolean open,
+    int reservationCount,
+    int pendingCheckins
+) {
+}
@@ -0,0 +1,37 @@
+package com.example.reservation_solution.api.host.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 예약자 목록 키셋 페이지네이션 커서. 클라이언트에는 base64url 문자열로만 노출한다.
+ * @param lastSeenId 이전 구간의 마지막 예약 ID
+ * @param totalElements 첫 구간에서 계산한 전체 건수 (요청하지 않았으면 null). 다음 구간에서 COUNT를 다시 실행하지 않는다.
+ */
+public record ReservationCursor(
+    Long lastSeenId,
+    Long totalElements
+) {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = ":";
+
+    public String encode() {
+        String raw = VERSION + DELIMITER + lastSeenId + DELIMITER + (totalElements == null ? "" : totalElements);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ReservationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            Long totalElements = parts[2].isEmpty() ? null : Long.parseLong(parts[2]);
+            return new ReservationCursor(Long.parseLong(parts[1]), totalElements);
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException, 잘못된 base64 입력 모두 IllegalArgumentException 계열이다.
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
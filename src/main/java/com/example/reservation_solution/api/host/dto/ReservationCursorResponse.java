@@ -0,0 +1,17 @@
+package com.example.reservation_solution.api.host.dto;
+
+import com.example.reservation_solution.api.reservation.dto.ReservationListResponse;
+
+import java.util.List;
+
+/**
+ * 예약자 목록의 한 구간 (키셋 페이지네이션)
+ * @param nextCursor 다음 구간 조회 시 cursor로 전달할 값 (마지막 구간이면 null)
+ * @param totalElements 전체 건수 (includeCount=false로 시작했으면 null)
+ */
+public record ReservationCursorResponse(
+    List<ReservationListResponse> content,
+    String nextCursor,
+    Long totalElements
+) {
+}
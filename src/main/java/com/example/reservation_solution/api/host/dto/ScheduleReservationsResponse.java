@@ -0,0 +1,14 @@
+package com.example.reservation_solution.api.host.dto;
+
+import java.util.List;
+
+/**
+ * 스케줄 예약자 목록의 한 구간
+ * @param nextCursor 다음 구간 조회 시 lastSeenId로 전달할 값 (마지막 구간이면 null)
+ */
+public record ScheduleReservationsResponse(
+    Long scheduleId,
+    List<SimpleReservationDto> reservations,
+    Long nextCursor
+) {
+}
@@ -1,6 +1,7 @@
 package com.example.reservation_solution.api.host.dto;
 
 import com.example.reservation_solution.api.reservation.domain.Reservation;
+import com.example.reservation_solution.api.reservation.dto.ReservationSummary;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -13,13 +14,26 @@ public class SimpleReservationDto {
     private Integer ticketCount;
     private Boolean isCheckedIn;
 
-    public static SimpleReservationDto from(Reservation reservation) {
+    /**
+     * @param guestPhoneNumber 복호화된 전화번호 (목록 단위로 EncryptionUtils.decryptAll 사용)
+     */
+    public static SimpleReservationDto from(Reservation reservation, String guestPhoneNumber) {
         return new SimpleReservationDto(
                 reservation.getId(),
                 reservation.getGuestName(),
-                reservation.getGuestPhoneNumber(),
+                guestPhoneNumber,
                 reservation.getTicketCount(),
                 reservation.getIsCheckedIn()
         );
     }
+
+    public static SimpleReservationDto from(ReservationSummary summary, String guestPhoneNumber) {
+        return new SimpleReservationDto(
+                summary.id(),
+                summary.guestName(),
+                guestPhoneNumber,
+                summary.ticketCount(),
+                summary.isCheckedIn()
+        );
+    }
 }
@@ -0,0 +1,248 @@
+package com.example.reservation_solution.api.host.service;
+
+import com.example.reservation_solution.api.host.dto.CheckinRequest;
+import com.example.reservation_solution.api.host.dto.CheckinResponse;
+import com.example.reservation_solution.api.host.dto.GateStatusResponse;
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import com.example.reservation_solution.api.reservation.dto.CheckinTarget;
+import com.example.reservation_solution.api.reservation.dto.GateEntry;
+import com.example.reservation_solution.api.reservation.service.GateIndexRegistry;
+import com.example.reservation_solution.api.reservation.service.GateQrIndex;
+import com.example.reservation_solution.api.reservation.service.QrTokenCodec;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게이트 모드 체크인
+ * - 호스트가 입장을 시작할 때 이벤트의 모든 예약을 GateQrIndex로 적재하고, 이후 스캔은 DB 없이 메모리에서 검증한다.
+ *   소유권도 적재 시 한 번 확인한 호스트 이메일과 비교한다.
+ * - 체크인 결과는 대기열에 쌓아 두고 flush 스레드 하나가 interval마다 최대 batch-size건씩 한 트랜잭션으로 반영한다.
+ *   반영에 실패하면 간격을 두 배씩 늘려(최대 MAX_RETRY_BACKOFF_MILLIS) 다시 시도하고, 실패한 건은 한 건씩 따로 반영해
+ *   한 건의 오류가 다른 체크인을 막지 않게 한다. max-flush-attempts번 실패한 건은 예약 ID를 ERROR로 남기고 버린다.
+ * - 인덱스에 없는 토큰(게이트를 연 뒤 생성된 예약)은 DB에서 한 번 조회해 인덱스에 추가한다.
+ * - 인덱스는 노드 메모리에 있으므로, 다중 노드에서는 같은 이벤트의 스캔을 한 노드로 보내야 한다.
+ * - 대기열도 노드 메모리에 있으므로 DB 반영은 최대 한 번(at-most-once)이다. 입장 응답 후 반영 전에 노드가 죽으면
+ *   그 사이(보통 flush-interval 이내, 재시도 중이면 더 길게)의 체크인은 DB에 남지 않고, 같은 QR을 다시 스캔하면 입장된다.
+ */
+@Slf4j
+@Service
+public class GateCheckinService {
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 30_000;
+
+    private final HostReservationService hostReservationService;
+    private final GateIndexRegistry gateIndexRegistry;
+    private final QrTokenCodec qrTokenCodec;
+    private final long flushIntervalMillis;
+    private final int flushBatchSize;
+    private final int maxFlushAttempts;
+
+    private final Queue<PendingCheckin> pendingCheckins = new ConcurrentLinkedQueue<>();
+    // flush와 게이트 재적재를 직렬화한다. 블로킹 I/O를 synchronized 안에서 하면 가상 스레드가 캐리어에 고정되므로 ReentrantLock을 쓴다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private int consecutiveFailures;
+    private long retryNotBefore;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gate-checkin-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GateCheckinService(HostReservationService hostReservationService,
+                              GateIndexRegistry gateIndexRegistry,
+                              QrTokenCodec qrTokenCodec,
+                              MeterRegistry meterRegistry,
+                              @Value("${host.gate.flush-interval-millis:200}") long flushIntervalMillis,
+                              @Value("${host.gate.flush-batch-size:500}") int flushBatchSize,
+                              @Value("${host.gate.max-flush-attempts:10}") int maxFlushAttempts) {
+        this.hostReservationService = hostReservationService;
+        this.gateIndexRegistry = gateIndexRegistry;
+        this.qrTokenCodec = qrTokenCodec;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushBatchSize = flushBatchSize;
+        this.maxFlushAttempts = maxFlushAttempts;
+        Gauge.builder("gate.checkin.pending", pendingCheckins, Queue::size)
+                .description("DB에 아직 반영되지 않은 게이트 체크인 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flushScheduled, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        flush();
+    }
+
+    /**
+     * 게이트를 연다. 이미 열려 있으면 DB 기준으로 다시 적재한다.
+     * 남은 체크인을 먼저 반영한 뒤 적재하고, 반영에 실패해 대기열에 남은 체크인은 새 인덱스에 체크인 상태로 옮긴다.
+     * 적재하는 동안 flush를 막으므로, DB에도 대기열에도 없는 반영 중인 체크인은 생기지 않는다.
+     */
+    public GateStatusResponse open(Long eventId, String hostEmail) {
+        GateQrIndex index;
+        flushLock.lock();
+        try {
+            flushPending();
+            List<GateEntry> entries = hostReservationService.getGateEntries(eventId, hostEmail);
+            index = new GateQrIndex(eventId, hostEmail, entries);
+            gateIndexRegistry.register(index);
+            // 등록 전에 이전 인덱스로 체크인되어 대기열에 들어온 건까지 포함하도록 등록 후에 옮긴다.
+            // 확정 상태일 때만 바꾸므로 그사이 취소된 예약을 체크인 상태로 덮어쓰지 않는다.
+            pendingCheckins.forEach(pending -> index.checkIn(pending.qrToken()));
+        } finally {
+            flushLock.unlock();
+        }
+        log.info("게이트 모드 시작: eventId={}, reservations={}", eventId, index.size());
+        return new GateStatusResponse(eventId, true, index.size(), pendingCheckins.size());
+    }
+
+    public GateStatusResponse close(Long eventId, String hostEmail) {
+        GateQrIndex index = loadOwnedIndexOrThrow(eventId, hostEmail);
+        gateIndexRegistry.remove(eventId);
+        flush();
+        log.info("게이트 모드 종료: eventId={}", eventId);
+        return new GateStatusResponse(eventId, false, index.size(), pendingCheckins.size());
+    }
+
+    public CheckinResponse checkin(Long eventId, CheckinRequest request, String hostEmail) {
+        GateQrIndex index = loadOwnedIndexOrThrow(eventId, hostEmail);
+        // 형식이 틀리거나 서명이 맞지 않는 토큰은 인덱스·DB 조회 전에 거절된다.
+        QrToken qrToken = qrTokenCodec.resolve(request.qrToken());
+        GateQrIndex.CheckinResult result = index.checkIn(qrToken);
+        if (result == null) {
+            result = checkInAfterLoading(index, qrToken);
+        }
+        if (!result.admitted()) {
+            throw new IllegalStateException(result.state() == GateQrIndex.CANCELLED
+                    ? "취소된 예약은 체크인할 수 없습니다."
+                    : "이미 체크인이 완료된 예약입니다.");
+        }
+        pendingCheckins.add(new PendingCheckin(result.reservationId(), qrToken, 0));
+        return new CheckinResponse("입장 완료", result.guestName(), result.ticketCount());
+    }
+
+    private GateQrIndex.CheckinResult checkInAfterLoading(GateQrIndex index, QrToken qrToken) {
+        GateEntry entry = hostReservationService.findGateEntry(qrToken)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 QR 토큰입니다."));
+        if (!entry.eventId().equals(index.eventId())) {
+            throw new IllegalArgumentException("해당 이벤트의 QR 토큰이 아닙니다.");
+        }
+        index.add(entry);
+        return index.checkIn(qrToken);
+    }
+
+    private GateQrIndex loadOwnedIndexOrThrow(Long eventId, String hostEmail) {
+        GateQrIndex index = gateIndexRegistry.get(eventId);
+        if (index == null) {
+            throw new IllegalStateException("게이트 모드가 열려 있지 않은 이벤트입니다.");
+        }
+        if (!index.hostEmail().equals(hostEmail)) {
+            throw new IllegalArgumentException("해당 이벤트에 대한 권한이 없습니다.");
+        }
+        return index;
+    }
+
+    /**
+     * 열기·닫기·종료 시에는 재시도 대기와 관계없이 바로 반영한다.
+     */
+    private void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushScheduled() {
+        flushLock.lock();
+        try {
+            if (System.currentTimeMillis() >= retryNotBefore) {
+                flushPending();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        while (!pendingCheckins.isEmpty()) {
+            List<PendingCheckin> batch = pollBatch();
+            if (!apply(batch)) {
+                consecutiveFailures++;
+                long backoff = Math.min(MAX_RETRY_BACKOFF_MILLIS, flushIntervalMillis << Math.min(consecutiveFailures, 16));
+                retryNotBefore = System.currentTimeMillis() + backoff;
+                return;
+            }
+            consecutiveFailures = 0;
+        }
+    }
+
+    /**
+     * 반영에 실패한 적이 있는 건은 한 건씩 따로 반영한다. (flushLock 안에서만 호출되므로 peek 후 poll이 같은 건을 꺼낸다)
+     */
+    private List<PendingCheckin> pollBatch() {
+        List<PendingCheckin> batch = new ArrayList<>(flushBatchSize);
+        PendingCheckin next;
+        while (batch.size() < flushBatchSize && (next = pendingCheckins.peek()) != null) {
+            if (next.attempts() > 0 && !batch.isEmpty()) {
+                break;
+            }
+            batch.add(pendingCheckins.poll());
+            if (next.attempts() > 0) {
+                break;
+            }
+        }
+        return batch;
+    }
+
+    private boolean apply(List<PendingCheckin> batch) {
+        List<Long> reservationIds = batch.stream()
+                .map(PendingCheckin::reservationId)
+                .toList();
+        try {
+            List<CheckinTarget> applied = hostReservationService.checkInAll(reservationIds);
+            if (applied.size() < batch.size()) {
+                // 다른 노드나 게이트 밖에서 먼저 체크인·취소된 예약이다.
+                log.warn("게이트 체크인 일부 미반영: requested={}, applied={}", batch.size(), applied.size());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("게이트 체크인 반영 실패, 재시도 예정: size={}", batch.size(), e);
+            for (PendingCheckin pending : batch) {
+                int attempts = pending.attempts() + 1;
+                if (attempts >= maxFlushAttempts) {
+                    log.error("게이트 체크인 반영 포기 (수동 확인 필요): reservationId={}, attempts={}",
+                            pending.reservationId(), attempts);
+                } else {
+                    pendingCheckins.add(new PendingCheckin(pending.reservationId(), pending.qrToken(), attempts));
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @param attempts DB 반영에 실패한 횟수
+     */
+    private record PendingCheckin(long reservationId, QrToken qrToken, int attempts) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.reservation_solution.api.host.service;
 
+import com.example.reservation_solution.api.reservation.service.SeatInventory;
 import com.example.reservation_solution.global.exception.LockAcquisitionException;
 import com.example.reservation_solution.global.lock.LockExecutor;
 import com.example.reservation_solution.global.lock.LockKeyGenerator;
@@ -12,13 +13,15 @@ public class HostReservationFacade {
 
     private final HostReservationService hostReservationService;
     private final LockExecutor lockExecutor;
+    private final SeatInventory seatInventory;
 
     public void cancelReservation(Long reservationId, String hostEmail) {
         Long scheduleId = hostReservationService.getScheduleIdByReservationId(reservationId);
         String lockKey = LockKeyGenerator.schedule(scheduleId);
         try {
-            lockExecutor.executeWithLock(lockKey,
-                    () -> hostReservationService.cancelReservation(reservationId, hostEmail));
+            // 좌석 반환까지 락 안에서 해야 SeatInventory 재적재가 취소를 두 번 반영하지 않는다.
+            lockExecutor.executeWithLock(lockKey, () -> seatInventory.release(scheduleId,
+                    hostReservationService.cancelReservation(scheduleId, reservationId, hostEmail)));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw LockAcquisitionException.interrupted();
@@ -7,55 +7,126 @@ import com.example.reservation_solution.api.event.dto.*;
 import com.example.reservation_solution.api.reservation.dto.*;
 import com.example.reservation_solution.api.host.dto.*;
 import com.example.reservation_solution.api.auth.dto.*;
+import com.example.reservation_solution.global.exception.LockAcquisitionException;
+import com.example.reservation_solution.global.lock.FencingTokenHolder;
+import com.example.reservation_solution.global.util.BlindIndexUtils;
 import com.example.reservation_solution.global.util.EncryptionUtils;
 import com.example.reservation_solution.api.auth.repository.HostRepository;
 import com.example.reservation_solution.api.event.repository.*;
 import com.example.reservation_solution.api.reservation.repository.*;
+import com.example.reservation_solution.api.reservation.service.GateIndexRegistry;
+import com.example.reservation_solution.api.reservation.service.GateQrIndex;
+import com.example.reservation_solution.api.reservation.service.QrTokenCodec;
+import com.example.reservation_solution.api.reservation.service.ReservationEtagCache;
+import com.example.reservation_solution.api.reservation.service.ReservationSearchIndex;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class HostReservationService {
 
+    private static final int MAX_SCHEDULE_RESERVATIONS_SIZE = 500;
+    private static final int MAX_RESERVATION_CURSOR_SIZE = 100;
+    private static final int MAX_BULK_CHECKIN_SIZE = 500;
+
     private final EventRepository eventRepository;
     private final ReservationRepository reservationRepository;
     private final EventScheduleRepository eventScheduleRepository;
     private final HostRepository hostRepository;
     private final EncryptionUtils encryptionUtils;
-
+    private final BlindIndexUtils blindIndexUtils;
+    private final ReservationSearchIndex reservationSearchIndex;
+    private final ReservationEtagCache reservationEtagCache;
+    private final GateIndexRegistry gateIndexRegistry;
+    private final QrTokenCodec qrTokenCodec;
+
+    /**
+     * 스케줄별 집계 컬럼만 합산하므로 예약 행을 조회하지 않는다. (O(스케줄 수))
+     */
     public DashboardResponse getDashboardStats(Long eventId, String hostEmail) {
         Event event = validateHostOwnership(eventId, hostEmail);
+        List<EventSchedule> schedules = event.getSchedules();
 
-        int totalSeats = event.getSchedules().stream()
-                .mapToInt(EventSchedule::getMaxCapacity)
-                .sum();
-
-        int reservedCount = event.getSchedules().stream()
-                .mapToInt(EventSchedule::getReservedCount)
-                .sum();
+        int totalSeats = sum(schedules, EventSchedule::getMaxCapacity);
+        int reservedCount = sum(schedules, EventSchedule::getReservedCount);
+        int checkedInCount = sum(schedules, EventSchedule::getCheckedInCount);
+        int cancelledCount = sum(schedules, EventSchedule::getCancelledCount);
 
         double reservationRate = totalSeats > 0 ? (reservedCount * 100.0 / totalSeats) : 0.0;
+        int availableSeats = totalSeats - reservedCount;
+
+        return new DashboardResponse(totalSeats, reservedCount, reservationRate, checkedInCount, availableSeats, cancelledCount);
+    }
 
-        int checkedInCount = event.getSchedules().stream()
-                .flatMap(schedule -> reservationRepository.findByEventScheduleIdAndStatus(
-                                schedule.getId(), ReservationStatus.CONFIRMED).stream())
-                .filter(r -> r.getIsCheckedIn())
-                .mapToInt(Reservation::getTicketCount)
+    private int sum(List<EventSchedule> schedules, ToIntFunction<EventSchedule> counter) {
+        return schedules.stream()
+                .mapToInt(counter)
                 .sum();
+    }
 
-        int availableSeats = totalSeats - reservedCount;
+    public Page<ReservationListResponse> getReservationList(Long eventId, Long scheduleId, String searchKeyword, String hostEmail, Pageable pageable) {
+        Event event = validateHostOwnership(eventId, hostEmail);
+
+        if (scheduleId != null) {
+            validateScheduleBelongsToEvent(scheduleId, eventId);
+        }
+
+        List<Long> scheduleIds = (scheduleId == null)
+                ? event.getSchedules().stream().map(EventSchedule::getId).toList()
+                : null;
 
-        return new DashboardResponse(totalSeats, reservedCount, reservationRate, checkedInCount, availableSeats);
+        SearchKeyword keyword = parseSearchKeyword(searchKeyword);
+        Page<Reservation> reservations;
+        if (keyword.isPresent()) {
+            // 검색어가 있으면 LIKE 전체 스캔 대신 메모리 인덱스에서 ID를 찾고 현재 페이지만 PK로 조회한다.
+            List<Long> matchedIds = searchReservationIds(event, scheduleId, keyword);
+            int from = (int) Math.min(pageable.getOffset(), matchedIds.size());
+            int to = Math.min(from + pageable.getPageSize(), matchedIds.size());
+            reservations = new PageImpl<>(findAllInOrder(matchedIds.subList(from, to)), pageable, matchedIds.size());
+        } else {
+            reservations = reservationRepository.searchReservations(
+                    scheduleId, scheduleIds, null, null, null, pageable);
+        }
+
+        // 전화번호는 현재 페이지에 포함된 예약만 한 번에 복호화한다.
+        List<Reservation> content = reservations.getContent();
+        List<String> phoneNumbers = decryptPhoneNumbers(content);
+        List<ReservationListResponse> responses = IntStream.range(0, content.size())
+                .mapToObj(i -> ReservationListResponse.from(content.get(i), phoneNumbers.get(i)))
+                .toList();
+        return new PageImpl<>(responses, pageable, reservations.getTotalElements());
     }
 
-    public Page<ReservationListResponse> getReservationList(Long eventId, Long scheduleId, String searchKeyword, String hostEmail, Pageable pageable) {
+    /**
+     * 예약이 많은 이벤트용 키셋 페이지네이션. OFFSET 대신 커서의 마지막 예약 ID부터 읽으므로 깊은 구간도 일정한 비용이 든다.
+     * 전체 건수는 includeCount일 때 첫 구간에서만 계산하고 이후에는 커서에 담아 전달한다.
+     */
+    public ReservationCursorResponse getReservationListByCursor(Long eventId, Long scheduleId, String searchKeyword,
+                                                                String cursor, int size, boolean includeCount,
+                                                                String hostEmail) {
         Event event = validateHostOwnership(eventId, hostEmail);
 
         if (scheduleId != null) {
@@ -65,11 +136,81 @@ public class HostReservationService {
         List<Long> scheduleIds = (scheduleId == null)
                 ? event.getSchedules().stream().map(EventSchedule::getId).toList()
                 : null;
+        SearchKeyword keyword = parseSearchKeyword(searchKeyword);
+        ReservationCursor previous = cursor == null ? null : ReservationCursor.decode(cursor);
+        int limit = Math.min(Math.max(size, 1), MAX_RESERVATION_CURSOR_SIZE);
+
+        Long lastSeenId = previous == null ? null : previous.lastSeenId();
+        Long totalElements;
+        List<Reservation> reservations;
+        if (keyword.isPresent()) {
+            // 인덱스 검색 결과에 전체 건수가 포함되므로 COUNT를 따로 실행하지 않는다.
+            List<Long> matchedIds = searchReservationIds(event, scheduleId, keyword);
+            totalElements = (long) matchedIds.size();
+            List<Long> remaining = lastSeenId == null
+                    ? matchedIds
+                    : matchedIds.stream().filter(id -> id < lastSeenId).toList();
+            reservations = findAllInOrder(remaining.subList(0, Math.min(limit + 1, remaining.size())));
+        } else {
+            totalElements = previous != null
+                    ? previous.totalElements()
+                    : (includeCount ? reservationRepository.countReservations(scheduleId, scheduleIds, null, null, null) : null);
+            // 다음 구간 존재 여부를 알기 위해 한 건 더 조회한다.
+            reservations = reservationRepository.searchReservationsAfter(
+                    scheduleId, scheduleIds, null, null, null, lastSeenId, limit + 1);
+        }
+        boolean hasNext = reservations.size() > limit;
+        List<Reservation> content = hasNext ? reservations.subList(0, limit) : reservations;
+
+        List<String> phoneNumbers = decryptPhoneNumbers(content);
+        List<ReservationListResponse> responses = IntStream.range(0, content.size())
+                .mapToObj(i -> ReservationListResponse.from(content.get(i), phoneNumbers.get(i)))
+                .toList();
+        String nextCursor = hasNext
+                ? new ReservationCursor(content.get(content.size() - 1).getId(), totalElements).encode()
+                : null;
+        return new ReservationCursorResponse(responses, nextCursor, totalElements);
+    }
 
-        Page<Reservation> reservations = reservationRepository.searchReservations(
-                scheduleId, scheduleIds, searchKeyword, pageable);
+    private SearchKeyword parseSearchKeyword(String searchKeyword) {
+        String keyword = searchKeyword == null ? null : searchKeyword.trim();
+        String phoneHash = null;
+        String phoneSuffixHash = null;
+        if (keyword != null && blindIndexUtils.isFullPhoneNumber(keyword)) {
+            phoneHash = blindIndexUtils.phoneHash(keyword);
+        } else if (keyword != null && blindIndexUtils.isPhoneSuffix(keyword)) {
+            phoneSuffixHash = blindIndexUtils.suffixHash(keyword);
+        }
+        return new SearchKeyword(keyword, phoneHash, phoneSuffixHash);
+    }
+
+    private List<Long> searchReservationIds(Event event, Long scheduleId, SearchKeyword keyword) {
+        List<Long> scheduleIds = (scheduleId != null)
+                ? List.of(scheduleId)
+                : event.getSchedules().stream().map(EventSchedule::getId).toList();
+        return reservationSearchIndex.search(scheduleIds, keyword.text(), keyword.phoneHash(), keyword.phoneSuffixHash());
+    }
 
-        return reservations.map(ReservationListResponse::from);
+    /**
+     * PK로 조회한 뒤 ids 순서(예약 ID 내림차순)를 유지한다.
+     */
+    private List<Reservation> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Reservation> reservationsById = reservationRepository.findAllWithScheduleByIdIn(ids).stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+        return ids.stream()
+                .map(reservationsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private record SearchKeyword(String text, String phoneHash, String phoneSuffixHash) {
+
+        private boolean isPresent() {
+            return text != null && !text.isEmpty();
+        }
     }
 
     private void validateScheduleBelongsToEvent(Long scheduleId, Long eventId) {
@@ -93,12 +234,38 @@ public class HostReservationService {
     }
 
     @Transactional
-    public void cancelReservation(Long reservationId, String hostEmail) {
+    public int cancelReservation(Long scheduleId, Long reservationId, String hostEmail) {
+        fence(scheduleId);
         Reservation reservation = loadReservationOrThrow(reservationId);
         validateHostOwnership(reservation, hostEmail);
         reservation.cancel();
-        EventSchedule schedule = reservation.getEventSchedule();
-        schedule.decrementReservedCount(reservation.getTicketCount());
+        reservationEtagCache.evictAfterCommit(reservation.getQrToken());
+        gateIndexRegistry.updateStateAfterCommit(reservation.getQrToken(), GateQrIndex.CANCELLED);
+        decreaseReservedCount(reservation.getEventSchedule().getId(), reservation.getTicketCount());
+        return reservation.getTicketCount();
+    }
+
+    /**
+     * 락 임대가 만료되어 다른 요청이 락을 가져갔다면 이 트랜잭션의 어떤 쓰기보다 먼저 거절한다.
+     * 펜스를 통과한 뒤에 예약을 읽어야 앞선 보유자가 커밋한 상태(이미 취소됨 등)를 본다.
+     */
+    private void fence(Long scheduleId) {
+        Long fencingToken = FencingTokenHolder.current().orElse(null);
+        if (fencingToken != null && eventScheduleRepository.fence(scheduleId, fencingToken) == 0) {
+            throw LockAcquisitionException.leaseExpired();
+        }
+    }
+
+    private void decreaseReservedCount(Long scheduleId, int ticketCount) {
+        Long fencingToken = FencingTokenHolder.current().orElse(null);
+        int updated = eventScheduleRepository.decreaseReservedCount(scheduleId, ticketCount, fencingToken);
+        if (updated == 0) {
+            EventSchedule schedule = loadEventScheduleOrThrow(scheduleId);
+            if (fencingToken != null && schedule.getFencingToken() != null && schedule.getFencingToken() > fencingToken) {
+                throw LockAcquisitionException.leaseExpired();
+            }
+            throw new IllegalStateException("예약 카운트가 음수가 될 수 없습니다.");
+        }
     }
 
     @Transactional
@@ -113,9 +280,19 @@ public class HostReservationService {
         return performCheckin(reservation, hostEmail);
     }
 
+    /**
+     * 조회 시점의 상태로 먼저 거절하고, 실제 반영은 조건부 UPDATE로 한다.
+     * 같은 QR을 동시에 스캔해도 UPDATE에 성공한 한 건만 체크인 인원을 늘린다.
+     */
     private CheckinResponse performCheckin(Reservation reservation, String hostEmail) {
         validateHostOwnership(reservation, hostEmail);
-        reservation.checkIn();
+        reservation.validateCheckInPossible();
+        if (reservationRepository.checkIn(reservation.getId()) == 0) {
+            throw new IllegalStateException("이미 체크인이 완료되었거나 취소된 예약입니다.");
+        }
+        reservationEtagCache.evictAfterCommit(reservation.getQrToken());
+        gateIndexRegistry.updateStateAfterCommit(reservation.getQrToken(), GateQrIndex.CHECKED_IN);
+        eventScheduleRepository.increaseCheckedInCount(reservation.getEventSchedule().getId(), reservation.getTicketCount());
         return new CheckinResponse(
                 "입장 완료",
                 reservation.getGuestName(),
@@ -123,34 +300,240 @@ public class HostReservationService {
         );
     }
 
+    /**
+     * 예약 여러 건을 한 번의 UPDATE로 체크인하고, 스케줄별 체크인 인원을 스케줄 ID 순서로 반영한다.
+     * 이미 체크인되었거나 취소된 예약은 건너뛰며, 실제로 체크인된 예약만 반환한다.
+     */
+    @Transactional
+    public List<CheckinTarget> checkInAll(Collection<Long> reservationIds) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        List<CheckinTarget> targets = reservationRepository.findCheckinTargetsForUpdate(reservationIds);
+        applyCheckins(targets);
+        return targets;
+    }
+
+    /**
+     * 오프라인 게이트 기기가 재전송한 스캔을 한 트랜잭션으로 처리하고 토큰별 결과를 돌려준다.
+     * - 소유권은 이벤트 단위로 한 번만 확인하고, 예약 행은 QR 키 IN 조회 한 번으로 잠근다.
+     * - 같은 토큰이 여러 번 들어오면 가장 이른 스캔만 처리하고 나머지는 DUPLICATE로 응답한다.
+     * - 이벤트의 게이트 모드가 열려 있으면 체크인 전에 게이트 인덱스에서 먼저 선점한다. 게이트에서 입장했지만 아직 DB에
+     *   반영되지 않은 예약은 ALREADY_CHECKED_IN이 되고, 선점한 예약은 게이트에서도 다시 입장되지 않는다. (롤백 시 되돌림)
+     */
+    @Transactional
+    public BulkCheckinResponse bulkCheckin(Long eventId, BulkCheckinRequest request, String hostEmail) {
+        List<CheckinScan> scans = request.scans() == null ? List.of() : request.scans();
+        if (scans.isEmpty() || scans.size() > MAX_BULK_CHECKIN_SIZE) {
+            throw new IllegalArgumentException("일괄 체크인은 1건 이상 " + MAX_BULK_CHECKIN_SIZE + "건 이하로 요청해야 합니다.");
+        }
+        Event event = validateHostOwnership(eventId, hostEmail);
+        Set<Long> scheduleIds = event.getSchedules().stream()
+                .map(EventSchedule::getId)
+                .collect(Collectors.toSet());
+
+        BulkCheckinStatus[] statuses = new BulkCheckinStatus[scans.size()];
+        Map<QrToken, Integer> firstScans = new HashMap<>();
+        scanOrder(scans).forEach(index -> {
+            QrToken key = qrTokenCodec.resolveOrNull(scans.get(index).qrToken());
+            if (key == null) {
+                statuses[index] = BulkCheckinStatus.NOT_FOUND;
+            } else if (firstScans.putIfAbsent(key, index) != null) {
+                statuses[index] = BulkCheckinStatus.DUPLICATE;
+            }
+        });
+
+        Map<QrToken, CheckinCandidate> candidates = firstScans.isEmpty() ? Map.of()
+                : reservationRepository.findCheckinCandidatesForUpdate(firstScans.keySet()).stream()
+                .collect(Collectors.toMap(candidate -> QrToken.parse(candidate.qrToken()), Function.identity()));
+        CheckinCandidate[] matched = new CheckinCandidate[scans.size()];
+        List<CheckinTarget> targets = new ArrayList<>();
+        GateQrIndex gateIndex = gateIndexRegistry.get(eventId);
+        List<QrToken> claimed = new ArrayList<>();
+        if (gateIndex != null) {
+            gateIndexRegistry.revertOnRollback(gateIndex, claimed);
+        }
+        firstScans.forEach((key, index) -> {
+            CheckinCandidate candidate = candidates.get(key);
+            statuses[index] = bulkCheckinStatusOf(candidate, scheduleIds);
+            if (statuses[index] != BulkCheckinStatus.NOT_FOUND && statuses[index] != BulkCheckinStatus.OTHER_EVENT) {
+                matched[index] = candidate;
+            }
+            if (statuses[index] == BulkCheckinStatus.CHECKED_IN && gateIndex != null) {
+                statuses[index] = claimGateEntry(gateIndex, key, claimed);
+            }
+            if (statuses[index] == BulkCheckinStatus.CHECKED_IN) {
+                targets.add(candidate.toTarget());
+            }
+        });
+
+        applyCheckins(targets);
+        targets.forEach(target -> gateIndexRegistry.updateStateAfterCommit(target.qrToken(), GateQrIndex.CHECKED_IN));
+
+        List<BulkCheckinResult> results = IntStream.range(0, scans.size())
+                .mapToObj(i -> new BulkCheckinResult(
+                        scans.get(i).qrToken(),
+                        scans.get(i).scannedAt(),
+                        statuses[i],
+                        matched[i] == null ? null : matched[i].guestName(),
+                        matched[i] == null ? null : matched[i].ticketCount()))
+                .toList();
+        return new BulkCheckinResponse(scans.size(), targets.size(), results);
+    }
+
+    /**
+     * 스캔 시각 순서(시각이 없으면 뒤로, 같으면 요청 순서)의 인덱스
+     */
+    private List<Integer> scanOrder(List<CheckinScan> scans) {
+        return IntStream.range(0, scans.size())
+                .boxed()
+                .sorted(Comparator.comparing((Integer i) -> scans.get(i).scannedAt(),
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    /**
+     * DB 기준으로 체크인할 수 있는 예약을 게이트 인덱스에서도 선점한다. 인덱스에 없는 예약은 DB 결과를 따른다.
+     */
+    private BulkCheckinStatus claimGateEntry(GateQrIndex gateIndex, QrToken key, List<QrToken> claimed) {
+        GateQrIndex.CheckinResult result = gateIndex.checkIn(key);
+        if (result == null) {
+            return BulkCheckinStatus.CHECKED_IN;
+        }
+        if (result.admitted()) {
+            claimed.add(key);
+            return BulkCheckinStatus.CHECKED_IN;
+        }
+        return result.state() == GateQrIndex.CANCELLED
+                ? BulkCheckinStatus.CANCELLED
+                : BulkCheckinStatus.ALREADY_CHECKED_IN;
+    }
+
+    private BulkCheckinStatus bulkCheckinStatusOf(CheckinCandidate candidate, Set<Long> scheduleIds) {
+        if (candidate == null) {
+            return BulkCheckinStatus.NOT_FOUND;
+        }
+        if (!scheduleIds.contains(candidate.scheduleId())) {
+            return BulkCheckinStatus.OTHER_EVENT;
+        }
+        if (candidate.status() == ReservationStatus.CANCELLED) {
+            return BulkCheckinStatus.CANCELLED;
+        }
+        return Boolean.TRUE.equals(candidate.isCheckedIn())
+                ? BulkCheckinStatus.ALREADY_CHECKED_IN
+                : BulkCheckinStatus.CHECKED_IN;
+    }
+
+    /**
+     * 잠근 예약을 한 번의 UPDATE로 체크인하고, 스케줄별 체크인 인원을 스케줄 ID 순서로 반영한다.
+     * 대상 행은 잠금 조회로 확인했으므로 UPDATE 건수는 대상 수와 같아야 한다. 어긋나도 다시 시도해 달라질 것이 없으므로
+     * 예외 대신 경고를 남기고 커밋한다. (게이트 flush가 같은 배치를 무한히 재시도하지 않도록)
+     */
+    private void applyCheckins(List<CheckinTarget> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        int updated = reservationRepository.checkInAll(targets.stream()
+                .map(CheckinTarget::id)
+                .toList());
+        if (updated != targets.size()) {
+            log.warn("체크인 UPDATE 건수 불일치: targets={}, updated={}", targets.size(), updated);
+        }
+        targets.stream()
+                .collect(Collectors.groupingBy(CheckinTarget::scheduleId, TreeMap::new,
+                        Collectors.summingInt(CheckinTarget::ticketCount)))
+                .forEach(eventScheduleRepository::increaseCheckedInCount);
+        targets.forEach(target -> reservationEtagCache.evictAfterCommit(target.qrToken()));
+    }
+
+    /**
+     * 게이트 모드를 열 때 호출한다. 소유권을 확인한 뒤 이벤트의 모든 예약을 인덱스 적재용 컬럼만 조회한다.
+     */
+    public List<GateEntry> getGateEntries(Long eventId, String hostEmail) {
+        validateHostOwnership(eventId, hostEmail);
+        return reservationRepository.findGateEntriesByEventId(eventId);
+    }
+
+    public Optional<GateEntry> findGateEntry(QrToken qrToken) {
+        return reservationRepository.findGateEntryByQrKey(qrToken);
+    }
+
+    /**
+     * 모든 스케줄의 예약자를 필요한 컬럼만 한 번의 쿼리로 조회한다.
+     * 예약이 많은 이벤트는 getScheduleReservations로 스케줄별로 나누어 조회한다.
+     */
     public List<ScheduleStatusResponse> getScheduleStatus(Long eventId, String hostEmail) {
         Event event = validateHostOwnership(eventId, hostEmail);
+        List<Long> scheduleIds = event.getSchedules().stream()
+                .map(EventSchedule::getId)
+                .toList();
+
+        List<ReservationSummary> summaries = reservationRepository.findSummariesByScheduleIds(
+                scheduleIds, ReservationStatus.CONFIRMED);
+        List<String> phoneNumbers = encryptionUtils.decryptAll(summaries.stream()
+                .map(ReservationSummary::guestPhoneNumber)
+                .toList());
+        Map<Long, List<SimpleReservationDto>> reservationsBySchedule = IntStream.range(0, summaries.size())
+                .boxed()
+                .collect(Collectors.groupingBy(
+                        i -> summaries.get(i).scheduleId(),
+                        Collectors.mapping(i -> SimpleReservationDto.from(summaries.get(i), phoneNumbers.get(i)),
+                                Collectors.toList())));
 
         return event.getSchedules().stream()
-                .map(schedule -> {
-                    List<Reservation> reservations = reservationRepository
-                            .findByEventScheduleIdAndStatus(schedule.getId(), ReservationStatus.CONFIRMED);
-
-                    List<SimpleReservationDto> reservationDtos = reservations.stream()
-                            .map(SimpleReservationDto::from)
-                            .toList();
-
-                    int currentCount = reservations.stream()
-                            .mapToInt(Reservation::getTicketCount)
-                            .sum();
-
-                    return new ScheduleStatusResponse(
-                            schedule.getId(),
-                            schedule.getStartTime().toString(),
-                            schedule.getEndTime().toString(),
-                            schedule.getMaxCapacity(),
-                            currentCount,
-                            reservationDtos
-                    );
-                })
+                .map(schedule -> new ScheduleStatusResponse(
+                        schedule.getId(),
+                        schedule.getStartTime().toString(),
+                        schedule.getEndTime().toString(),
+                        schedule.getMaxCapacity(),
+                        schedule.getReservedCount(),
+                        reservationsBySchedule.getOrDefault(schedule.getId(), List.of())
+                ))
                 .toList();
     }
 
+    public ScheduleReservationsResponse getScheduleReservations(Long eventId, Long scheduleId, Long lastSeenId,
+                                                                int size, String hostEmail) {
+        validateHostOwnership(eventId, hostEmail);
+        validateScheduleBelongsToEvent(scheduleId, eventId);
+        int limit = Math.min(Math.max(size, 1), MAX_SCHEDULE_RESERVATIONS_SIZE);
+
+        // 다음 구간 존재 여부를 알기 위해 한 건 더 조회한다.
+        List<ReservationSummary> summaries = reservationRepository.findSummariesByScheduleId(
+                scheduleId, ReservationStatus.CONFIRMED, lastSeenId, limit + 1);
+        boolean hasNext = summaries.size() > limit;
+        List<ReservationSummary> page = hasNext ? summaries.subList(0, limit) : summaries;
+
+        List<String> phoneNumbers = encryptionUtils.decryptAll(page.stream()
+                .map(ReservationSummary::guestPhoneNumber)
+                .toList());
+        List<SimpleReservationDto> reservations = IntStream.range(0, page.size())
+                .mapToObj(i -> SimpleReservationDto.from(page.get(i), phoneNumbers.get(i)))
+                .toList();
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+        return new ScheduleReservationsResponse(scheduleId, reservations, nextCursor);
+    }
+
+    /**
+     * 내보내기 스트리밍을 시작하기 전에 요청 스레드에서 권한을 검증하고 대상 스케줄 ID를 확정한다.
+     */
+    public List<Long> getExportScheduleIds(Long eventId, Long scheduleId, String hostEmail) {
+        Event event = validateHostOwnership(eventId, hostEmail);
+        if (scheduleId != null) {
+            validateScheduleBelongsToEvent(scheduleId, eventId);
+            return List.of(scheduleId);
+        }
+        return event.getSchedules().stream()
+                .map(EventSchedule::getId)
+                .toList();
+    }
+
+    private List<String> decryptPhoneNumbers(List<Reservation> reservations) {
+        return encryptionUtils.decryptAll(reservations.stream()
+                .map(Reservation::getGuestPhoneNumber)
+                .toList());
+    }
+
     private Event validateHostOwnership(Long eventId, String hostEmail) {
         Event event = loadEventOrThrow(eventId);
 
@@ -189,7 +572,7 @@ public class HostReservationService {
     }
 
     private Reservation loadReservationByQrTokenOrThrow(String qrToken) {
-        return reservationRepository.findByQrToken(qrToken)
+        return reservationRepository.findByQrKey(qrTokenCodec.resolve(qrToken))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 QR 토큰입니다."));
     }
 }
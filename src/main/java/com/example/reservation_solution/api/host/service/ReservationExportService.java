@@ -0,0 +1,176 @@
+package com.example.reservation_solution.api.host.service;
+
+import com.example.reservation_solution.api.event.domain.FormQuestion;
+import com.example.reservation_solution.api.event.repository.FormQuestionRepository;
+import com.example.reservation_solution.api.host.dto.ExportFormat;
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.ReservationExportRow;
+import com.example.reservation_solution.api.reservation.repository.ReservationRepository;
+import com.example.reservation_solution.global.util.EncryptionUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 예약 내보내기
+ * - 예약과 폼 응답을 LEFT JOIN한 결과를 한 번의 전방향 커서로 읽으며, 엔티티를 만들지 않는다.
+ * - 예약 단위로 CHUNK_SIZE건씩 모아 전화번호를 한 번에 복호화한 뒤 바로 응답 스트림에 쓴다.
+ * - 따라서 메모리 사용량은 예약 수와 무관하게 한 청크 크기로 유지된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final List<String> CSV_BASE_HEADERS =
+            List.of("예약ID", "스케줄", "이름", "전화번호", "티켓 수", "상태", "체크인", "예약일시");
+
+    private final ReservationRepository reservationRepository;
+    private final FormQuestionRepository formQuestionRepository;
+    private final EncryptionUtils encryptionUtils;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 스트리밍 응답 스레드에서 호출된다. 권한 검증은 HostReservationService.getExportScheduleIds에서 미리 끝내야 한다.
+     */
+    @Transactional(readOnly = true)
+    public void export(Long eventId, List<Long> scheduleIds, ExportFormat format, OutputStream outputStream) {
+        List<FormQuestion> questions = formQuestionRepository.findByEventIdOrderById(eventId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (Stream<ReservationExportRow> rows =
+                     reservationRepository.streamExportRows(scheduleIds, ReservationStatus.CONFIRMED)) {
+            if (format == ExportFormat.CSV) {
+                writeCsvHeader(writer, questions);
+            }
+            List<ExportRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            ExportRecord current = null;
+            Iterator<ReservationExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ReservationExportRow row = iterator.next();
+                // 같은 예약의 응답 행은 연속으로 정렬되어 있으므로 예약 ID가 바뀔 때 한 건을 완성한다.
+                if (current == null || !current.row().reservationId().equals(row.reservationId())) {
+                    if (chunk.size() == CHUNK_SIZE) {
+                        writeChunk(writer, chunk, questions, format);
+                        chunk.clear();
+                    }
+                    current = new ExportRecord(row, new LinkedHashMap<>());
+                    chunk.add(current);
+                }
+                if (row.questionId() != null) {
+                    current.answers().put(row.questionId(), row.answerText());
+                }
+            }
+            writeChunk(writer, chunk, questions, format);
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("예약 내보내기 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void writeChunk(Writer writer, List<ExportRecord> chunk, List<FormQuestion> questions,
+                            ExportFormat format) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<String> phoneNumbers = encryptionUtils.decryptAll(chunk.stream()
+                .map(record -> record.row().guestPhoneNumber())
+                .toList());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, chunk.get(i), phoneNumbers.get(i), questions);
+            } else {
+                writeJsonLine(writer, chunk.get(i), phoneNumbers.get(i), questions);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvHeader(Writer writer, List<FormQuestion> questions) throws IOException {
+        writer.write(UTF8_BOM);
+        List<String> headers = new ArrayList<>(CSV_BASE_HEADERS);
+        questions.forEach(question -> headers.add(question.getQuestionText()));
+        writeCsvValues(writer, headers);
+    }
+
+    private void writeCsvLine(Writer writer, ExportRecord record, String phoneNumber,
+                              List<FormQuestion> questions) throws IOException {
+        ReservationExportRow row = record.row();
+        List<String> values = new ArrayList<>(CSV_BASE_HEADERS.size() + questions.size());
+        values.add(String.valueOf(row.reservationId()));
+        values.add(String.valueOf(row.scheduleStartTime()));
+        values.add(row.guestName());
+        values.add(phoneNumber);
+        values.add(String.valueOf(row.ticketCount()));
+        values.add(row.status().name());
+        values.add(Boolean.TRUE.equals(row.isCheckedIn()) ? "Y" : "N");
+        values.add(String.valueOf(row.createdAt()));
+        questions.forEach(question -> values.add(record.answers().get(question.getId())));
+        writeCsvValues(writer, values);
+    }
+
+    private void writeCsvValues(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 게스트가 입력한 이름·답변이 =, +, -, @, 탭, CR로 시작하면 스프레드시트가 수식으로 실행하므로 앞에 '를 붙여 문자열로 만든다.
+     */
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void writeJsonLine(Writer writer, ExportRecord record, String phoneNumber,
+                               List<FormQuestion> questions) throws IOException {
+        ReservationExportRow row = record.row();
+        Map<String, String> answers = new LinkedHashMap<>();
+        questions.forEach(question -> answers.put(question.getQuestionText(), record.answers().get(question.getId())));
+
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("reservationId", row.reservationId());
+        line.put("scheduleStartTime", String.valueOf(row.scheduleStartTime()));
+        line.put("guestName", row.guestName());
+        line.put("guestPhoneNumber", phoneNumber);
+        line.put("ticketCount", row.ticketCount());
+        line.put("status", row.status());
+        line.put("isCheckedIn", row.isCheckedIn());
+        line.put("createdAt", String.valueOf(row.createdAt()));
+        line.put("answers", answers);
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.write('\n');
+    }
+
+    private record ExportRecord(ReservationExportRow row, Map<Long, String> answers) {
+    }
+}
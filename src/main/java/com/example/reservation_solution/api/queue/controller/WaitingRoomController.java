@@ -0,0 +1,44 @@
+package com.example.reservation_solution.api.queue.controller;
+
+import com.example.reservation_solution.api.queue.dto.QueueStatusResponse;
+import com.example.reservation_solution.api.queue.service.WaitingRoomService;
+import com.example.reservation_solution.global.docs.EnterQueueDocs;
+import com.example.reservation_solution.global.docs.GetQueueStatusDocs;
+import com.example.reservation_solution.global.docs.StreamQueueStatusDocs;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Waiting Room", description = "예약 대기열 API (Public)")
+@RestController
+@RequestMapping("/api/queues/schedules/{scheduleId}/tokens")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @EnterQueueDocs
+    @PostMapping
+    public ResponseEntity<QueueStatusResponse> enterQueue(@PathVariable Long scheduleId) {
+        QueueStatusResponse response = waitingRoomService.enter(scheduleId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetQueueStatusDocs
+    @GetMapping("/{token}")
+    public ResponseEntity<QueueStatusResponse> getQueueStatus(@PathVariable Long scheduleId,
+                                                              @PathVariable String token) {
+        QueueStatusResponse response = waitingRoomService.getStatus(scheduleId, token);
+        return ResponseEntity.ok(response);
+    }
+
+    @StreamQueueStatusDocs
+    @GetMapping(value = "/{token}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(@PathVariable Long scheduleId, @PathVariable String token) {
+        return waitingRoomService.subscribe(scheduleId, token);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.reservation_solution.api.queue.dto;
+
+public record QueueStatusResponse(
+    String token,
+    Long scheduleId,
+    long position,
+    long estimatedWaitSeconds,
+    boolean admitted
+) {
+    public static QueueStatusResponse admitted(String token, Long scheduleId) {
+        return new QueueStatusResponse(token, scheduleId, 0, 0, true);
+    }
+
+    public static QueueStatusResponse waiting(String token, Long scheduleId, long position, long estimatedWaitSeconds) {
+        return new QueueStatusResponse(token, scheduleId, position, estimatedWaitSeconds, false);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.reservation_solution.api.queue.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class InMemoryQueueStore implements QueueStore {
+
+    private final ConcurrentHashMap<Long, ScheduleQueue> queues = new ConcurrentHashMap<>();
+
+    @Override
+    public long register(Long scheduleId, String token, long nowMillis) {
+        while (true) {
+            ScheduleQueue queue = queues.computeIfAbsent(scheduleId, id -> new ScheduleQueue());
+            queue.lock.lock();
+            try {
+                // 빈 대기열로 정리된 직후라면 새로 만든 대기열에 등록한다.
+                if (queue.removed) {
+                    continue;
+                }
+                long sequence = ++queue.lastSequence;
+                queue.lastSeen.put(token, nowMillis);
+                queue.waiting.put(sequence, token);
+                queue.sequenceByToken.put(token, sequence);
+                return sequence;
+            } finally {
+                queue.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void touch(Long scheduleId, String token, long nowMillis) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue != null) {
+            // 대기열에 남아 있는 토큰만 갱신한다. (입장·만료된 토큰을 되살리지 않는다)
+            queue.lastSeen.computeIfPresent(token, (key, seen) -> Math.max(seen, nowMillis));
+        }
+    }
+
+    @Override
+    public Optional<Long> findWaitingRank(Long scheduleId, String token) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue == null) {
+            return Optional.empty();
+        }
+        Long sequence = queue.sequenceByToken.get(token);
+        Map.Entry<Long, String> head = queue.waiting.firstEntry();
+        if (sequence == null || head == null) {
+            return Optional.empty();
+        }
+        // 입장은 항상 순번 순서로 이뤄지므로, 순번 차이에서 중간에 만료된 대기자 수만 빼면 된다. (ZRANK와 동일한 결과)
+        long expiredAhead = queue.expiredSequences.subSet(head.getKey(), sequence).size();
+        return Optional.of(Math.max(0, sequence - head.getKey() - expiredAhead));
+    }
+
+    @Override
+    public boolean isAdmitted(Long scheduleId, String token, long nowMillis) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue == null) {
+            return false;
+        }
+        Long expiresAt = queue.active.get(token);
+        return expiresAt != null && expiresAt > nowMillis;
+    }
+
+    @Override
+    public int admit(Long scheduleId, int maxActive, long expiresAtMillis, long idleBeforeMillis, long nowMillis) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue == null) {
+            return 0;
+        }
+        queue.lock.lock();
+        try {
+            expireIdleWaiters(queue, idleBeforeMillis);
+            queue.active.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+            queue.claimed.removeIf(token -> !queue.active.containsKey(token));
+            int admitted = 0;
+            while (queue.active.size() < maxActive) {
+                Map.Entry<Long, String> next = queue.waiting.pollFirstEntry();
+                if (next == null) {
+                    break;
+                }
+                queue.sequenceByToken.remove(next.getValue());
+                queue.lastSeen.remove(next.getValue());
+                queue.active.put(next.getValue(), expiresAtMillis);
+                admitted++;
+            }
+            // 맨 앞 대기자보다 앞선 만료 순번은 순위 계산에 쓰이지 않는다.
+            Map.Entry<Long, String> head = queue.waiting.firstEntry();
+            if (head == null) {
+                queue.expiredSequences.clear();
+            } else {
+                queue.expiredSequences.headSet(head.getKey()).clear();
+            }
+            // 대기자와 입장자가 모두 없는 스케줄은 정리하여 지난 스케줄의 대기열이 쌓이지 않게 한다.
+            if (queue.waiting.isEmpty() && queue.active.isEmpty()) {
+                queue.removed = true;
+                queues.remove(scheduleId, queue);
+            }
+            return admitted;
+        } finally {
+            queue.lock.unlock();
+        }
+    }
+
+    /**
+     * 폴링도 SSE 수신도 멈춘 대기자는 입장 자리를 받기 전에 대기열에서 뺀다.
+     * 그대로 두면 떠난 게스트가 입장 자리를 admission-ttl 동안 차지한다.
+     */
+    private void expireIdleWaiters(ScheduleQueue queue, long idleBeforeMillis) {
+        for (Map.Entry<String, Long> entry : queue.lastSeen.entrySet()) {
+            String token = entry.getKey();
+            Long seen = entry.getValue();
+            // 방금 touch된 토큰은 remove(key, value)가 실패하므로 남는다.
+            if (seen > idleBeforeMillis || !queue.lastSeen.remove(token, seen)) {
+                continue;
+            }
+            Long sequence = queue.sequenceByToken.remove(token);
+            if (sequence != null) {
+                queue.waiting.remove(sequence);
+                queue.expiredSequences.add(sequence);
+            }
+        }
+    }
+
+    @Override
+    public boolean claim(Long scheduleId, String token, long nowMillis) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue == null) {
+            return false;
+        }
+        Long expiresAt = queue.active.get(token);
+        return expiresAt != null && expiresAt > nowMillis && queue.claimed.add(token);
+    }
+
+    @Override
+    public void release(Long scheduleId, String token) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue != null) {
+            queue.claimed.remove(token);
+        }
+    }
+
+    @Override
+    public void complete(Long scheduleId, String token) {
+        ScheduleQueue queue = queues.get(scheduleId);
+        if (queue != null) {
+            queue.active.remove(token);
+            queue.claimed.remove(token);
+        }
+    }
+
+    @Override
+    public Set<Long> findQueuedScheduleIds() {
+        return queues.keySet();
+    }
+
+    private static final class ScheduleQueue {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ConcurrentSkipListMap<Long, String> waiting = new ConcurrentSkipListMap<>();
+        private final ConcurrentHashMap<String, Long> sequenceByToken = new ConcurrentHashMap<>();
+        // 대기 중인 토큰의 마지막 폴링·SSE 수신 시각
+        private final ConcurrentHashMap<String, Long> lastSeen = new ConcurrentHashMap<>();
+        // 맨 앞 대기자 뒤에서 유휴 만료로 빠진 순번 (순위 계산용)
+        private final ConcurrentSkipListSet<Long> expiredSequences = new ConcurrentSkipListSet<>();
+        private final ConcurrentHashMap<String, Long> active = new ConcurrentHashMap<>();
+        // 예약 요청 한 건이 처리 중인 입장 토큰
+        private final Set<String> claimed = ConcurrentHashMap.newKeySet();
+        private long lastSequence;
+        private boolean removed;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.reservation_solution.api.queue.repository;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 스케줄별 대기열 저장소
+ * Redis 구현 시 대기열은 ZSET(score = INCR 순번), 입장열은 ZSET(score = 만료 시각)으로 대응한다.
+ * - register → INCR + ZADD waiting + ZADD seen(score = 현재 시각)
+ * - touch → ZADD seen XX
+ * - findWaitingRank → ZRANK waiting
+ * - admit → ZRANGEBYSCORE seen로 유휴 대기자 제거 + ZREMRANGEBYSCORE active + ZPOPMIN waiting + ZADD active (Lua 스크립트로 원자 실행)
+ * - claim → 입장 여부 확인 + SADD claimed (Lua 스크립트), release → SREM claimed, complete → ZREM active + SREM claimed
+ */
+public interface QueueStore {
+
+    /**
+     * 대기열 끝에 토큰을 등록하고 스케줄별로 단조 증가하는 순번을 반환한다.
+     */
+    long register(Long scheduleId, String token, long nowMillis);
+
+    /**
+     * 대기 중인 토큰의 마지막 활동 시각을 갱신한다. 대기열에 없으면 무시한다.
+     */
+    void touch(Long scheduleId, String token, long nowMillis);
+
+    /**
+     * 앞에서 대기 중인 인원 수를 반환한다. 대기열에 없으면(입장했거나 미등록·만료) 빈 값을 반환한다.
+     */
+    Optional<Long> findWaitingRank(Long scheduleId, String token);
+
+    boolean isAdmitted(Long scheduleId, String token, long nowMillis);
+
+    /**
+     * 마지막 활동이 idleBeforeMillis 이전인 대기자와 만료된 입장 토큰을 정리한 뒤,
+     * 입장 인원이 maxActive가 될 때까지 대기열 앞에서부터 입장시킨다.
+     * @return 이번에 입장시킨 인원 수
+     */
+    int admit(Long scheduleId, int maxActive, long expiresAtMillis, long idleBeforeMillis, long nowMillis);
+
+    /**
+     * 입장한 토큰을 예약 한 건에 묶는다. 입장하지 않았거나 만료됐거나 이미 다른 요청이 묶었으면 false를 반환한다.
+     */
+    boolean claim(Long scheduleId, String token, long nowMillis);
+
+    /**
+     * 예약이 실패했을 때 묶음을 풀어, 입장 시간이 남아 있는 동안 같은 토큰으로 다시 시도할 수 있게 한다.
+     */
+    void release(Long scheduleId, String token);
+
+    void complete(Long scheduleId, String token);
+
+    Set<Long> findQueuedScheduleIds();
+}
@@ -0,0 +1,237 @@
+package com.example.reservation_solution.api.queue.service;
+
+import com.example.reservation_solution.api.event.repository.EventScheduleRepository;
+import com.example.reservation_solution.api.queue.dto.QueueStatusResponse;
+import com.example.reservation_solution.api.queue.repository.QueueStore;
+import com.example.reservation_solution.global.config.WaitingRoomProperties;
+import com.example.reservation_solution.global.exception.ConflictException;
+import com.example.reservation_solution.global.exception.ForbiddenException;
+import com.example.reservation_solution.global.exception.NotFoundException;
+import com.example.reservation_solution.global.sse.SseDispatcher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 생성 앞단의 대기열(가상 대기실)
+ * - 게스트는 스케줄별 대기열에 입장 토큰을 발급받고, 스케줄당 동시 입장 인원(maxActivePerSchedule)만큼만 예약 API에 진입한다.
+ * - 입장 처리는 단일 스케줄러 스레드가 주기적으로 수행하며, 대기 상태는 폴링 또는 SSE로 조회한다.
+ *   SSE 전송은 SseDispatcher에 맡기므로 느린 구독자가 입장 처리를 지연시키지 않는다.
+ * - 대기자·입장자·구독자가 모두 없는 스케줄의 상태는 정리한다.
+ * - 입장 후 예약을 완료하면 자리를 반납하고, 완료하지 않으면 admissionTtlSeconds 후 만료된다.
+ * - 입장 토큰은 예약 요청 한 건에만 묶이며(claim), 실패하면 풀려 같은 토큰으로 다시 시도할 수 있다.
+ * - 폴링도 SSE 수신도 idleTimeoutSeconds 동안 없는 대기자는 입장시키지 않고 대기열에서 뺀다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private static final long ADMISSION_INTERVAL_MILLIS = 1000;
+    private static final long SSE_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+    private static final double RATE_SMOOTHING = 0.2;
+
+    private final QueueStore queueStore;
+    private final EventScheduleRepository eventScheduleRepository;
+    private final WaitingRoomProperties properties;
+    private final SseDispatcher sseDispatcher;
+
+    private final Map<Long, Map<String, SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    // 스케줄별 초당 입장 인원의 지수 이동 평균 (예상 대기 시간 계산용)
+    private final Map<Long, Double> admissionRates = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService admissionTicker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "waiting-room-admission");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void start() {
+        if (properties.isEnabled()) {
+            admissionTicker.scheduleWithFixedDelay(this::admitAll,
+                    ADMISSION_INTERVAL_MILLIS, ADMISSION_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        admissionTicker.shutdownNow();
+    }
+
+    public QueueStatusResponse enter(Long scheduleId) {
+        if (!eventScheduleRepository.existsById(scheduleId)) {
+            throw NotFoundException.entityNotFound("스케줄", scheduleId);
+        }
+        String token = UUID.randomUUID().toString();
+        queueStore.register(scheduleId, token, System.currentTimeMillis());
+        // 자리가 남아 있으면 다음 주기를 기다리지 않고 바로 입장시킨다.
+        admit(scheduleId);
+        return getStatus(scheduleId, token);
+    }
+
+    public QueueStatusResponse getStatus(Long scheduleId, String token) {
+        queueStore.touch(scheduleId, token, System.currentTimeMillis());
+        return findStatus(scheduleId, token)
+                .orElseThrow(() -> new NotFoundException("존재하지 않거나 만료된 대기열 토큰입니다"));
+    }
+
+    public SseEmitter subscribe(Long scheduleId, String token) {
+        QueueStatusResponse status = getStatus(scheduleId, token);
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        if (!send(emitter, status)) {
+            return emitter;
+        }
+        if (status.admitted()) {
+            emitter.complete();
+            return emitter;
+        }
+        // 빈 구독자 맵 정리(unsubscribe)와 경합하지 않도록 맵 생성과 구독자 추가를 한 번의 compute로 처리한다.
+        subscribers.compute(scheduleId, (id, existing) -> {
+            Map<String, SseEmitter> target = existing != null ? existing : new ConcurrentHashMap<>();
+            target.put(token, emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> unsubscribe(scheduleId, token, emitter));
+        emitter.onTimeout(() -> unsubscribe(scheduleId, token, emitter));
+        emitter.onError(e -> unsubscribe(scheduleId, token, emitter));
+        return emitter;
+    }
+
+    /**
+     * 입장한 토큰을 이 예약 요청에 묶는다. 같은 토큰의 동시 요청은 하나만 통과한다.
+     * 통과한 요청은 성공 시 complete, 실패 시 release를 반드시 호출해야 한다.
+     * 대기열이 비활성화된 경우 검사하지 않는다.
+     */
+    public void claimAdmission(Long scheduleId, String token) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (token == null) {
+            throw ForbiddenException.notAdmitted();
+        }
+        long now = System.currentTimeMillis();
+        if (queueStore.claim(scheduleId, token, now)) {
+            return;
+        }
+        if (queueStore.isAdmitted(scheduleId, token, now)) {
+            throw ConflictException.admissionInUse();
+        }
+        throw ForbiddenException.notAdmitted();
+    }
+
+    public void releaseAdmission(Long scheduleId, String token) {
+        if (!properties.isEnabled() || token == null) {
+            return;
+        }
+        queueStore.release(scheduleId, token);
+    }
+
+    public void complete(Long scheduleId, String token) {
+        if (!properties.isEnabled() || token == null) {
+            return;
+        }
+        queueStore.complete(scheduleId, token);
+    }
+
+    private void admitAll() {
+        Set<Long> queuedScheduleIds = queueStore.findQueuedScheduleIds();
+        for (Long scheduleId : queuedScheduleIds) {
+            try {
+                int admitted = admit(scheduleId);
+                admissionRates.merge(scheduleId, admitted * 1000.0 / ADMISSION_INTERVAL_MILLIS,
+                        (previous, current) -> previous + RATE_SMOOTHING * (current - previous));
+                publish(scheduleId);
+            } catch (RuntimeException e) {
+                log.error("대기열 입장 처리 중 오류: scheduleId={}", scheduleId, e);
+            }
+        }
+        admissionRates.keySet().retainAll(queuedScheduleIds);
+    }
+
+    private int admit(Long scheduleId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + TimeUnit.SECONDS.toMillis(properties.getAdmissionTtlSeconds());
+        long idleBefore = now - TimeUnit.SECONDS.toMillis(properties.getIdleTimeoutSeconds());
+        return queueStore.admit(scheduleId, properties.getMaxActivePerSchedule(), expiresAt, idleBefore, now);
+    }
+
+    private void publish(Long scheduleId) {
+        Map<String, SseEmitter> emitters = subscribers.get(scheduleId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        emitters.forEach((token, emitter) -> {
+            Optional<QueueStatusResponse> status = findStatus(scheduleId, token);
+            if (status.isEmpty()) {
+                unsubscribe(scheduleId, token, emitter);
+                emitter.complete();
+                return;
+            }
+            boolean admitted = status.get().admitted();
+            sseDispatcher.send(emitter, event(status.get()),
+                    () -> {
+                        if (admitted) {
+                            unsubscribe(scheduleId, token, emitter);
+                            emitter.complete();
+                            return;
+                        }
+                        // 이벤트를 받아 간 구독자는 폴링하지 않아도 대기 중인 것으로 본다.
+                        queueStore.touch(scheduleId, token, System.currentTimeMillis());
+                    },
+                    () -> unsubscribe(scheduleId, token, emitter));
+        });
+    }
+
+    private void unsubscribe(Long scheduleId, String token, SseEmitter emitter) {
+        subscribers.computeIfPresent(scheduleId, (id, emitters) -> {
+            emitters.remove(token, emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private Optional<QueueStatusResponse> findStatus(Long scheduleId, String token) {
+        if (queueStore.isAdmitted(scheduleId, token, System.currentTimeMillis())) {
+            return Optional.of(QueueStatusResponse.admitted(token, scheduleId));
+        }
+        return queueStore.findWaitingRank(scheduleId, token)
+                .map(rank -> QueueStatusResponse.waiting(token, scheduleId, rank + 1,
+                        estimateWaitSeconds(scheduleId, rank + 1)));
+    }
+
+    private long estimateWaitSeconds(Long scheduleId, long position) {
+        double rate = admissionRates.getOrDefault(scheduleId, 0.0);
+        if (rate > 0) {
+            return (long) Math.ceil(position / rate);
+        }
+        // 아직 입장 실적이 없으면 입장 인원이 모두 만료될 때까지 기다린다고 가정한다.
+        long rounds = (position + properties.getMaxActivePerSchedule() - 1) / properties.getMaxActivePerSchedule();
+        return rounds * properties.getAdmissionTtlSeconds();
+    }
+
+    private SseEmitter.SseEventBuilder event(QueueStatusResponse status) {
+        return SseEmitter.event().name("queue-status").data(status);
+    }
+
+    private boolean send(SseEmitter emitter, QueueStatusResponse status) {
+        try {
+            emitter.send(event(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -4,12 +4,14 @@ import com.example.reservation_solution.api.reservation.dto.ReservationLookupReq
 import com.example.reservation_solution.api.reservation.dto.ReservationLookupResponse;
 import com.example.reservation_solution.api.reservation.dto.ReservationRequest;
 import com.example.reservation_solution.api.reservation.dto.ReservationResponse;
+import com.example.reservation_solution.global.common.dto.VersionedResponse;
 import com.example.reservation_solution.global.docs.*;
 import com.example.reservation_solution.api.reservation.service.ReservationFacade;
 import com.example.reservation_solution.api.reservation.service.ReservationService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -27,8 +29,11 @@ public class ReservationController {
 
     @CreateReservationDocs
     @PostMapping
-    public ResponseEntity<ReservationResponse> createReservation(@Valid @RequestBody ReservationRequest request) {
-        ReservationResponse response = reservationFacade.createReservation(request);
+    public ResponseEntity<ReservationResponse> createReservation(
+            @Valid @RequestBody ReservationRequest request,
+            @RequestHeader(value = "X-Queue-Token", required = false) String queueToken,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        ReservationResponse response = reservationFacade.createReservation(request, queueToken, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -41,9 +46,17 @@ public class ReservationController {
 
     @GetReservationByQrTokenDocs
     @GetMapping("/qr/{qrToken}")
-    public ResponseEntity<ReservationResponse> getReservationByQrToken(@PathVariable String qrToken) {
-        ReservationResponse response = reservationService.getReservationByQrToken(qrToken);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<ReservationResponse> getReservationByQrToken(
+            @PathVariable String qrToken,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String notModifiedEtag = reservationService.findNotModifiedEtag(qrToken, ifNoneMatch);
+        if (notModifiedEtag != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(notModifiedEtag).build();
+        }
+        VersionedResponse<ReservationResponse> response = reservationService.getReservationByQrToken(qrToken);
+        return ResponseEntity.ok()
+                .eTag(response.etag())
+                .body(response.body());
     }
 
     @CancelReservationDocs
@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class FormAnswer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "form_answer_seq_generator")
+    @SequenceGenerator(name = "form_answer_seq_generator", sequenceName = "form_answers_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,89 @@
+package com.example.reservation_solution.api.reservation.domain;
+
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * QR 토큰의 128비트 값
+ * - DB에는 BINARY(16)(qr_key)으로 저장하고, 문자열로는 URL-safe Base64 22자로 표현한다.
+ * - 기존 UUID 문자열(36자) 토큰도 같은 128비트로 해석되므로, 이미 발급된 QR 코드도 그대로 조회된다.
+ * - 서명 태그가 붙은 토큰은 앞 22자만 값으로 해석한다. (태그 검증은 QrTokenCodec)
+ */
+public record QrToken(long high, long low) {
+
+    public static final int COMPACT_LENGTH = 22;
+    private static final int LEGACY_LENGTH = 36;
+
+    private static final SecureRandom RANDOM = createRandom();
+
+    public static QrToken random() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return fromBytes(bytes);
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 null
+     */
+    public static QrToken parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() == LEGACY_LENGTH) {
+            return parseLegacy(value);
+        }
+        if (value.length() < COMPACT_LENGTH) {
+            return null;
+        }
+        try {
+            return fromBytes(Base64.getUrlDecoder().decode(value.substring(0, COMPACT_LENGTH)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static QrToken fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new QrToken(buffer.getLong(), buffer.getLong());
+    }
+
+    public static boolean isLegacy(String value) {
+        return value.length() == LEGACY_LENGTH;
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(16).putLong(high).putLong(low).array();
+    }
+
+    public String toCompactString() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(toBytes());
+    }
+
+    /**
+     * 같은 128비트 값의 기존 UUID 문자열 (qr_key가 없는 행을 qr_token으로 찾을 때 사용)
+     */
+    public String toLegacyString() {
+        return new UUID(high, low).toString();
+    }
+
+    private static QrToken parseLegacy(String value) {
+        try {
+            UUID uuid = UUID.fromString(value);
+            return new QrToken(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static SecureRandom createRandom() {
+        // DRBG는 nextBytes가 짧게 동기화되고 시스템 엔트로피를 매번 읽지 않는다.
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+}
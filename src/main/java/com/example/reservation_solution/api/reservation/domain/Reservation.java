@@ -10,20 +10,24 @@ import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "reservations")
-//@Table(name = "reservations", indexes = {
-//        @Index(name = "idx_reservation_schedule_phone_status",
-//                columnList = "event_schedule_id, guest_phone_number")
-//})
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservation_schedule_id", columnList = "event_schedule_id, id"),
+        @Index(name = "idx_reservation_schedule_phone_hash", columnList = "event_schedule_id, guest_phone_hash"),
+        @Index(name = "idx_reservation_phone_suffix_hash", columnList = "guest_phone_suffix_hash")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_qr_key", columnNames = "qr_key")
+})
 public class Reservation extends BaseTimeEntity {
 
+    // IDENTITY는 JDBC 배치 INSERT를 막으므로 pooled 시퀀스로 50개씩 ID를 미리 할당받는다.
+    // (시퀀스가 없는 MySQL에서는 Hibernate가 reservations_seq 테이블로 에뮬레이션)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq_generator")
+    @SequenceGenerator(name = "reservation_seq_generator", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -34,12 +38,25 @@ public class Reservation extends BaseTimeEntity {
 
     private String guestPhoneNumber;
 
+    // 암호문은 비교·검색할 수 없으므로 HMAC 블라인드 인덱스로 조회한다. (BlindIndexUtils)
+    @Column(length = 43)
+    private String guestPhoneHash;
+
+    @Column(length = 43)
+    private String guestPhoneSuffixHash;
+
     @Column(nullable = false)
     private Integer ticketCount = 1;
 
-    @Column(nullable = false, unique = true)
+    // 게스트에게 발급한 문자열 (기존 UUID 36자, 이후 22자 + 선택적 서명 태그 8자)
+    // 기존 UUID 토큰은 qr_key가 비어 있는 동안 이 문자열로 찾으므로 유니크 인덱스를 유지한다. (docs/sql/qr-key-migration.sql)
+    @Column(nullable = false, unique = true, length = 36)
     private String qrToken;
 
+    // 조회용 128비트 값. 유니크 인덱스는 문자열 대신 이 16바이트 컬럼에 둔다. (QrToken)
+    @Column(name = "qr_key", nullable = false, columnDefinition = "BINARY(16)")
+    private byte[] qrKey;
+
     @Column(nullable = false)
     private Boolean isCheckedIn = false;
 
@@ -47,18 +64,27 @@ public class Reservation extends BaseTimeEntity {
     @Column(nullable = false)
     private ReservationStatus status;
 
+    // QR 조회 ETag용. 취소/체크인으로 상태가 바뀔 때마다 증가한다.
+    @Column(nullable = false)
+    private Long contentVersion = 0L;
+
     @OneToMany(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<FormAnswer> formAnswers = new ArrayList<>();
 
     @Builder
-    public Reservation(EventSchedule eventSchedule, String guestName, String guestPhoneNumber, Integer ticketCount) {
+    public Reservation(EventSchedule eventSchedule, String guestName, String guestPhoneNumber,
+                       String guestPhoneHash, String guestPhoneSuffixHash, Integer ticketCount, String qrToken) {
         this.eventSchedule = eventSchedule;
         this.guestName = guestName;
         this.guestPhoneNumber = guestPhoneNumber;
+        this.guestPhoneHash = guestPhoneHash;
+        this.guestPhoneSuffixHash = guestPhoneSuffixHash;
         this.ticketCount = ticketCount != null && ticketCount > 0 ? ticketCount : 1;
-        this.qrToken = UUID.randomUUID().toString();
+        this.qrToken = qrToken;
+        this.qrKey = QrToken.parse(qrToken).toBytes();
         this.isCheckedIn = false;
         this.status = ReservationStatus.CONFIRMED;
+        this.contentVersion = 0L;
     }
 
     public void addFormAnswer(FormAnswer formAnswer) {
@@ -69,6 +95,7 @@ public class Reservation extends BaseTimeEntity {
     public void cancel() {
         validateCancellable();
         this.status = ReservationStatus.CANCELLED;
+        this.contentVersion++;
     }
 
     public void validateCancellable() {
@@ -89,17 +116,28 @@ public class Reservation extends BaseTimeEntity {
         }
     }
 
+    public void assignPhoneBlindIndex(String guestPhoneHash, String guestPhoneSuffixHash) {
+        this.guestPhoneHash = guestPhoneHash;
+        this.guestPhoneSuffixHash = guestPhoneSuffixHash;
+    }
+
     public void checkIn() {
         validateCheckInPossible();
         this.isCheckedIn = true;
+        this.contentVersion++;
     }
 
-    public static Reservation create(EventSchedule eventSchedule, String guestName, String guestPhoneNumber, Integer ticketCount) {
+    public static Reservation create(EventSchedule eventSchedule, String guestName, String guestPhoneNumber,
+                                     String guestPhoneHash, String guestPhoneSuffixHash, Integer ticketCount,
+                                     String qrToken) {
         return Reservation.builder()
                 .eventSchedule(eventSchedule)
                 .guestName(guestName)
                 .guestPhoneNumber(guestPhoneNumber)
+                .guestPhoneHash(guestPhoneHash)
+                .guestPhoneSuffixHash(guestPhoneSuffixHash)
                 .ticketCount(ticketCount)
+                .qrToken(qrToken)
                 .build();
     }
 }
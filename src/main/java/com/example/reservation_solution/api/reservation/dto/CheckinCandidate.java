@@ -0,0 +1,20 @@
+package com.example.reservation_solution.api.reservation.dto;
+
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+
+/**
+ * 일괄 체크인 대상 판정용 예약 컬럼 (잠금 조회 결과)
+ */
+public record CheckinCandidate(
+    Long id,
+    Long scheduleId,
+    String qrToken,
+    String guestName,
+    Integer ticketCount,
+    ReservationStatus status,
+    Boolean isCheckedIn
+) {
+    public CheckinTarget toTarget() {
+        return new CheckinTarget(id, scheduleId, qrToken, ticketCount);
+    }
+}
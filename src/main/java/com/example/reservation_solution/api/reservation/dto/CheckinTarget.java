@@ -0,0 +1,12 @@
+package com.example.reservation_solution.api.reservation.dto;
+
+/**
+ * 일괄 체크인 대상 (행 잠금 후 아직 체크인되지 않은 확정 예약만)
+ */
+public record CheckinTarget(
+    Long id,
+    Long scheduleId,
+    String qrToken,
+    Integer ticketCount
+) {
+}
@@ -3,8 +3,10 @@ package com.example.reservation_solution.api.reservation.dto;
 import com.example.reservation_solution.api.reservation.domain.FormAnswer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class FormAnswerResponse {
     private Long questionId;
@@ -0,0 +1,18 @@
+package com.example.reservation_solution.api.reservation.dto;
+
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+
+/**
+ * 게이트 모드 QR 인덱스(GateQrIndex)를 채우기 위한 최소 컬럼 프로젝션
+ */
+public record GateEntry(
+    Long id,
+    Long eventId,
+    Long scheduleId,
+    String qrToken,
+    String guestName,
+    Integer ticketCount,
+    ReservationStatus status,
+    Boolean isCheckedIn
+) {
+}
@@ -0,0 +1,23 @@
+package com.example.reservation_solution.api.reservation.dto;
+
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 내보내기용 프로젝션. 예약과 폼 응답을 LEFT JOIN한 한 행이며,
+ * 폼 응답이 여러 개인 예약은 같은 예약 ID로 연속된 여러 행이 된다.
+ */
+public record ReservationExportRow(
+    Long reservationId,
+    LocalDateTime scheduleStartTime,
+    String guestName,
+    String guestPhoneNumber,
+    Integer ticketCount,
+    ReservationStatus status,
+    Boolean isCheckedIn,
+    LocalDateTime createdAt,
+    Long questionId,
+    String answerText
+) {
+}
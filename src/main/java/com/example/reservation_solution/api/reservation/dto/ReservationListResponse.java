@@ -19,14 +19,17 @@ public class ReservationListResponse {
     private LocalDateTime createdAt;
     private String scheduleName;
 
-    public static ReservationListResponse from(Reservation reservation) {
+    /**
+     * @param guestPhoneNumber 복호화된 전화번호 (목록 단위로 EncryptionUtils.decryptAll 사용)
+     */
+    public static ReservationListResponse from(Reservation reservation, String guestPhoneNumber) {
         String scheduleName = reservation.getEventSchedule().getStartTime().toString() +
                 " ~ " + reservation.getEventSchedule().getEndTime().toString();
 
         return new ReservationListResponse(
                 reservation.getId(),
                 reservation.getGuestName(),
-                reservation.getGuestPhoneNumber(),
+                guestPhoneNumber,
                 reservation.getTicketCount(),
                 reservation.getStatus(),
                 reservation.getIsCheckedIn(),
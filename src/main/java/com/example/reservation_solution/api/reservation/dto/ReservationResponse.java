@@ -6,12 +6,14 @@ import com.example.reservation_solution.api.reservation.domain.ReservationStatus
 import com.example.reservation_solution.global.util.EncryptionUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class ReservationResponse {
     private Long id;
@@ -48,4 +50,25 @@ public class ReservationResponse {
                 reservation.getCreatedAt()
         );
     }
+
+    /**
+     * 예약 생성 직후 응답. 검증 단계의 평문 전화번호와 답변을 그대로 사용하여 복호화와 질문 조회를 생략한다.
+     */
+    public static ReservationResponse of(Reservation reservation, String guestPhoneNumber,
+                                         ScheduleResponse schedule, List<FormAnswerResponse> answers) {
+        return new ReservationResponse(
+                reservation.getId(),
+                reservation.getQrToken(),
+                reservation.getGuestName(),
+                guestPhoneNumber,
+                reservation.getTicketCount(),
+                reservation.getStatus(),
+                reservation.getIsCheckedIn(),
+                reservation.getEventSchedule().getEvent().getTitle(),
+                reservation.getEventSchedule().getEvent().getLocation(),
+                schedule,
+                answers,
+                reservation.getCreatedAt()
+        );
+    }
 }
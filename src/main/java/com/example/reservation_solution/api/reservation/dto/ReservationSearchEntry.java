@@ -0,0 +1,22 @@
+package com.example.reservation_solution.api.reservation.dto;
+
+import com.example.reservation_solution.api.reservation.domain.Reservation;
+
+/**
+ * 호스트 검색 인덱스(ReservationSearchIndex)를 채우기 위한 최소 컬럼 프로젝션
+ */
+public record ReservationSearchEntry(
+    Long id,
+    String guestName,
+    String guestPhoneHash,
+    String guestPhoneSuffixHash
+) {
+    public static ReservationSearchEntry from(Reservation reservation) {
+        return new ReservationSearchEntry(
+                reservation.getId(),
+                reservation.getGuestName(),
+                reservation.getGuestPhoneHash(),
+                reservation.getGuestPhoneSuffixHash()
+        );
+    }
+}
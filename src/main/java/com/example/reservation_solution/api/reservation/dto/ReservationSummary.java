@@ -0,0 +1,15 @@
+package com.example.reservation_solution.api.reservation.dto;
+
+/**
+ * 호스트 현황 화면용 예약 프로젝션 (엔티티를 로딩하지 않고 필요한 컬럼만 조회)
+ * guestPhoneNumber는 암호문이며, 응답에 포함되는 행만 복호화한다.
+ */
+public record ReservationSummary(
+    Long scheduleId,
+    Long id,
+    String guestName,
+    String guestPhoneNumber,
+    Integer ticketCount,
+    Boolean isCheckedIn
+) {
+}
@@ -5,15 +5,44 @@ import com.example.reservation_solution.api.reservation.domain.ReservationStatus
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom {
 
-    Optional<Reservation> findByQrToken(String qrToken);
-
-    boolean existsByEventScheduleIdAndGuestPhoneNumberAndStatus(Long scheduleId, String guestPhoneNumber, ReservationStatus status);
+    @Query("SELECT r.guestPhoneHash FROM Reservation r " +
+            "WHERE r.eventSchedule.id = :scheduleId AND r.status = :status AND r.guestPhoneHash IN :phoneHashes")
+    List<String> findReservedPhoneHashes(@Param("scheduleId") Long scheduleId,
+                                         @Param("phoneHashes") Collection<String> phoneHashes,
+                                         @Param("status") ReservationStatus status);
+
+    List<Reservation> findTop500ByIdGreaterThanAndGuestPhoneHashIsNullAndGuestPhoneNumberIsNotNullOrderByIdAsc(Long id);
+
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.eventSchedule WHERE r.id IN :ids")
+    List<Reservation> findAllWithScheduleByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 단건 체크인. 동시에 들어온 스캔 중 한 건만 1을 반환하므로, 반환값이 1일 때만 체크인 인원을 늘린다.
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.isCheckedIn = true, r.contentVersion = r.contentVersion + 1 " +
+            "WHERE r.id = :id AND r.status = com.example.reservation_solution.api.reservation.domain.ReservationStatus.CONFIRMED " +
+            "AND r.isCheckedIn = false")
+    int checkIn(@Param("id") Long id);
+
+    /**
+     * 일괄 체크인. 대상은 잠금 조회로 확인한 예약이어야 하며, 그사이 상태가 바뀐 행은 조건에서 제외된다.
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.isCheckedIn = true, r.contentVersion = r.contentVersion + 1 " +
+            "WHERE r.id IN :ids AND r.status = com.example.reservation_solution.api.reservation.domain.ReservationStatus.CONFIRMED " +
+            "AND r.isCheckedIn = false")
+    int checkInAll(@Param("ids") Collection<Long> ids);
 
     List<Reservation> findByEventScheduleIdAndStatus(Long scheduleId, ReservationStatus status);
 
@@ -1,20 +1,91 @@
 package com.example.reservation_solution.api.reservation.repository;
 
+import com.example.reservation_solution.api.reservation.domain.QrToken;
 import com.example.reservation_solution.api.reservation.domain.Reservation;
 import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.CheckinCandidate;
+import com.example.reservation_solution.api.reservation.dto.CheckinTarget;
+import com.example.reservation_solution.api.reservation.dto.GateEntry;
+import com.example.reservation_solution.api.reservation.dto.ReservationExportRow;
+import com.example.reservation_solution.api.reservation.dto.ReservationSearchEntry;
+import com.example.reservation_solution.api.reservation.dto.ReservationSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationRepositoryCustom {
 
-    Optional<Reservation> findByScheduleIdAndPhoneNumberAndStatus(Long scheduleId, String phoneNumber, ReservationStatus status);
+    Optional<Reservation> findByScheduleIdAndPhoneHashAndStatus(Long scheduleId, String phoneHash, ReservationStatus status);
 
     Optional<Reservation> findByIdWithDetails(Long id);
 
-    List<Reservation> findByGuestInfoAndStatus(String guestName, String guestPhoneNumber, ReservationStatus status);
+    List<Reservation> findByGuestInfoAndStatus(String guestName, String guestPhoneHash, ReservationStatus status);
 
-    Page<Reservation> searchReservations(Long scheduleId, List<Long> scheduleIds, String keyword, Pageable pageable);
+    /**
+     * @param keyword 이름 부분 검색어 (null이면 조건 없음)
+     * @param phoneHash 전체 전화번호 블라인드 인덱스 (null이면 조건 없음)
+     * @param phoneSuffixHash 전화번호 끝 4자리 블라인드 인덱스 (null이면 조건 없음)
+     */
+    Page<Reservation> searchReservations(Long scheduleId, List<Long> scheduleIds, String keyword,
+                                         String phoneHash, String phoneSuffixHash, Pageable pageable);
+
+    /**
+     * searchReservations와 같은 조건을 키셋(seek) 방식으로 조회한다. 예약 ID 내림차순이며,
+     * lastSeenId보다 작은 ID부터 limit건을 읽으므로 OFFSET 스캔 없이 (event_schedule_id, id) 인덱스를 탄다.
+     * @param lastSeenId 이전 구간의 마지막 예약 ID (null이면 처음부터)
+     */
+    List<Reservation> searchReservationsAfter(Long scheduleId, List<Long> scheduleIds, String keyword,
+                                              String phoneHash, String phoneSuffixHash, Long lastSeenId, int limit);
+
+    /**
+     * 스케줄의 모든 예약(상태 무관)을 검색 인덱스 적재용 컬럼만 조회한다.
+     */
+    List<ReservationSearchEntry> findSearchEntriesByScheduleId(Long scheduleId);
+
+    /**
+     * 이벤트의 모든 예약(상태 무관)을 게이트 모드 QR 인덱스 적재용 컬럼만 조회한다.
+     */
+    List<GateEntry> findGateEntriesByEventId(Long eventId);
+
+    /**
+     * QR 토큰의 128비트 값(qr_key)으로 예약을 조회한다.
+     * null-key-fallback이 켜져 있으면 qr_key가 비어 있는 행(이전 버전이 저장한 예약)은 UUID 문자열(qr_token)로 찾는다.
+     */
+    Optional<Reservation> findByQrKey(QrToken qrToken);
+
+    Optional<GateEntry> findGateEntryByQrKey(QrToken qrToken);
+
+    /**
+     * 예약 행을 잠그고(FOR UPDATE) 그중 아직 체크인되지 않은 확정 예약만 반환한다.
+     */
+    List<CheckinTarget> findCheckinTargetsForUpdate(Collection<Long> reservationIds);
+
+    /**
+     * QR 키에 해당하는 예약 행을 상태와 무관하게 잠그고(FOR UPDATE) 반환한다. 스케줄 행은 잠그지 않는다.
+     */
+    List<CheckinCandidate> findCheckinCandidatesForUpdate(Collection<QrToken> qrTokens);
+
+    long countReservations(Long scheduleId, List<Long> scheduleIds, String keyword,
+                           String phoneHash, String phoneSuffixHash);
+
+    /**
+     * 여러 스케줄의 예약 요약을 한 번의 쿼리로 조회한다. (스케줄 ID, 예약 ID 순 정렬)
+     */
+    List<ReservationSummary> findSummariesByScheduleIds(List<Long> scheduleIds, ReservationStatus status);
+
+    /**
+     * 한 스케줄의 예약 요약을 예약 ID 기준 키셋 방식으로 limit건씩 조회한다.
+     * @param lastSeenId 이전 구간의 마지막 예약 ID (첫 구간이면 null)
+     */
+    List<ReservationSummary> findSummariesByScheduleId(Long scheduleId, ReservationStatus status, Long lastSeenId, int limit);
+
+    /**
+     * 예약과 폼 응답을 예약 ID, 응답 ID 순으로 읽는 전방향 스트림. 엔티티를 로딩하지 않으므로 영속성 컨텍스트가 커지지 않는다.
+     * 호출자가 트랜잭션 안에서 사용하고 반드시 닫아야 한다.
+     */
+    Stream<ReservationExportRow> streamExportRows(List<Long> scheduleIds, ReservationStatus status);
 }
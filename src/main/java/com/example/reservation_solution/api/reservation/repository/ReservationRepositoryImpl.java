@@ -1,35 +1,72 @@
 package com.example.reservation_solution.api.reservation.repository;
 
+import com.example.reservation_solution.api.reservation.domain.QrToken;
 import com.example.reservation_solution.api.reservation.domain.Reservation;
 import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.CheckinCandidate;
+import com.example.reservation_solution.api.reservation.dto.CheckinTarget;
+import com.example.reservation_solution.api.reservation.dto.GateEntry;
+import com.example.reservation_solution.api.reservation.dto.ReservationExportRow;
+import com.example.reservation_solution.api.reservation.dto.ReservationSearchEntry;
+import com.example.reservation_solution.api.reservation.dto.ReservationSummary;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.LockModeType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.example.reservation_solution.api.event.domain.QEventSchedule.eventSchedule;
 import static com.example.reservation_solution.api.event.domain.QFormQuestion.formQuestion;
 import static com.example.reservation_solution.api.reservation.domain.QFormAnswer.formAnswer;
 import static com.example.reservation_solution.api.reservation.domain.QReservation.reservation;
 
-@RequiredArgsConstructor
 public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
 
+    private static final int EXPORT_FETCH_SIZE = 500;
+
     private final JPAQueryFactory queryFactory;
+    private final int exportFetchSize;
+    private final boolean nullKeyFallback;
+
+    public ReservationRepositoryImpl(JPAQueryFactory queryFactory,
+                                     @Value("${spring.datasource.url:}") String datasourceUrl,
+                                     @Value("${reservation.qr-token.null-key-fallback:true}") boolean nullKeyFallback) {
+        this.queryFactory = queryFactory;
+        this.exportFetchSize = exportFetchSize(datasourceUrl);
+        this.nullKeyFallback = nullKeyFallback;
+    }
+
+    /**
+     * MySQL Connector/J는 양수 fetchSize만으로는 결과를 나눠 읽지 않고 전부 메모리에 올린다.
+     * - URL에 useCursorFetch=true가 있으면 서버 커서로 EXPORT_FETCH_SIZE건씩 읽는다. (권장)
+     * - 없으면 Integer.MIN_VALUE로 행 단위 스트리밍을 켠다. 이 경우 스트림을 닫을 때까지 커넥션에서 다른 쿼리를 실행할 수 없다.
+     * - MySQL이 아닌 드라이버(H2 등)는 음수를 거절하므로 양수를 그대로 쓴다.
+     */
+    private static int exportFetchSize(String datasourceUrl) {
+        if (!datasourceUrl.startsWith("jdbc:mysql:") || datasourceUrl.contains("useCursorFetch=true")) {
+            return EXPORT_FETCH_SIZE;
+        }
+        return Integer.MIN_VALUE;
+    }
 
     @Override
-    public Optional<Reservation> findByScheduleIdAndPhoneNumberAndStatus(Long scheduleId, String phoneNumber, ReservationStatus status) {
+    public Optional<Reservation> findByScheduleIdAndPhoneHashAndStatus(Long scheduleId, String phoneHash, ReservationStatus status) {
         Reservation result = queryFactory
                 .selectFrom(reservation)
                 .where(
                         reservation.eventSchedule.id.eq(scheduleId),
-                        reservation.guestPhoneNumber.eq(phoneNumber),
+                        reservation.guestPhoneHash.eq(phoneHash),
                         reservation.status.eq(status)
                 )
                 .fetchOne();
@@ -49,7 +86,7 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
     }
 
     @Override
-    public List<Reservation> findByGuestInfoAndStatus(String guestName, String guestPhoneNumber, ReservationStatus status) {
+    public List<Reservation> findByGuestInfoAndStatus(String guestName, String guestPhoneHash, ReservationStatus status) {
         return queryFactory
                 .selectFrom(reservation)
                 .leftJoin(reservation.eventSchedule, eventSchedule).fetchJoin()
@@ -58,7 +95,7 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
                 .leftJoin(formAnswer.formQuestion, formQuestion).fetchJoin()
                 .where(
                         reservation.guestName.eq(guestName),
-                        reservation.guestPhoneNumber.eq(guestPhoneNumber),
+                        reservation.guestPhoneHash.eq(guestPhoneHash),
                         reservation.status.eq(status)
                 )
                 .orderBy(reservation.createdAt.desc())
@@ -66,7 +103,143 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
     }
 
     @Override
-    public Page<Reservation> searchReservations(Long scheduleId, List<Long> scheduleIds, String keyword, Pageable pageable) {
+    public Page<Reservation> searchReservations(Long scheduleId, List<Long> scheduleIds, String keyword,
+                                                String phoneHash, String phoneSuffixHash, Pageable pageable) {
+        BooleanBuilder builder = searchCondition(scheduleId, scheduleIds, keyword, phoneHash, phoneSuffixHash);
+
+        List<Reservation> content = queryFactory
+                .selectFrom(reservation)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(reservation.id.desc())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(reservation.count())
+                .from(reservation)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public List<Reservation> searchReservationsAfter(Long scheduleId, List<Long> scheduleIds, String keyword,
+                                                     String phoneHash, String phoneSuffixHash, Long lastSeenId, int limit) {
+        BooleanBuilder builder = searchCondition(scheduleId, scheduleIds, keyword, phoneHash, phoneSuffixHash);
+        if (lastSeenId != null) {
+            builder.and(reservation.id.lt(lastSeenId));
+        }
+
+        return queryFactory
+                .selectFrom(reservation)
+                .where(builder)
+                .limit(limit)
+                .orderBy(reservation.id.desc())
+                .fetch();
+    }
+
+    @Override
+    public List<ReservationSearchEntry> findSearchEntriesByScheduleId(Long scheduleId) {
+        return queryFactory
+                .select(Projections.constructor(ReservationSearchEntry.class,
+                        reservation.id,
+                        reservation.guestName,
+                        reservation.guestPhoneHash,
+                        reservation.guestPhoneSuffixHash))
+                .from(reservation)
+                .where(reservation.eventSchedule.id.eq(scheduleId))
+                .fetch();
+    }
+
+    @Override
+    public List<GateEntry> findGateEntriesByEventId(Long eventId) {
+        return selectGateEntries()
+                .where(eventSchedule.event.id.eq(eventId))
+                .fetch();
+    }
+
+    @Override
+    public Optional<Reservation> findByQrKey(QrToken qrToken) {
+        return Optional.ofNullable(queryFactory
+                .selectFrom(reservation)
+                .where(qrKeyIn(List.of(qrToken)))
+                .fetchOne());
+    }
+
+    @Override
+    public Optional<GateEntry> findGateEntryByQrKey(QrToken qrToken) {
+        return Optional.ofNullable(selectGateEntries()
+                .where(qrKeyIn(List.of(qrToken)))
+                .fetchOne());
+    }
+
+    @Override
+    public List<CheckinTarget> findCheckinTargetsForUpdate(Collection<Long> reservationIds) {
+        return queryFactory
+                .select(Projections.constructor(CheckinTarget.class,
+                        reservation.id,
+                        reservation.eventSchedule.id,
+                        reservation.qrToken,
+                        reservation.ticketCount))
+                .from(reservation)
+                .where(
+                        reservation.id.in(reservationIds),
+                        reservation.status.eq(ReservationStatus.CONFIRMED),
+                        reservation.isCheckedIn.isFalse()
+                )
+                .orderBy(reservation.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public List<CheckinCandidate> findCheckinCandidatesForUpdate(Collection<QrToken> qrTokens) {
+        return queryFactory
+                .select(Projections.constructor(CheckinCandidate.class,
+                        reservation.id,
+                        reservation.eventSchedule.id,
+                        reservation.qrToken,
+                        reservation.guestName,
+                        reservation.ticketCount,
+                        reservation.status,
+                        reservation.isCheckedIn))
+                .from(reservation)
+                .where(qrKeyIn(qrTokens))
+                .orderBy(reservation.id.asc())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    @Override
+    public long countReservations(Long scheduleId, List<Long> scheduleIds, String keyword,
+                                  String phoneHash, String phoneSuffixHash) {
+        Long count = queryFactory
+                .select(reservation.count())
+                .from(reservation)
+                .where(searchCondition(scheduleId, scheduleIds, keyword, phoneHash, phoneSuffixHash))
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 롤링 배포 중 이전 버전은 qr_key 없이 UUID 토큰만 저장하므로, 그 행은 같은 128비트 값의 UUID 문자열로 찾는다.
+     * (docs/sql/qr-key-migration.sql 2단계로 qr_key가 모두 채워지면 null-key-fallback을 끈다)
+     */
+    private BooleanExpression qrKeyIn(Collection<QrToken> qrTokens) {
+        BooleanExpression byKey = reservation.qrKey.in(qrTokens.stream()
+                .map(QrToken::toBytes)
+                .toList());
+        if (!nullKeyFallback) {
+            return byKey;
+        }
+        return byKey.or(reservation.qrKey.isNull().and(reservation.qrToken.in(qrTokens.stream()
+                .map(QrToken::toLegacyString)
+                .toList())));
+    }
+
+    private BooleanBuilder searchCondition(Long scheduleId, List<Long> scheduleIds, String keyword,
+                                           String phoneHash, String phoneSuffixHash) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // scheduleId 단일 조건 우선
@@ -76,28 +249,104 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
             builder.and(reservation.eventSchedule.id.in(scheduleIds));
         }
 
-        // 키워드 검색 (이름 또는 전화번호)
+        // 키워드 검색 (이름 부분 일치 또는 전화번호 블라인드 인덱스 일치)
+        BooleanBuilder keywordBuilder = new BooleanBuilder();
         if (keyword != null && !keyword.trim().isEmpty()) {
-            String trimmed = keyword.trim();
-            builder.and(
-                    reservation.guestName.containsIgnoreCase(trimmed)
-                            .or(reservation.guestPhoneNumber.containsIgnoreCase(trimmed))
-            );
+            keywordBuilder.or(reservation.guestName.containsIgnoreCase(keyword.trim()));
+        }
+        if (phoneHash != null) {
+            keywordBuilder.or(reservation.guestPhoneHash.eq(phoneHash));
         }
+        if (phoneSuffixHash != null) {
+            keywordBuilder.or(reservation.guestPhoneSuffixHash.eq(phoneSuffixHash));
+        }
+        if (keywordBuilder.hasValue()) {
+            builder.and(keywordBuilder);
+        }
+        return builder;
+    }
 
-        List<Reservation> content = queryFactory
-                .selectFrom(reservation)
-                .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(reservation.id.desc())
+    @Override
+    public List<ReservationSummary> findSummariesByScheduleIds(List<Long> scheduleIds, ReservationStatus status) {
+        if (scheduleIds.isEmpty()) {
+            return List.of();
+        }
+        return selectSummaries()
+                .where(
+                        reservation.eventSchedule.id.in(scheduleIds),
+                        reservation.status.eq(status)
+                )
+                .orderBy(reservation.eventSchedule.id.asc(), reservation.id.asc())
                 .fetch();
+    }
 
-        JPAQuery<Long> countQuery = queryFactory
-                .select(reservation.count())
+    @Override
+    public List<ReservationSummary> findSummariesByScheduleId(Long scheduleId, ReservationStatus status, Long lastSeenId, int limit) {
+        return selectSummaries()
+                .where(
+                        reservation.eventSchedule.id.eq(scheduleId),
+                        reservation.status.eq(status),
+                        lastSeenId != null ? reservation.id.gt(lastSeenId) : null
+                )
+                .orderBy(reservation.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Stream<ReservationExportRow> streamExportRows(List<Long> scheduleIds, ReservationStatus status) {
+        if (scheduleIds.isEmpty()) {
+            return Stream.empty();
+        }
+        return queryFactory
+                .select(Projections.constructor(ReservationExportRow.class,
+                        reservation.id,
+                        eventSchedule.startTime,
+                        reservation.guestName,
+                        reservation.guestPhoneNumber,
+                        reservation.ticketCount,
+                        reservation.status,
+                        reservation.isCheckedIn,
+                        reservation.createdAt,
+                        formAnswer.formQuestion.id,
+                        formAnswer.answerText))
                 .from(reservation)
-                .where(builder);
+                .join(reservation.eventSchedule, eventSchedule)
+                .leftJoin(reservation.formAnswers, formAnswer)
+                .where(
+                        reservation.eventSchedule.id.in(scheduleIds),
+                        reservation.status.eq(status)
+                )
+                .orderBy(reservation.id.asc(), formAnswer.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    private JPAQuery<ReservationSummary> selectSummaries() {
+        return queryFactory
+                .select(Projections.constructor(ReservationSummary.class,
+                        reservation.eventSchedule.id,
+                        reservation.id,
+                        reservation.guestName,
+                        reservation.guestPhoneNumber,
+                        reservation.ticketCount,
+                        reservation.isCheckedIn))
+                .from(reservation);
+    }
+
+    private JPAQuery<GateEntry> selectGateEntries() {
+        return queryFactory
+                .select(Projections.constructor(GateEntry.class,
+                        reservation.id,
+                        eventSchedule.event.id,
+                        eventSchedule.id,
+                        reservation.qrToken,
+                        reservation.guestName,
+                        reservation.ticketCount,
+                        reservation.status,
+                        reservation.isCheckedIn))
+                .from(reservation)
+                .join(reservation.eventSchedule, eventSchedule);
     }
 }
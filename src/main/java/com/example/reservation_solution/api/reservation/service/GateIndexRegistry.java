@@ -0,0 +1,71 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게이트 모드가 열린 이벤트의 QR 인덱스 목록
+ * 게이트 밖에서 발생한 취소·수동 체크인은 커밋 후 열린 인덱스에 반영한다. (열린 게이트는 보통 몇 개뿐이므로 전체를 확인한다)
+ */
+@Component
+public class GateIndexRegistry {
+
+    private final Map<Long, GateQrIndex> indexes = new ConcurrentHashMap<>();
+
+    public GateQrIndex get(Long eventId) {
+        return indexes.get(eventId);
+    }
+
+    public void register(GateQrIndex index) {
+        indexes.put(index.eventId(), index);
+    }
+
+    public GateQrIndex remove(Long eventId) {
+        return indexes.remove(eventId);
+    }
+
+    public void updateStateAfterCommit(String qrToken, int state) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateState(qrToken, state);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateState(qrToken, state);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안에서 인덱스에 먼저 체크인 처리한 토큰을, 트랜잭션이 커밋되지 않으면 확정 상태로 되돌린다.
+     * 그사이 취소된 토큰은 되돌리지 않는다. qrTokens는 커밋 전까지 채워도 된다.
+     */
+    public void revertOnRollback(GateQrIndex index, Collection<QrToken> qrTokens) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    qrTokens.forEach(index::revertCheckIn);
+                }
+            }
+        });
+    }
+
+    private void updateState(String qrToken, int state) {
+        QrToken key = QrToken.parse(qrToken);
+        indexes.values().forEach(index -> index.updateState(key, state));
+    }
+}
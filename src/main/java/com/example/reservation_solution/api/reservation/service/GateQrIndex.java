@@ -0,0 +1,227 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.GateEntry;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게이트 모드용 이벤트 단위 QR 인덱스
+ * - QR 토큰 문자열 대신 토큰의 128비트 값(long 2개)을 키로 보관하는 open addressing 테이블이다.
+ * - 슬롯마다 예약 ID·스케줄 ID·티켓 수·상태를 기본형 배열에 두므로 항목당 객체를 만들지 않는다. (게스트 이름만 응답용으로 보관)
+ * - 상태 전이(확정 → 체크인)는 슬롯 단위 CAS로 처리하여 여러 게이트의 동시 스캔에서도 한 번만 성공한다.
+ * - 적재 후 추가되는 예약(조회 미스 후 DB에서 찾은 예약)만 쓰기 락을 잡는다.
+ */
+public final class GateQrIndex {
+
+    public static final int EMPTY = 0;
+    public static final int CONFIRMED = 1;
+    public static final int CHECKED_IN = 2;
+    public static final int CANCELLED = 3;
+
+    private final Long eventId;
+    private final String hostEmail;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] keyHigh;
+    private long[] keyLow;
+    private long[] reservationIds;
+    private long[] scheduleIds;
+    private int[] ticketCounts;
+    private String[] guestNames;
+    private AtomicIntegerArray states;
+    private int mask;
+    private int size;
+
+    public GateQrIndex(Long eventId, String hostEmail, List<GateEntry> entries) {
+        this.eventId = eventId;
+        this.hostEmail = hostEmail;
+        allocate(capacityFor(entries.size()));
+        entries.forEach(this::insert);
+    }
+
+    public Long eventId() {
+        return eventId;
+    }
+
+    public String hostEmail() {
+        return hostEmail;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 확정 상태인 예약만 체크인 상태로 바꾼다.
+     * @return 스캔 결과, 인덱스에 없는 토큰이면 null
+     */
+    public CheckinResult checkIn(QrToken qrToken) {
+        lock.readLock().lock();
+        try {
+            int slot = find(qrToken.high(), qrToken.low());
+            if (slot < 0) {
+                return null;
+            }
+            int state = states.get(slot);
+            if (state == CONFIRMED && states.compareAndSet(slot, CONFIRMED, CHECKED_IN)) {
+                return new CheckinResult(true, CHECKED_IN, reservationIds[slot], scheduleIds[slot],
+                        ticketCounts[slot], guestNames[slot]);
+            }
+            // CAS에 실패했다면 다른 게이트가 먼저 체크인했거나 그사이 취소된 것이므로 현재 상태로 응답한다.
+            return new CheckinResult(false, states.get(slot), reservationIds[slot], scheduleIds[slot],
+                    ticketCounts[slot], guestNames[slot]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(GateEntry entry) {
+        lock.writeLock().lock();
+        try {
+            QrToken key = QrToken.parse(entry.qrToken());
+            if (find(key.high(), key.low()) >= 0) {
+                return;
+            }
+            if ((size + 1) * 2 > keyHigh.length) {
+                rehash(keyHigh.length * 2);
+            }
+            insert(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게이트 밖(호스트 수동 체크인, 취소)에서 바뀐 상태를 반영한다. 인덱스에 없는 토큰이면 무시한다.
+     */
+    public void updateState(QrToken qrToken, int state) {
+        lock.readLock().lock();
+        try {
+            int slot = find(qrToken.high(), qrToken.low());
+            if (slot >= 0) {
+                states.set(slot, state);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에서 먼저 체크인한 예약의 DB 반영이 롤백되었을 때 확정 상태로 되돌린다.
+     * 체크인 상태일 때만 되돌리므로, 그사이 취소된 예약을 다시 입장 가능하게 만들지 않는다.
+     */
+    public void revertCheckIn(QrToken qrToken) {
+        lock.readLock().lock();
+        try {
+            int slot = find(qrToken.high(), qrToken.low());
+            if (slot >= 0) {
+                states.compareAndSet(slot, CHECKED_IN, CONFIRMED);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static int stateOf(GateEntry entry) {
+        if (entry.status() == ReservationStatus.CANCELLED) {
+            return CANCELLED;
+        }
+        return Boolean.TRUE.equals(entry.isCheckedIn()) ? CHECKED_IN : CONFIRMED;
+    }
+
+    private void insert(GateEntry entry) {
+        QrToken key = QrToken.parse(entry.qrToken());
+        int slot = slotOf(key.high(), key.low());
+        while (states.get(slot) != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        keyHigh[slot] = key.high();
+        keyLow[slot] = key.low();
+        reservationIds[slot] = entry.id();
+        scheduleIds[slot] = entry.scheduleId();
+        ticketCounts[slot] = entry.ticketCount();
+        guestNames[slot] = entry.guestName();
+        states.set(slot, stateOf(entry));
+        size++;
+    }
+
+    private int find(long high, long low) {
+        int slot = slotOf(high, low);
+        while (true) {
+            if (states.get(slot) == EMPTY) {
+                return -1;
+            }
+            if (keyHigh[slot] == high && keyLow[slot] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldHigh = keyHigh;
+        long[] oldLow = keyLow;
+        long[] oldReservationIds = reservationIds;
+        long[] oldScheduleIds = scheduleIds;
+        int[] oldTicketCounts = ticketCounts;
+        String[] oldGuestNames = guestNames;
+        AtomicIntegerArray oldStates = states;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldHigh.length; i++) {
+            int state = oldStates.get(i);
+            if (state == EMPTY) {
+                continue;
+            }
+            int slot = slotOf(oldHigh[i], oldLow[i]);
+            while (states.get(slot) != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keyHigh[slot] = oldHigh[i];
+            keyLow[slot] = oldLow[i];
+            reservationIds[slot] = oldReservationIds[i];
+            scheduleIds[slot] = oldScheduleIds[i];
+            ticketCounts[slot] = oldTicketCounts[i];
+            guestNames[slot] = oldGuestNames[i];
+            states.set(slot, state);
+            size++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keyHigh = new long[capacity];
+        keyLow = new long[capacity];
+        reservationIds = new long[capacity];
+        scheduleIds = new long[capacity];
+        ticketCounts = new int[capacity];
+        guestNames = new String[capacity];
+        states = new AtomicIntegerArray(capacity);
+        mask = capacity - 1;
+    }
+
+    private int slotOf(long high, long low) {
+        // 토큰 값은 난수(기존 UUID는 버전·variant 비트 외 난수)이므로 하위 비트를 그대로 사용한다.
+        return (int) (low ^ high) & mask;
+    }
+
+    private static int capacityFor(int entries) {
+        // 적재율 50% 이하가 되도록 2의 거듭제곱 크기로 잡는다.
+        return Integer.highestOneBit(Math.max(8, entries) * 2 - 1) << 1;
+    }
+
+    /**
+     * @param admitted 이 스캔으로 체크인되었는지 여부
+     * @param state 스캔 시점의 상태
+     */
+    public record CheckinResult(boolean admitted, int state, long reservationId, long scheduleId, int ticketCount, String guestName) {
+    }
+}
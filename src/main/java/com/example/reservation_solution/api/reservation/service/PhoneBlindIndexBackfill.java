@@ -0,0 +1,112 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.Reservation;
+import com.example.reservation_solution.api.reservation.repository.ReservationRepository;
+import com.example.reservation_solution.global.exception.LockAcquisitionException;
+import com.example.reservation_solution.global.lock.LockExecutor;
+import com.example.reservation_solution.global.migration.MigrationMarker;
+import com.example.reservation_solution.global.util.BlindIndexUtils;
+import com.example.reservation_solution.global.util.EncryptionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 블라인드 인덱스 컬럼이 추가되기 전에 저장된 예약의 phoneHash / phoneSuffixHash를 채운다.
+ * - 기동 후 비동기로 500건씩 나누어 처리한다. 복호화 키가 애플리케이션에 있으므로 SQL 마이그레이션으로 옮길 수 없다.
+ * - 분산 락으로 한 노드만 실행하고, 락을 얻지 못한 노드는 건너뛴다.
+ * - 끝나면 MigrationMarker에 완료를 기록하므로 이후 기동에서는 대상을 다시 조회하지 않는다.
+ *   새 예약은 항상 블라인드 인덱스와 함께 저장되므로 한 번 끝난 백필은 다시 필요하지 않다.
+ */
+@Slf4j
+@Component
+public class PhoneBlindIndexBackfill {
+
+    private static final String MIGRATION_NAME = "phone-blind-index-backfill";
+    private static final String LOCK_KEY = "migration:" + MIGRATION_NAME;
+
+    private final ReservationRepository reservationRepository;
+    private final EncryptionUtils encryptionUtils;
+    private final BlindIndexUtils blindIndexUtils;
+    private final ReservationSearchIndex reservationSearchIndex;
+    private final LockExecutor lockExecutor;
+    private final MigrationMarker migrationMarker;
+    private final TransactionTemplate transactionTemplate;
+
+    public PhoneBlindIndexBackfill(ReservationRepository reservationRepository,
+                                   EncryptionUtils encryptionUtils,
+                                   BlindIndexUtils blindIndexUtils,
+                                   ReservationSearchIndex reservationSearchIndex,
+                                   LockExecutor lockExecutor,
+                                   MigrationMarker migrationMarker,
+                                   PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.encryptionUtils = encryptionUtils;
+        this.blindIndexUtils = blindIndexUtils;
+        this.reservationSearchIndex = reservationSearchIndex;
+        this.lockExecutor = lockExecutor;
+        this.migrationMarker = migrationMarker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (migrationMarker.isDone(MIGRATION_NAME)) {
+            return;
+        }
+        try {
+            lockExecutor.executeWithLock(LOCK_KEY, () -> {
+                // 락을 기다리는 동안 다른 노드가 끝냈을 수 있다.
+                if (migrationMarker.isDone(MIGRATION_NAME)) {
+                    return;
+                }
+                backfillAll();
+                migrationMarker.markDone(MIGRATION_NAME);
+            });
+        } catch (LockAcquisitionException e) {
+            log.info("다른 노드가 전화번호 블라인드 인덱스 백필을 실행 중이므로 건너뜁니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("전화번호 블라인드 인덱스 백필 대기 중 인터럽트");
+        }
+    }
+
+    private void backfillAll() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            long cursor = lastId;
+            List<Long> processedIds = transactionTemplate.execute(status -> backfillChunk(cursor));
+            if (processedIds == null || processedIds.isEmpty()) {
+                break;
+            }
+            total += processedIds.size();
+            lastId = processedIds.get(processedIds.size() - 1);
+        }
+        if (total > 0) {
+            // 백필 전에 적재된 검색 인덱스에는 전화번호 해시가 비어 있으므로 다시 적재하게 한다.
+            reservationSearchIndex.invalidateAll();
+            log.info("전화번호 블라인드 인덱스 백필 완료: {}건", total);
+        }
+    }
+
+    private List<Long> backfillChunk(long lastId) {
+        List<Reservation> reservations = reservationRepository
+                .findTop500ByIdGreaterThanAndGuestPhoneHashIsNullAndGuestPhoneNumberIsNotNullOrderByIdAsc(lastId);
+        reservations.forEach(reservation -> {
+            String phoneNumber = encryptionUtils.decrypt(reservation.getGuestPhoneNumber());
+            reservation.assignPhoneBlindIndex(
+                    blindIndexUtils.phoneHash(phoneNumber),
+                    blindIndexUtils.phoneSuffixHash(phoneNumber)
+            );
+        });
+        return reservations.stream().map(Reservation::getId).toList();
+    }
+}
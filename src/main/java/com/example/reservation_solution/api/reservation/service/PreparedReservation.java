@@ -0,0 +1,24 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.dto.FormAnswerResponse;
+import com.example.reservation_solution.api.reservation.dto.ReservationRequest;
+
+import java.util.List;
+
+/**
+ * 트랜잭션 밖에서 검증을 마친 예약 요청
+ * 블라인드 인덱스·암호문·답변을 미리 계산해 두어, 트랜잭션 안에서는 좌석 반영과 INSERT만 수행한다.
+ *
+ * @param answers 저장할 답변 (질문 문구는 응답 생성용)
+ */
+public record PreparedReservation(ReservationRequest request, String phoneHash, String phoneSuffixHash,
+                                  String encryptedPhoneNumber, List<FormAnswerResponse> answers) {
+
+    public Long scheduleId() {
+        return request.getScheduleId();
+    }
+
+    public int ticketCount() {
+        return request.getTicketCount();
+    }
+}
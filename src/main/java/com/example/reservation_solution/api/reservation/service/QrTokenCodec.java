@@ -0,0 +1,119 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * QR 토큰 발급과 검증
+ * - 발급: 128비트 난수를 22자 문자열로 만들고, hmac-key가 설정되어 있으면 HMAC-SHA256 앞 6바이트(8자)를 태그로 붙인다.
+ * - 검증: 형식이 맞지 않거나 태그가 틀린 토큰은 DB 조회 전에 거절하고, 조회에는 128비트 값(qr_key)을 사용한다.
+ * - 태그가 없는 22자 토큰은 accept-unsigned가 true일 때만 허용한다. 키 없이 기동하려면 accept-unsigned를 명시적으로 켜야 한다.
+ * - 태그가 없는 기존 UUID 토큰은 accept-legacy가 true인 동안만 허용한다.
+ */
+@Component
+public class QrTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int TAG_BYTES = 6;
+    private static final int TAG_LENGTH = 8;
+
+    private final Mac prototype;
+    private final boolean acceptUnsigned;
+    private final boolean acceptLegacy;
+
+    /**
+     * @throws IllegalStateException hmac-key가 없는데 accept-unsigned가 false인 경우
+     */
+    public QrTokenCodec(@Value("${reservation.qr-token.hmac-key:}") String hmacKey,
+                        @Value("${reservation.qr-token.accept-unsigned:false}") boolean acceptUnsigned,
+                        @Value("${reservation.qr-token.accept-legacy:true}") boolean acceptLegacy) {
+        if (hmacKey.isBlank() && !acceptUnsigned) {
+            throw new IllegalStateException(
+                    "reservation.qr-token.hmac-key가 설정되지 않았습니다. 서명 없이 운영하려면 accept-unsigned를 true로 설정하세요.");
+        }
+        this.prototype = hmacKey.isBlank() ? null : createMac(hmacKey);
+        this.acceptUnsigned = acceptUnsigned;
+        this.acceptLegacy = acceptLegacy;
+    }
+
+    public String issue() {
+        QrToken token = QrToken.random();
+        if (prototype == null) {
+            return token.toCompactString();
+        }
+        return token.toCompactString() + Base64.getUrlEncoder().withoutPadding().encodeToString(tag(token));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않거나 서명이 유효하지 않은 토큰
+     */
+    public QrToken resolve(String qrToken) {
+        QrToken token = resolveOrNull(qrToken);
+        if (token == null) {
+            throw new IllegalArgumentException("존재하지 않는 QR 토큰입니다.");
+        }
+        return token;
+    }
+
+    /**
+     * @return 형식이 맞지 않거나 서명이 유효하지 않으면 null
+     */
+    public QrToken resolveOrNull(String qrToken) {
+        QrToken token = QrToken.parse(qrToken);
+        if (token == null || !isAcceptable(qrToken, token)) {
+            return null;
+        }
+        return token;
+    }
+
+    private boolean isAcceptable(String qrToken, QrToken token) {
+        if (QrToken.isLegacy(qrToken)) {
+            return acceptLegacy;
+        }
+        if (qrToken.length() == QrToken.COMPACT_LENGTH) {
+            return acceptUnsigned;
+        }
+        if (prototype == null || qrToken.length() != QrToken.COMPACT_LENGTH + TAG_LENGTH) {
+            return false;
+        }
+        byte[] provided;
+        try {
+            provided = Base64.getUrlDecoder().decode(qrToken.substring(QrToken.COMPACT_LENGTH));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(provided, tag(token));
+    }
+
+    private byte[] tag(QrToken token) {
+        return Arrays.copyOf(newMac().doFinal(token.toBytes()), TAG_BYTES);
+    }
+
+    private Mac newMac() {
+        // 초기화된 Mac을 복제하면 키 설정 비용 없이 스레드마다 독립된 인스턴스를 얻는다.
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("QR 토큰 서명 초기화 실패", e);
+        }
+    }
+
+    private static Mac createMac(String hmacKey) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(hmacKey.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("QR 토큰 서명 초기화 실패", e);
+        }
+    }
+}
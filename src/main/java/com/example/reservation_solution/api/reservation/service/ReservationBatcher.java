@@ -0,0 +1,207 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.dto.ReservationResponse;
+import com.example.reservation_solution.global.exception.ReservationPendingException;
+import com.example.reservation_solution.global.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 스케줄별 예약 생성 요청을 짧은 시간 동안 모아 한 트랜잭션으로 처리하는 그룹 커밋 배처
+ * - 비어 있는 배치에 처음 들어온 요청이 리더가 되어 windowMillis 동안(또는 maxSize가 찰 때까지) 요청을 모은 뒤 직접 실행한다.
+ * - 나머지 요청은 자신의 결과가 완료될 때까지 대기하므로 별도의 작업 스레드가 필요 없다.
+ * - 요청별 검증 실패는 해당 요청에만 전달되고, 트랜잭션 자체가 실패하면(Error 포함) 배치의 모든 요청이 같은 예외로 실패한다.
+ * - 결과는 await-timeout-millis까지만 기다린다. 리더가 아직 실행하지 않은 요청은 포기 표시를 남겨 배치에서 빠지고(503),
+ *   이미 실행 중인 요청은 ReservationPendingException(503)으로 응답한 뒤 배치 결과를 lateOutcome으로 넘긴다.
+ *   이때 예약은 늦게 커밋될 수 있으므로, 클라이언트는 Idempotency-Key 재시도나 예약 조회로 결과를 확인해야 한다.
+ */
+@Slf4j
+@Component
+public class ReservationBatcher {
+
+    private final ReservationService reservationService;
+    private final long windowNanos;
+    private final int maxSize;
+    private final long awaitTimeoutMillis;
+    private final ConcurrentHashMap<Long, ScheduleSlot> slots = new ConcurrentHashMap<>();
+
+    public ReservationBatcher(ReservationService reservationService,
+                              @Value("${reservation.batch.window-millis:3}") long windowMillis,
+                              @Value("${reservation.batch.max-size:64}") int maxSize,
+                              @Value("${reservation.batch.await-timeout-millis:10000}") long awaitTimeoutMillis) {
+        this.reservationService = reservationService;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxSize = maxSize;
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    /**
+     * @param lateOutcome 대기 시간이 지난 뒤 끝난 배치의 결과(성공이면 응답, 실패면 예외). 리더 스레드에서 호출될 수 있다.
+     */
+    public ReservationResponse submit(PreparedReservation request,
+                                      BiConsumer<ReservationResponse, Throwable> lateOutcome) {
+        ScheduleSlot slot = slots.computeIfAbsent(request.scheduleId(), id -> new ScheduleSlot());
+        Batch batch;
+        Entry entry = new Entry(request);
+        boolean leader;
+        slot.lock.lock();
+        try {
+            leader = slot.open == null;
+            if (leader) {
+                slot.open = new Batch();
+            }
+            batch = slot.open;
+            batch.entries.add(entry);
+            if (batch.size() >= maxSize) {
+                slot.open = null;
+                slot.filled.signalAll();
+            }
+        } finally {
+            slot.lock.unlock();
+        }
+        if (leader) {
+            awaitWindow(slot, batch);
+            execute(request.scheduleId(), batch);
+        }
+        return await(entry, lateOutcome);
+    }
+
+    private void awaitWindow(ScheduleSlot slot, Batch batch) {
+        slot.lock.lock();
+        try {
+            long remaining = windowNanos;
+            while (slot.open == batch && remaining > 0) {
+                remaining = slot.filled.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 대기가 끝나면 배치를 닫아 이후 요청은 새 배치로 들어가게 한다.
+            if (slot.open == batch) {
+                slot.open = null;
+            }
+            slot.lock.unlock();
+        }
+    }
+
+    private void execute(Long scheduleId, Batch batch) {
+        // 대기 시간이 지나 포기한 요청은 빼고 실행한다. (그 요청은 이미 좌석을 돌려받았다)
+        List<Entry> taken = batch.entries.stream()
+                .filter(Entry::take)
+                .toList();
+        if (taken.isEmpty()) {
+            return;
+        }
+        try {
+            List<ReservationOutcome> outcomes = reservationService.createReservations(scheduleId,
+                    taken.stream().map(Entry::request).toList());
+            for (int i = 0; i < outcomes.size(); i++) {
+                ReservationOutcome outcome = outcomes.get(i);
+                if (outcome.isSuccess()) {
+                    taken.get(i).result.complete(outcome.response());
+                } else {
+                    taken.get(i).result.completeExceptionally(outcome.error());
+                }
+            }
+            log.debug("예약 배치 처리: scheduleId={}, size={}, abandoned={}",
+                    scheduleId, taken.size(), batch.entries.size() - taken.size());
+        } catch (Throwable e) {
+            // Error로 끝나도 대기 중인 요청이 영원히 기다리지 않도록 모든 결과를 완료한다.
+            taken.forEach(entry -> entry.result.completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private ReservationResponse await(Entry entry, BiConsumer<ReservationResponse, Throwable> lateOutcome) {
+        try {
+            return entry.result.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("예약 처리에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("예약 배치 결과 대기 시간 초과: timeoutMillis={}", awaitTimeoutMillis);
+            throw giveUp(entry, lateOutcome, ServiceUnavailableException.reservationTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw giveUp(entry, lateOutcome, ServiceUnavailableException.interrupted());
+        }
+    }
+
+    /**
+     * 리더가 아직 가져가지 않았으면 포기 표시를 남겨 배치에서 빼고, 이미 실행 중이면 결과를 lateOutcome에 맡긴다.
+     */
+    private ServiceUnavailableException giveUp(Entry entry, BiConsumer<ReservationResponse, Throwable> lateOutcome,
+                                               ServiceUnavailableException abandoned) {
+        if (entry.abandon()) {
+            return abandoned;
+        }
+        entry.result.whenComplete((response, error) ->
+                lateOutcome.accept(response, error instanceof CompletionException ? error.getCause() : error));
+        return new ReservationPendingException();
+    }
+
+    private static final class ScheduleSlot {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition filled = lock.newCondition();
+        private Batch open;
+    }
+
+    private static final class Batch {
+
+        private final List<Entry> entries = new ArrayList<>();
+
+        private int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry {
+
+        private static final int WAITING = 0;
+        private static final int TAKEN = 1;
+        private static final int ABANDONED = 2;
+
+        private final PreparedReservation request;
+        private final CompletableFuture<ReservationResponse> result = new CompletableFuture<>();
+        // 리더의 실행(take)과 대기자의 포기(abandon) 중 먼저 CAS한 쪽만 성공한다.
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Entry(PreparedReservation request) {
+            this.request = request;
+        }
+
+        private PreparedReservation request() {
+            return request;
+        }
+
+        private boolean take() {
+            return state.compareAndSet(WAITING, TAKEN);
+        }
+
+        private boolean abandon() {
+            return state.compareAndSet(WAITING, ABANDONED);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.Reservation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QR 예약 조회(GET /api/reservations/qr/{qrToken})의 최근 ETag를 qrToken별로 보관한다.
+ * - 클라이언트의 If-None-Match가 보관된 ETag와 같으면 DB 조회 없이 304로 응답할 수 있다.
+ * - ETag는 예약·이벤트의 contentVersion과 스케줄 예약 수로 만든다.
+ * - 이 노드에서 취소/체크인이 커밋되면 즉시 제거하고, 다른 노드의 변경은 TTL 이내에 반영된다.
+ */
+@Component
+public class ReservationEtagCache {
+
+    private final Cache<String, String> etags;
+
+    public ReservationEtagCache(@Value("${reservation.etag-cache.max-size:100000}") long maxSize,
+                                @Value("${reservation.etag-cache.ttl-seconds:10}") long ttlSeconds) {
+        this.etags = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public static String etagOf(Reservation reservation) {
+        return "\"r" + reservation.getContentVersion()
+                + "." + reservation.getEventSchedule().getEvent().getContentVersion()
+                + "." + reservation.getEventSchedule().getReservedCount() + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더에 보관된 ETag가 포함되어 있으면 보관된 ETag를, 아니면 null을 반환한다.
+     */
+    public String findMatching(String qrToken, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String etag = etags.getIfPresent(qrToken);
+        return etag != null && ifNoneMatch.contains(etag) ? etag : null;
+    }
+
+    public void put(String qrToken, String etag) {
+        etags.put(qrToken, etag);
+    }
+
+    public void evictAfterCommit(String qrToken) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            etags.invalidate(qrToken);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                etags.invalidate(qrToken);
+            }
+        });
+    }
+}
@@ -1,28 +1,173 @@
 package com.example.reservation_solution.api.reservation.service;
 
+import com.example.reservation_solution.api.queue.service.WaitingRoomService;
+import com.example.reservation_solution.api.reservation.dto.FormAnswerRequest;
 import com.example.reservation_solution.api.reservation.dto.ReservationRequest;
 import com.example.reservation_solution.api.reservation.dto.ReservationResponse;
+import com.example.reservation_solution.global.exception.ConflictException;
+import com.example.reservation_solution.global.exception.IdempotencyException;
+import com.example.reservation_solution.global.idempotency.IdempotencyStore;
 import com.example.reservation_solution.global.exception.LockAcquisitionException;
+import com.example.reservation_solution.global.exception.ReservationPendingException;
 import com.example.reservation_solution.global.lock.LockExecutor;
 import com.example.reservation_solution.global.lock.LockKeyGenerator;
+import com.example.reservation_solution.global.util.BlindIndexUtils;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReservationFacade {
 
+    private static final String IDEMPOTENCY_KEY_PREFIX = "reservation:";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final ReservationService reservationService;
+    private final ReservationValidator reservationValidator;
+    private final ReservationBatcher reservationBatcher;
     private final LockExecutor lockExecutor;
+    private final SeatInventory seatInventory;
+    private final WaitingRoomService waitingRoomService;
+    private final IdempotencyStore idempotencyStore;
+    private final BlindIndexUtils blindIndexUtils;
+
+    // 스케줄 락이 없으므로 같은 게스트의 동시 요청은 여기서 걸러 중복 예약 검증의 경쟁 조건을 막는다.
+    private final Set<String> inFlightGuests = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Idempotency-Key가 있으면 같은 key의 재시도에 저장된 응답을 돌려주고, 처리 중이면 그 결과를 기다린다.
+     * 재시도는 대기열·좌석·DB를 다시 거치지 않는다.
+     */
+    public ReservationResponse createReservation(ReservationRequest request, String queueToken, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return createReservation(request, queueToken);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw IdempotencyException.invalidKey();
+        }
+        return idempotencyStore.execute(IDEMPOTENCY_KEY_PREFIX + idempotencyKey, fingerprint(request),
+                ReservationResponse.class, () -> createReservation(request, queueToken));
+    }
 
-    public ReservationResponse createReservation(ReservationRequest request) {
-        String lockKey = LockKeyGenerator.schedule(request.getScheduleId());
+    /**
+     * 같은 key로 이름·전화번호·답변 중 하나라도 다른 예약을 보내는 경우를 가려내되, 저장소에 평문을 남기지 않는다.
+     * 답변 순서만 다른 요청은 같은 요청으로 본다.
+     */
+    private String fingerprint(ReservationRequest request) {
+        StringBuilder canonical = new StringBuilder()
+                .append(request.getScheduleId()).append('|')
+                .append(request.getTicketCount()).append('|');
+        appendField(canonical, request.getGuestName());
+        appendField(canonical, request.getGuestPhoneNumber());
+        if (request.getAnswers() != null) {
+            request.getAnswers().stream()
+                    .sorted(Comparator.comparing(FormAnswerRequest::questionId,
+                            Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .forEach(answer -> {
+                        canonical.append(answer.questionId()).append('=');
+                        appendField(canonical, answer.answerText());
+                    });
+        }
+        return blindIndexUtils.fingerprint(canonical.toString());
+    }
+
+    private static void appendField(StringBuilder canonical, String value) {
+        // 길이를 앞에 붙여, 값에 구분자가 들어 있어도 서로 다른 요청이 같은 문자열이 되지 않게 한다.
+        if (value == null) {
+            canonical.append("-|");
+            return;
+        }
+        canonical.append(value.length()).append(':').append(value).append('|');
+    }
+
+    /**
+     * 스케줄 락 없이 SeatInventory에서 좌석을 먼저 선점한 뒤, 같은 스케줄의 동시 요청과 묶어 한 트랜잭션으로 실행한다.
+     * 요청이 실패하면 선점한 좌석을 반환한다.
+     * 대기열에서 입장이 허용된 토큰만 진입할 수 있고, 토큰 하나로는 한 요청만 진행한다.
+     * 예약에 성공하면 입장 자리를 반납하고, 실패하면 같은 토큰으로 다시 시도할 수 있게 묶음을 푼다.
+     * 답변 검증과 암호화는 좌석 선점 전에 끝내므로, 잘못된 요청은 좌석과 DB 커넥션을 점유하지 않는다.
+     * 같은 게스트의 동시 요청은 정규화한 전화번호의 블라인드 인덱스로 걸러, 번호 표기가 달라도 한 요청만 진행한다.
+     * 배치가 이미 실행 중인데 대기 시간이 지나면(ReservationPendingException) 좌석·입장 자리·중복 요청 가드는 배치 결과가 정리한다.
+     */
+    public ReservationResponse createReservation(ReservationRequest request, String queueToken) {
+        Long scheduleId = request.getScheduleId();
+        waitingRoomService.claimAdmission(scheduleId, queueToken);
+        PreparedReservation prepared;
+        ReservationResponse response;
         try {
-            return lockExecutor.executeWithLock(lockKey,
-                    () -> reservationService.createReservation(request));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw LockAcquisitionException.interrupted();
+            prepared = reservationValidator.prepare(request);
+            response = reserve(scheduleId, prepared, queueToken);
+        } catch (ReservationPendingException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            waitingRoomService.releaseAdmission(scheduleId, queueToken);
+            throw e;
+        }
+        completeAfterCommit(scheduleId, prepared.ticketCount(), queueToken);
+        return response;
+    }
+
+    private ReservationResponse reserve(Long scheduleId, PreparedReservation prepared, String queueToken) {
+        int ticketCount = prepared.ticketCount();
+        String guestKey = scheduleId + ":" + prepared.phoneHash();
+        if (!inFlightGuests.add(guestKey)) {
+            throw ConflictException.duplicateReservation();
+        }
+        boolean pending = false;
+        try {
+            if (!seatInventory.tryReserve(scheduleId, ticketCount)) {
+                throw new IllegalStateException("예약 가능 좌석을 초과했습니다. (요청: " + ticketCount + ")");
+            }
+            try {
+                return reservationBatcher.submit(prepared, (response, error) ->
+                        settleLate(guestKey, scheduleId, ticketCount, queueToken, error));
+            } catch (ReservationPendingException e) {
+                pending = true;
+                throw e;
+            } catch (RuntimeException e) {
+                seatInventory.abort(scheduleId, ticketCount);
+                throw e;
+            }
+        } finally {
+            if (!pending) {
+                inFlightGuests.remove(guestKey);
+            }
+        }
+    }
+
+    /**
+     * 응답한 뒤에 끝난 배치의 결과로, 커밋되었으면 좌석을 확정하고 아니면 좌석과 입장 자리를 돌려준다.
+     * 그때까지 같은 게스트의 재시도는 중복 요청으로 거절된다.
+     */
+    private void settleLate(String guestKey, Long scheduleId, int ticketCount, String queueToken, Throwable error) {
+        try {
+            if (error == null) {
+                completeAfterCommit(scheduleId, ticketCount, queueToken);
+                return;
+            }
+            seatInventory.abort(scheduleId, ticketCount);
+            waitingRoomService.releaseAdmission(scheduleId, queueToken);
+        } finally {
+            inFlightGuests.remove(guestKey);
+        }
+    }
+
+    /**
+     * 예약은 이미 커밋되었으므로 여기서 실패해도 좌석을 돌려주지 않는다. (돌려주면 카운터가 DB보다 많아져 초과 판매된다)
+     */
+    private void completeAfterCommit(Long scheduleId, int ticketCount, String queueToken) {
+        seatInventory.confirm(scheduleId, ticketCount);
+        try {
+            waitingRoomService.complete(scheduleId, queueToken);
+        } catch (RuntimeException e) {
+            // 입장 자리는 admission-ttl이 지나면 회수된다.
+            log.warn("대기열 입장 자리 반납 실패: scheduleId={}", scheduleId, e);
         }
     }
 
@@ -30,8 +175,9 @@ public class ReservationFacade {
         Long scheduleId = reservationService.getScheduleIdByReservationId(reservationId);
         String lockKey = LockKeyGenerator.schedule(scheduleId);
         try {
-            lockExecutor.executeWithLock(lockKey,
-                    () -> reservationService.cancelReservation(reservationId));
+            // 좌석 반환까지 락 안에서 해야 SeatInventory 재적재가 취소를 두 번 반영하지 않는다.
+            lockExecutor.executeWithLock(lockKey, () -> seatInventory.release(scheduleId,
+                    reservationService.cancelReservation(scheduleId, reservationId)));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw LockAcquisitionException.interrupted();
@@ -0,0 +1,21 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.dto.ReservationResponse;
+
+/**
+ * 일괄 예약 처리에서 요청 하나의 결과 (성공 응답 또는 실패 예외 중 하나)
+ */
+public record ReservationOutcome(ReservationResponse response, RuntimeException error) {
+
+    public static ReservationOutcome success(ReservationResponse response) {
+        return new ReservationOutcome(response, null);
+    }
+
+    public static ReservationOutcome failure(RuntimeException error) {
+        return new ReservationOutcome(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.Reservation;
+import com.example.reservation_solution.api.reservation.dto.ReservationSearchEntry;
+import com.example.reservation_solution.api.reservation.repository.ReservationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 호스트 예약자 검색용 메모리 인덱스 (스케줄 단위)
+ * - 게스트 이름을 소문자로 정규화해 1글자·2글자 n-gram 포스팅 목록을 만들고,
+ *   검색어의 가장 짧은 포스팅 목록만 후보로 삼아 contains로 확인한다. (LIKE '%kw%' 전체 스캔 대체)
+ * - 전화번호 전체/끝 4자리 블라인드 인덱스도 함께 보관한다.
+ * - 처음 검색될 때 DB에서 적재하고, 이후 예약 생성은 커밋 후 증분 반영한다.
+ *   취소된 예약도 호스트 목록에 노출되므로 인덱스에서 제거하지 않는다.
+ * - 증분 반영은 이 노드에서 생성된 예약만 받으므로, 적재 후 expire-after-write-seconds가 지나면 버리고 다시 적재한다.
+ *   다른 노드에서 생성된 예약은 최대 그 시간만큼 늦게 검색된다.
+ * - 적재는 호출자 트랜잭션(커넥션)에서 실행한다. 호출자의 스냅샷이 인덱스 등록보다 먼저 잡혔다면
+ *   그 사이에 커밋된 예약도 최대 expire-after-write-seconds만큼 늦게 검색된다.
+ * - 검색 결과는 예약 ID(내림차순)이며, 호출자가 PK로 조회한다.
+ */
+@Slf4j
+@Component
+public class ReservationSearchIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate loadTransaction;
+    private final Cache<Long, ScheduleIndex> indexes;
+
+    public ReservationSearchIndex(ReservationRepository reservationRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${reservation.search-index.max-schedules:1000}") long maxSchedules,
+                                  @Value("${reservation.search-index.expire-after-write-seconds:60}") long expireSeconds) {
+        this.reservationRepository = reservationRepository;
+        // 새 트랜잭션(REQUIRES_NEW)은 호출자의 커넥션을 쥔 채 커넥션을 하나 더 빌리므로,
+        // 동시 검색이 풀 크기에 이르면 서로를 기다리며 멈춘다. 호출자 트랜잭션이 있으면 그대로 참여한다.
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_SUPPORTS);
+        this.loadTransaction.setReadOnly(true);
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxSchedules)
+                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 이름 부분 일치, 전화번호 전체 일치, 끝 4자리 일치 중 하나라도 만족하는 예약 ID를 내림차순으로 반환한다.
+     */
+    public List<Long> search(Collection<Long> scheduleIds, String keyword, String phoneHash, String phoneSuffixHash) {
+        String normalized = normalize(keyword);
+        LongList matches = new LongList();
+        for (Long scheduleId : scheduleIds) {
+            loadIndex(scheduleId).collect(normalized, phoneHash, phoneSuffixHash, matches);
+        }
+        return matches.sortedDistinctDescending();
+    }
+
+    /**
+     * 예약 생성 트랜잭션이 커밋된 뒤 인덱스에 반영한다. 아직 적재되지 않은 스케줄은 다음 검색 때 DB에서 읽는다.
+     */
+    public void addAfterCommit(Long scheduleId, List<Reservation> reservations) {
+        List<ReservationSearchEntry> entries = reservations.stream()
+                .map(ReservationSearchEntry::from)
+                .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(scheduleId, entries);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(scheduleId, entries);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        indexes.invalidateAll();
+    }
+
+    private void add(Long scheduleId, List<ReservationSearchEntry> entries) {
+        ScheduleIndex index = indexes.getIfPresent(scheduleId);
+        if (index != null) {
+            index.add(entries);
+        }
+    }
+
+    private ScheduleIndex loadIndex(Long scheduleId) {
+        // 빈 인덱스를 먼저 등록한 뒤 적재하므로, 적재 중에 커밋된 예약은 증분 반영 또는 적재 쿼리 중 한쪽에 반드시 포함된다.
+        ScheduleIndex index = indexes.get(scheduleId, id -> new ScheduleIndex());
+        index.ensureLoaded(() -> {
+            List<ReservationSearchEntry> entries = loadTransaction.execute(
+                    status -> reservationRepository.findSearchEntriesByScheduleId(scheduleId));
+            log.debug("예약 검색 인덱스 적재: scheduleId={}, size={}", scheduleId, entries == null ? 0 : entries.size());
+            return entries == null ? List.of() : entries;
+        });
+        return index;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class ScheduleIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, String> namesById = new HashMap<>();
+        private final Map<String, LongList> namePostings = new HashMap<>();
+        private final Map<String, LongList> phoneHashPostings = new HashMap<>();
+        private final Map<String, LongList> phoneSuffixPostings = new HashMap<>();
+        private volatile boolean loaded;
+
+        private void ensureLoaded(Supplier<List<ReservationSearchEntry>> loader) {
+            if (loaded) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    loader.get().forEach(this::addEntry);
+                    loaded = true;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void add(List<ReservationSearchEntry> entries) {
+            lock.writeLock().lock();
+            try {
+                entries.forEach(this::addEntry);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void addEntry(ReservationSearchEntry entry) {
+            Long id = entry.id();
+            String name = normalize(entry.guestName());
+            // 증분 반영과 적재 쿼리에 같은 예약이 모두 포함될 수 있으므로 중복을 건너뛴다.
+            if (namesById.putIfAbsent(id, name == null ? "" : name) != null) {
+                return;
+            }
+            if (name != null) {
+                for (String gram : grams(name)) {
+                    namePostings.computeIfAbsent(gram, key -> new LongList()).add(id);
+                }
+            }
+            if (entry.guestPhoneHash() != null) {
+                phoneHashPostings.computeIfAbsent(entry.guestPhoneHash(), key -> new LongList()).add(id);
+            }
+            if (entry.guestPhoneSuffixHash() != null) {
+                phoneSuffixPostings.computeIfAbsent(entry.guestPhoneSuffixHash(), key -> new LongList()).add(id);
+            }
+        }
+
+        private void collect(String keyword, String phoneHash, String phoneSuffixHash, LongList out) {
+            lock.readLock().lock();
+            try {
+                if (keyword != null) {
+                    collectNameMatches(keyword, out);
+                }
+                if (phoneHash != null) {
+                    out.addAll(phoneHashPostings.get(phoneHash));
+                }
+                if (phoneSuffixHash != null) {
+                    out.addAll(phoneSuffixPostings.get(phoneSuffixHash));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void collectNameMatches(String keyword, LongList out) {
+            LongList candidates = null;
+            for (String gram : queryGrams(keyword)) {
+                LongList postings = namePostings.get(gram);
+                if (postings == null) {
+                    return;
+                }
+                if (candidates == null || postings.size < candidates.size) {
+                    candidates = postings;
+                }
+            }
+            if (candidates == null) {
+                return;
+            }
+            // 1~2글자 검색어는 n-gram 자체가 일치 조건이므로 확인 없이 추가한다.
+            boolean verify = keyword.length() > 2;
+            for (int i = 0; i < candidates.size; i++) {
+                long id = candidates.values[i];
+                if (!verify || namesById.get(id).contains(keyword)) {
+                    out.add(id);
+                }
+            }
+        }
+
+        private static List<String> grams(String name) {
+            List<String> grams = new ArrayList<>(name.length() * 2);
+            for (int i = 0; i < name.length(); i++) {
+                grams.add(name.substring(i, i + 1));
+                if (i + 1 < name.length()) {
+                    grams.add(name.substring(i, i + 2));
+                }
+            }
+            return grams;
+        }
+
+        private static List<String> queryGrams(String keyword) {
+            if (keyword.length() == 1) {
+                return List.of(keyword);
+            }
+            List<String> grams = new ArrayList<>(keyword.length() - 1);
+            for (int i = 0; i + 1 < keyword.length(); i++) {
+                grams.add(keyword.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+
+    /**
+     * 박싱 없이 예약 ID를 모으는 가변 배열
+     */
+    private static final class LongList {
+
+        private long[] values = new long[8];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addAll(LongList other) {
+            if (other == null) {
+                return;
+            }
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        private List<Long> sortedDistinctDescending() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            List<Long> result = new ArrayList<>(size);
+            for (int i = sorted.length - 1; i >= 0; i--) {
+                if (i == sorted.length - 1 || sorted[i] != sorted[i + 1]) {
+                    result.add(sorted[i]);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -3,94 +3,231 @@ package com.example.reservation_solution.api.reservation.service;
 import com.example.reservation_solution.api.event.domain.*;
 import com.example.reservation_solution.api.reservation.domain.*;
 import com.example.reservation_solution.api.auth.domain.*;
+import com.example.reservation_solution.api.event.dto.ScheduleResponse;
+import com.example.reservation_solution.api.event.service.FormSchemaCache;
+import com.example.reservation_solution.api.reservation.dto.FormAnswerResponse;
 import com.example.reservation_solution.api.reservation.dto.ReservationRequest;
 import com.example.reservation_solution.api.reservation.dto.ReservationResponse;
 import com.example.reservation_solution.api.reservation.dto.ReservationLookupResponse;
+import com.example.reservation_solution.global.common.dto.VersionedResponse;
+import com.example.reservation_solution.global.exception.LockAcquisitionException;
+import com.example.reservation_solution.global.lock.FencingTokenHolder;
+import com.example.reservation_solution.global.util.BlindIndexUtils;
 import com.example.reservation_solution.global.util.EncryptionUtils;
 import com.example.reservation_solution.api.event.repository.EventScheduleRepository;
 import com.example.reservation_solution.api.event.repository.FormQuestionRepository;
 import com.example.reservation_solution.api.reservation.repository.ReservationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReservationService {
 
+    private static final String CRITICAL_SECTION_TIMER = "reservation.critical.section";
+
     private final ReservationRepository reservationRepository;
     private final EventScheduleRepository eventScheduleRepository;
     private final FormQuestionRepository formQuestionRepository;
     private final EncryptionUtils encryptionUtils;
+    private final BlindIndexUtils blindIndexUtils;
+    private final SeatInventory seatInventory;
+    private final ReservationSearchIndex reservationSearchIndex;
+    private final ReservationEtagCache reservationEtagCache;
+    private final MeterRegistry meterRegistry;
+    private final GateIndexRegistry gateIndexRegistry;
+    private final QrTokenCodec qrTokenCodec;
+    private final FormSchemaCache formSchemaCache;
 
+    /**
+     * 같은 스케줄의 예약 요청을 한 트랜잭션에서 일괄 처리한다. (ReservationBatcher에서 호출)
+     * - 답변 검증·암호화는 ReservationValidator에서 끝났으므로, 여기서는 중복 예약 확인 후 좌석 반영과 INSERT만 수행한다.
+     * - 검증을 통과한 요청의 티켓 수 합계로 조건부 UPDATE를 실행하고, 예약은 한 번에 저장한다.
+     * - 좌석 UPDATE부터 커밋까지(스케줄 행 잠금 구간)는 reservation.critical.section 타이머로 기록한다.
+     * - 요청별 검증 실패는 해당 요청의 결과로만 반환하고 나머지 요청은 계속 처리한다.
+     *   캐시된 스키마 이후 삭제된 질문에 답한 요청도 좌석 반영 전에 여기서 거절하므로, FK 위반으로 배치 전체가 롤백되지 않는다.
+     */
     @Transactional
-    public ReservationResponse createReservation(ReservationRequest request) {
-        EventSchedule schedule = loadEventScheduleOrThrow(request.getScheduleId());
-        String encryptedPhoneNumber = encryptionUtils.encrypt(request.getGuestPhoneNumber());
-        checkDuplicateReservation(request.getScheduleId(), encryptedPhoneNumber);
-        schedule.incrementReservedCount(request.getTicketCount());
+    public List<ReservationOutcome> createReservations(Long scheduleId, List<PreparedReservation> reservations) {
+        ReservationOutcome[] outcomes = new ReservationOutcome[reservations.size()];
+        List<Candidate> candidates = excludeDuplicates(scheduleId, reservations, outcomes);
+        if (candidates.isEmpty()) {
+            return Arrays.asList(outcomes);
+        }
+        EventSchedule schedule = loadEventScheduleWithEventOrThrow(scheduleId);
+        candidates = excludeRemovedQuestions(schedule.getEvent().getId(), candidates, outcomes);
+        if (candidates.isEmpty()) {
+            return Arrays.asList(outcomes);
+        }
+
+        recordCriticalSectionUntilCompletion(Timer.start(meterRegistry));
+        List<Candidate> admitted = increaseReservedCount(scheduleId, candidates, outcomes);
+        if (!admitted.isEmpty()) {
+            List<Reservation> saved = reservationRepository.saveAll(admitted.stream()
+                    .map(candidate -> toReservation(candidate.reservation(), schedule))
+                    .toList());
+            reservationSearchIndex.addAfterCommit(scheduleId, saved);
+            // 벌크 UPDATE는 영속성 컨텍스트에 반영되지 않으므로 조회 시점 값에 이번 배치의 티켓 수를 더한다.
+            ScheduleResponse scheduleResponse = ScheduleResponse.from(schedule)
+                    .withReservedCount(schedule.getReservedCount() + sumTicketCount(admitted));
+            for (int i = 0; i < admitted.size(); i++) {
+                PreparedReservation prepared = admitted.get(i).reservation();
+                outcomes[admitted.get(i).index()] = ReservationOutcome.success(ReservationResponse.of(
+                        saved.get(i), prepared.request().getGuestPhoneNumber(), scheduleResponse, prepared.answers()));
+            }
+        }
+        return Arrays.asList(outcomes);
+    }
+
+    private List<Candidate> excludeDuplicates(Long scheduleId, List<PreparedReservation> reservations,
+                                              ReservationOutcome[] outcomes) {
+        List<String> phoneHashes = reservations.stream()
+                .map(PreparedReservation::phoneHash)
+                .toList();
+        Set<String> reservedPhoneHashes = new HashSet<>(reservationRepository.findReservedPhoneHashes(
+                scheduleId, phoneHashes, ReservationStatus.CONFIRMED));
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            PreparedReservation reservation = reservations.get(i);
+            try {
+                // 같은 배치 안의 중복 요청도 기존 예약과 동일하게 거절한다.
+                checkDuplicateReservation(reservedPhoneHashes, reservation.phoneHash());
+                reservedPhoneHashes.add(reservation.phoneHash());
+                candidates.add(new Candidate(i, reservation));
+            } catch (IllegalStateException e) {
+                outcomes[i] = ReservationOutcome.failure(e);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 답변한 질문 ID를 한 번의 쿼리로 DB와 대조한다. 다른 노드에서 폼이 수정되어 질문이 삭제되었다면 해당 요청만 거절하고
+     * 이 노드의 스키마 캐시를 비워 다음 요청부터 새 스키마로 검증하게 한다.
+     */
+    private List<Candidate> excludeRemovedQuestions(Long eventId, List<Candidate> candidates,
+                                                    ReservationOutcome[] outcomes) {
+        Set<Long> questionIds = new HashSet<>();
+        candidates.forEach(candidate -> candidate.reservation().answers()
+                .forEach(answer -> questionIds.add(answer.getQuestionId())));
+        if (questionIds.isEmpty()) {
+            return candidates;
+        }
+        Set<Long> existingIds = new HashSet<>(formQuestionRepository.findExistingIds(eventId, questionIds));
+        if (existingIds.size() == questionIds.size()) {
+            return candidates;
+        }
+        formSchemaCache.evict(eventId);
+        List<Candidate> valid = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            boolean removed = candidate.reservation().answers().stream()
+                    .map(FormAnswerResponse::getQuestionId)
+                    .anyMatch(questionId -> !existingIds.contains(questionId));
+            if (removed) {
+                outcomes[candidate.index()] = ReservationOutcome.failure(
+                        new IllegalArgumentException("예약 폼이 변경되었습니다. 다시 시도해 주세요."));
+            } else {
+                valid.add(candidate);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * 배치 전체를 한 번의 조건부 UPDATE로 반영한다.
+     * 좌석이 부족하면 DB의 잔여 좌석을 다시 읽어 요청 순서대로 들어가는 만큼만 반영하고 나머지는 거절한다.
+     */
+    private List<Candidate> increaseReservedCount(Long scheduleId, List<Candidate> candidates,
+                                                  ReservationOutcome[] outcomes) {
+        if (eventScheduleRepository.increaseReservedCount(scheduleId, sumTicketCount(candidates)) > 0) {
+            return candidates;
+        }
+        // 메모리 카운터가 DB보다 많은 좌석을 허용한 상태이므로 다음 요청에서 다시 적재한다.
+        seatInventory.invalidate(scheduleId);
+        int available = eventScheduleRepository.findAvailableSeats(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 스케줄입니다."));
+        List<Candidate> admitted = new ArrayList<>();
+        int remaining = available;
+        for (Candidate candidate : candidates) {
+            int ticketCount = candidate.reservation().ticketCount();
+            if (ticketCount <= remaining) {
+                admitted.add(candidate);
+                remaining -= ticketCount;
+            } else {
+                outcomes[candidate.index()] = ReservationOutcome.failure(capacityExceeded(ticketCount, remaining));
+            }
+        }
+        if (!admitted.isEmpty() && eventScheduleRepository.increaseReservedCount(scheduleId, sumTicketCount(admitted)) == 0) {
+            admitted.forEach(candidate -> outcomes[candidate.index()] = ReservationOutcome.failure(
+                    capacityExceeded(candidate.reservation().ticketCount(), available)));
+            return List.of();
+        }
+        return admitted;
+    }
+
+    /**
+     * 질문은 ID로 만든 프록시만 연결하므로 조회 쿼리가 발생하지 않는다. 질문 존재 여부는 excludeRemovedQuestions에서 확인했다.
+     */
+    private Reservation toReservation(PreparedReservation prepared, EventSchedule schedule) {
+        ReservationRequest request = prepared.request();
         Reservation reservation = Reservation.create(
                 schedule,
                 request.getGuestName(),
-                encryptedPhoneNumber,
-                request.getTicketCount()
+                prepared.encryptedPhoneNumber(),
+                prepared.phoneHash(),
+                prepared.phoneSuffixHash(),
+                request.getTicketCount(),
+                qrTokenCodec.issue()
         );
-        processFormAnswers(request, reservation);
-        validateRequiredQuestions(reservation, schedule);
-        Reservation savedReservation = reservationRepository.save(reservation);
-        return ReservationResponse.from(savedReservation, encryptionUtils);
-    }
-
-    private void checkDuplicateReservation(Long scheduleId, String encryptedPhoneNumber) {
-        if (encryptedPhoneNumber != null && !encryptedPhoneNumber.trim().isEmpty()) {
-            boolean alreadyReserved = reservationRepository.existsByEventScheduleIdAndGuestPhoneNumberAndStatus(
-                    scheduleId,
-                    encryptedPhoneNumber,
-                    ReservationStatus.CONFIRMED
-            );
-            if (alreadyReserved) {
-                throw new IllegalStateException("이미 해당 스케줄에 예약하셨습니다.");
-            }
-        }
+        prepared.answers().forEach(answer -> reservation.addFormAnswer(FormAnswer.create(
+                formQuestionRepository.getReferenceById(answer.getQuestionId()), answer.getAnswerText())));
+        return reservation;
     }
 
-    private void processFormAnswers(ReservationRequest request, Reservation reservation) {
-        if (request.getAnswers() != null && !request.getAnswers().isEmpty()) {
-            request.getAnswers().stream()
-                    .map(answerRequest -> {
-                        FormQuestion question = loadFormQuestionOrThrow(answerRequest.questionId());
-                        if (question.getIsRequired() &&
-                            (answerRequest.answerText() == null || answerRequest.answerText().trim().isEmpty())) {
-                            throw new IllegalArgumentException("필수 질문에 답변해야 합니다: " + question.getQuestionText());
-                        }
-                        return FormAnswer.create(question, answerRequest.answerText());
-                    })
-                    .forEach(reservation::addFormAnswer);
+    /**
+     * 스케줄 행 잠금은 커밋(또는 롤백)으로 풀리므로 트랜잭션 완료 시점에 타이머를 멈춘다.
+     */
+    private void recordCriticalSectionUntilCompletion(Timer.Sample sample) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sample.stop(meterRegistry.timer(CRITICAL_SECTION_TIMER, "outcome", "none"));
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                String outcome = status == STATUS_COMMITTED ? "commit" : "rollback";
+                sample.stop(meterRegistry.timer(CRITICAL_SECTION_TIMER, "outcome", outcome));
+            }
+        });
+    }
+
+    private int sumTicketCount(List<Candidate> candidates) {
+        return candidates.stream()
+                .mapToInt(candidate -> candidate.reservation().ticketCount())
+                .sum();
     }
 
-    private void validateRequiredQuestions(Reservation reservation, EventSchedule schedule) {
-        formQuestionRepository.findByEventIdOrderById(schedule.getEvent().getId())
-                .stream()
-                .filter(FormQuestion::getIsRequired)
-                .filter(question -> !isBuiltInQuestion(question.getQuestionText()))
-                .forEach(requiredQuestion -> {
-                    boolean hasAnswer = reservation.getFormAnswers().stream()
-                            .anyMatch(answer -> answer.getFormQuestion().getId().equals(requiredQuestion.getId()));
-                    if (!hasAnswer) {
-                        throw new IllegalArgumentException("필수 질문에 답변해야 합니다: " + requiredQuestion.getQuestionText());
-                    }
-                });
+    private IllegalStateException capacityExceeded(int ticketCount, int available) {
+        return new IllegalStateException("예약 가능 좌석을 초과했습니다. (요청: " + ticketCount + ", 잔여: " + available + ")");
     }
 
-    private boolean isBuiltInQuestion(String questionText) {
-        String normalized = questionText.toLowerCase().replaceAll("\\s+", "");
-        return normalized.contains("이름") || normalized.contains("name") ||
-               normalized.contains("전화") || normalized.contains("연락처") ||
-               normalized.contains("핸드폰") || normalized.contains("phone");
+    private void checkDuplicateReservation(Set<String> reservedPhoneHashes, String phoneHash) {
+        if (phoneHash != null && reservedPhoneHashes.contains(phoneHash)) {
+            throw new IllegalStateException("이미 해당 스케줄에 예약하셨습니다.");
+        }
     }
 
     public ReservationResponse getReservation(Long id) {
@@ -98,24 +235,58 @@ public class ReservationService {
         return ReservationResponse.from(reservation, encryptionUtils);
     }
 
-    public ReservationResponse getReservationByQrToken(String qrToken) {
+    /**
+     * 클라이언트가 보낸 If-None-Match가 최근에 발급한 ETag와 같으면 DB를 조회하지 않고 그 ETag를 반환한다.
+     */
+    public String findNotModifiedEtag(String qrToken, String ifNoneMatch) {
+        return reservationEtagCache.findMatching(qrToken, ifNoneMatch);
+    }
+
+    public VersionedResponse<ReservationResponse> getReservationByQrToken(String qrToken) {
         Reservation reservation = loadReservationByQrTokenOrThrow(qrToken);
-        return ReservationResponse.from(reservation, encryptionUtils);
+        String etag = ReservationEtagCache.etagOf(reservation);
+        reservationEtagCache.put(qrToken, etag);
+        return new VersionedResponse<>(ReservationResponse.from(reservation, encryptionUtils), etag);
     }
 
     @Transactional
-    public void cancelReservation(Long id) {
+    public int cancelReservation(Long scheduleId, Long id) {
+        fence(scheduleId);
         Reservation reservation = loadReservationOrThrow(id);
         reservation.cancel();
-        EventSchedule schedule = reservation.getEventSchedule();
-        schedule.decrementReservedCount(reservation.getTicketCount());
+        reservationEtagCache.evictAfterCommit(reservation.getQrToken());
+        gateIndexRegistry.updateStateAfterCommit(reservation.getQrToken(), GateQrIndex.CANCELLED);
+        decreaseReservedCount(reservation.getEventSchedule().getId(), reservation.getTicketCount());
+        return reservation.getTicketCount();
+    }
+
+    /**
+     * 락 임대가 만료되어 다른 요청이 락을 가져갔다면 이 트랜잭션의 어떤 쓰기보다 먼저 거절한다.
+     * 펜스를 통과한 뒤에 예약을 읽어야 앞선 보유자가 커밋한 상태(이미 취소됨 등)를 본다.
+     */
+    private void fence(Long scheduleId) {
+        Long fencingToken = FencingTokenHolder.current().orElse(null);
+        if (fencingToken != null && eventScheduleRepository.fence(scheduleId, fencingToken) == 0) {
+            throw LockAcquisitionException.leaseExpired();
+        }
+    }
+
+    private void decreaseReservedCount(Long scheduleId, int ticketCount) {
+        Long fencingToken = FencingTokenHolder.current().orElse(null);
+        int updated = eventScheduleRepository.decreaseReservedCount(scheduleId, ticketCount, fencingToken);
+        if (updated == 0) {
+            EventSchedule schedule = loadEventScheduleOrThrow(scheduleId);
+            if (fencingToken != null && schedule.getFencingToken() != null && schedule.getFencingToken() > fencingToken) {
+                throw LockAcquisitionException.leaseExpired();
+            }
+            throw new IllegalStateException("예약 카운트가 음수가 될 수 없습니다.");
+        }
     }
 
     public List<ReservationLookupResponse> lookupReservations(String guestName, String guestPhoneNumber) {
-        String encryptedPhoneNumber = encryptionUtils.encrypt(guestPhoneNumber);
         List<Reservation> reservations = reservationRepository.findByGuestInfoAndStatus(
                 guestName,
-                encryptedPhoneNumber,
+                blindIndexUtils.phoneHash(guestPhoneNumber),
                 ReservationStatus.CONFIRMED
         );
         return reservations.stream()
@@ -133,18 +304,21 @@ public class ReservationService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 스케줄입니다."));
     }
 
+    private EventSchedule loadEventScheduleWithEventOrThrow(Long scheduleId) {
+        return eventScheduleRepository.findByIdWithEvent(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 스케줄입니다."));
+    }
+
     private Reservation loadReservationOrThrow(Long reservationId) {
         return reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
     }
 
     private Reservation loadReservationByQrTokenOrThrow(String qrToken) {
-        return reservationRepository.findByQrToken(qrToken)
+        return reservationRepository.findByQrKey(qrTokenCodec.resolve(qrToken))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
     }
 
-    private FormQuestion loadFormQuestionOrThrow(Long questionId) {
-        return formQuestionRepository.findById(questionId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 질문입니다."));
+    private record Candidate(int index, PreparedReservation reservation) {
     }
 }
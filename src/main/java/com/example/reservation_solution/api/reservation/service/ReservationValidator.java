@@ -0,0 +1,73 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.event.service.FormSchema;
+import com.example.reservation_solution.api.event.service.FormSchemaCache;
+import com.example.reservation_solution.api.reservation.dto.FormAnswerRequest;
+import com.example.reservation_solution.api.reservation.dto.FormAnswerResponse;
+import com.example.reservation_solution.api.reservation.dto.ReservationRequest;
+import com.example.reservation_solution.global.util.BlindIndexUtils;
+import com.example.reservation_solution.global.util.EncryptionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 예약 생성의 검증 단계 (락·트랜잭션 밖에서 실행)
+ * - 캐시된 폼 스키마로 답변을 검증하므로 DB 커넥션을 사용하지 않는다.
+ *   답변한 질문 순번을 BitSet에 표시한 뒤, 스키마의 필수 질문 BitSet과 한 번 비교한다.
+ * - 전화번호 암호화와 블라인드 인덱스 계산도 여기서 끝내 트랜잭션 구간에서 제외한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationValidator {
+
+    private final FormSchemaCache formSchemaCache;
+    private final EncryptionUtils encryptionUtils;
+    private final BlindIndexUtils blindIndexUtils;
+
+    public PreparedReservation prepare(ReservationRequest request) {
+        FormSchema schema = formSchemaCache.getByScheduleId(request.getScheduleId());
+        List<FormAnswerResponse> answers = processFormAnswers(request.getAnswers(), schema);
+        String phoneNumber = request.getGuestPhoneNumber();
+        return new PreparedReservation(
+                request,
+                blindIndexUtils.phoneHash(phoneNumber),
+                blindIndexUtils.phoneSuffixHash(phoneNumber),
+                encryptionUtils.encrypt(phoneNumber),
+                answers
+        );
+    }
+
+    private List<FormAnswerResponse> processFormAnswers(List<FormAnswerRequest> answerRequests, FormSchema schema) {
+        if (answerRequests == null || answerRequests.isEmpty()) {
+            checkRequiredAnswered(schema, null);
+            return List.of();
+        }
+        BitSet answered = new BitSet(schema.size());
+        List<FormAnswerResponse> answers = new ArrayList<>(answerRequests.size());
+        for (FormAnswerRequest answerRequest : answerRequests) {
+            int index = schema.indexOf(answerRequest.questionId());
+            if (index < 0) {
+                throw new IllegalArgumentException("존재하지 않는 질문입니다.");
+            }
+            String answerText = answerRequest.answerText();
+            if (schema.isRequired(index) && (answerText == null || answerText.trim().isEmpty())) {
+                throw new IllegalArgumentException("필수 질문에 답변해야 합니다: " + schema.questionText(index));
+            }
+            answered.set(index);
+            answers.add(new FormAnswerResponse(schema.questionId(index), schema.questionText(index), answerText));
+        }
+        checkRequiredAnswered(schema, answered);
+        return answers;
+    }
+
+    private void checkRequiredAnswered(FormSchema schema, BitSet answered) {
+        int unanswered = schema.firstUnanswered(answered);
+        if (unanswered >= 0) {
+            throw new IllegalArgumentException("필수 질문에 답변해야 합니다: " + schema.questionText(unanswered));
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.api.event.repository.EventScheduleRepository;
+import com.example.reservation_solution.global.exception.LockAcquisitionException;
+import com.example.reservation_solution.global.lock.LockExecutor;
+import com.example.reservation_solution.global.lock.LockKeyGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 스케줄별 잔여 좌석을 메모리 카운터로 관리하는 좌석 재고 엔진
+ * - 예약 트랜잭션 진입 전에 CAS 연산으로 좌석을 선점하여 매진 요청을 DB 접근 없이 거절한다.
+ * - 선점은 커밋되면 confirm, 실패하면 abort로 끝난다. 커밋된 예약이 취소되면 release로 좌석을 돌려준다.
+ * - 최종 정합성은 EventScheduleRepository의 조건부 UPDATE가 보장하며,
+ *   카운터가 DB(EventSchedule.reservedCount)와 어긋나면 스케줄 락 안에서 다시 적재한다.
+ *   취소는 같은 락 안에서 DB 반영과 release를 함께 하므로, 재적재가 취소를 두 번 반영하거나 빠뜨리지 않는다.
+ * - 카운터는 노드 메모리에 있어 다른 노드의 예약·취소를 알지 못한다. 선점이 실패하거나 잔여 좌석을 조회할 때
+ *   마지막 적재 후 resync-interval-millis가 지났으면 DB 값으로 다시 맞추므로, 조회만 받는 노드도 그 시간 이상 어긋나지 않는다.
+ * - 스트리밍 발행처럼 한 스레드가 모든 스케줄을 도는 곳은 peekAvailableSeats로 읽는다. 적재·재적재는 백그라운드 스레드가
+ *   스케줄 락을 한 번만 시도해 처리하므로, 발행 스레드는 DB 조회나 락 대기에 묶이지 않는다.
+ * - 최대 max-schedules개 스케줄을 보관하고, expire-after-access-minutes 동안 쓰이지 않은 스케줄은 버린다.
+ *   버려진 스케줄의 confirm·abort는 무시되며, 다음 요청이 DB에서 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class SeatInventory {
+
+    private final EventScheduleRepository eventScheduleRepository;
+    private final LockExecutor lockExecutor;
+    private final long resyncIntervalMillis;
+    private final Cache<Long, ScheduleSeats> seatsBySchedule;
+    // peekAvailableSeats가 요청한 적재 중 아직 끝나지 않은 스케줄 (같은 스케줄을 여러 번 요청하지 않는다)
+    private final Set<Long> pendingLoads = ConcurrentHashMap.newKeySet();
+    private final ExecutorService backgroundSync = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "seat-inventory-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SeatInventory(EventScheduleRepository eventScheduleRepository,
+                         LockExecutor lockExecutor,
+                         @Value("${reservation.seat-inventory.max-schedules:10000}") long maxSchedules,
+                         @Value("${reservation.seat-inventory.expire-after-access-minutes:30}") long expireMinutes,
+                         @Value("${reservation.seat-inventory.resync-interval-millis:1000}") long resyncIntervalMillis) {
+        this.eventScheduleRepository = eventScheduleRepository;
+        this.lockExecutor = lockExecutor;
+        this.resyncIntervalMillis = resyncIntervalMillis;
+        this.seatsBySchedule = Caffeine.newBuilder()
+                .maximumSize(maxSchedules)
+                .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        backgroundSync.shutdownNow();
+    }
+
+    public boolean tryReserve(Long scheduleId, int count) {
+        ScheduleSeats seats = loadSeats(scheduleId);
+        if (seats.claimStale()) {
+            resync(scheduleId, seats);
+        }
+        if (seats.tryHold(count)) {
+            return true;
+        }
+        // 다른 노드의 취소 등으로 카운터가 낮게 어긋났을 수 있으므로 주기적으로 DB 값과 다시 맞춘다.
+        if (seats.claimResync(System.currentTimeMillis(), resyncIntervalMillis)) {
+            resync(scheduleId, seats);
+            return seats.tryHold(count);
+        }
+        return false;
+    }
+
+    /**
+     * 선점한 좌석의 예약이 커밋되었다. 잔여 좌석은 선점할 때 이미 빠졌으므로 진행 중 선점 수만 줄인다.
+     */
+    public void confirm(Long scheduleId, int count) {
+        ScheduleSeats seats = seatsBySchedule.getIfPresent(scheduleId);
+        if (seats != null) {
+            seats.confirm(count);
+        }
+    }
+
+    /**
+     * 선점한 좌석의 예약이 실패했다. 선점을 풀고 좌석을 돌려준다.
+     */
+    public void abort(Long scheduleId, int count) {
+        ScheduleSeats seats = seatsBySchedule.getIfPresent(scheduleId);
+        if (seats != null) {
+            seats.abort(count);
+        }
+    }
+
+    /**
+     * 잔여 좌석 표시용. 진행 중인 예약이 선점한 좌석까지 빠진 값이다.
+     * 처음 조회하거나 마지막 적재 후 resync-interval-millis가 지난 스케줄만 DB에서 읽는다.
+     */
+    public int getAvailableSeats(Long scheduleId) {
+        ScheduleSeats seats = loadSeats(scheduleId);
+        if (seats.claimResync(System.currentTimeMillis(), resyncIntervalMillis)) {
+            try {
+                resync(scheduleId, seats);
+            } catch (LockAcquisitionException e) {
+                // 표시용이므로 락을 얻지 못하면 기존 값으로 응답하고 다음 주기에 다시 맞춘다.
+                log.debug("좌석 재고 재적재 생략: scheduleId={}", scheduleId);
+            }
+        }
+        return seats.remaining();
+    }
+
+    /**
+     * 스트리밍 표시용. 호출 스레드에서 DB를 읽거나 스케줄 락을 기다리지 않고 현재 카운터를 반환한다.
+     * 적재나 재적재가 필요하면 백그라운드에서 락을 한 번만 시도하고, 락을 얻지 못하면 다음 주기에 다시 시도한다.
+     * 아직 적재되지 않은 스케줄은 빈 값을 반환한다.
+     */
+    public OptionalInt peekAvailableSeats(Long scheduleId) {
+        ScheduleSeats seats = seatsBySchedule.getIfPresent(scheduleId);
+        if (seats == null) {
+            if (pendingLoads.add(scheduleId)) {
+                syncInBackground(scheduleId, () -> {
+                    if (seatsBySchedule.getIfPresent(scheduleId) == null) {
+                        seatsBySchedule.asMap().putIfAbsent(scheduleId,
+                                new ScheduleSeats(fetchAvailableSeats(scheduleId), System.currentTimeMillis()));
+                    }
+                }, () -> pendingLoads.remove(scheduleId));
+            }
+            return OptionalInt.empty();
+        }
+        if (seats.claimResync(System.currentTimeMillis(), resyncIntervalMillis)) {
+            syncInBackground(scheduleId, () -> seats.reseed(fetchAvailableSeats(scheduleId)), () -> { });
+        }
+        return OptionalInt.of(seats.remaining());
+    }
+
+    /**
+     * 커밋된 예약이 취소되어 좌석을 돌려준다. 스케줄 락 안에서 DB 반영과 함께 호출해야 한다.
+     */
+    public void release(Long scheduleId, int count) {
+        ScheduleSeats seats = seatsBySchedule.getIfPresent(scheduleId);
+        if (seats != null) {
+            seats.release(count);
+        }
+    }
+
+    /**
+     * DB가 좌석 부족으로 예약을 거절한 경우처럼 카운터를 신뢰할 수 없을 때 호출한다.
+     * 항목을 지우지 않고 표시만 하므로, 진행 중인 선점의 confirm·abort가 새 항목에 잘못 반영되지 않는다.
+     * 다음 선점 요청이 EventSchedule.reservedCount 기준으로 다시 적재한다.
+     */
+    public void invalidate(Long scheduleId) {
+        ScheduleSeats seats = seatsBySchedule.getIfPresent(scheduleId);
+        if (seats != null) {
+            seats.markStale();
+        }
+    }
+
+    public void evict(Collection<Long> scheduleIds) {
+        seatsBySchedule.invalidateAll(scheduleIds);
+    }
+
+    private ScheduleSeats loadSeats(Long scheduleId) {
+        ScheduleSeats seats = seatsBySchedule.getIfPresent(scheduleId);
+        if (seats != null) {
+            return seats;
+        }
+        // 첫 적재도 락 안에서 읽어야, 커밋은 되었지만 아직 release하지 않은 취소를 두 번 더하지 않는다.
+        return withScheduleLock(scheduleId, () -> {
+            ScheduleSeats loaded = seatsBySchedule.getIfPresent(scheduleId);
+            if (loaded != null) {
+                return loaded;
+            }
+            loaded = new ScheduleSeats(fetchAvailableSeats(scheduleId), System.currentTimeMillis());
+            ScheduleSeats existing = seatsBySchedule.asMap().putIfAbsent(scheduleId, loaded);
+            return existing != null ? existing : loaded;
+        });
+    }
+
+    /**
+     * 재적재 값은 DB 잔여 좌석에서 진행 중인 선점을 뺀 값이다.
+     * 커밋 직후 confirm 전인 선점은 양쪽에 모두 빠지므로 잠시 낮게 잡히며, 다음 재적재에서 바로잡힌다.
+     */
+    private void resync(Long scheduleId, ScheduleSeats seats) {
+        withScheduleLock(scheduleId, () -> {
+            seats.reseed(fetchAvailableSeats(scheduleId));
+            return null;
+        });
+    }
+
+    private void syncInBackground(Long scheduleId, Runnable sync, Runnable onDone) {
+        try {
+            backgroundSync.execute(() -> {
+                try {
+                    if (!lockExecutor.tryExecuteWithLock(LockKeyGenerator.schedule(scheduleId), sync)) {
+                        log.debug("좌석 재고 백그라운드 적재 생략 (락 사용 중): scheduleId={}", scheduleId);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("좌석 재고 백그라운드 적재 실패: scheduleId={}", scheduleId, e);
+                } finally {
+                    onDone.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 적재하지 않는다.
+            onDone.run();
+        }
+    }
+
+    private <T> T withScheduleLock(Long scheduleId, Supplier<T> supplier) {
+        try {
+            return lockExecutor.executeWithLock(LockKeyGenerator.schedule(scheduleId), supplier);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw LockAcquisitionException.interrupted();
+        }
+    }
+
+    private int fetchAvailableSeats(Long scheduleId) {
+        EventSchedule schedule = eventScheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 스케줄입니다."));
+        log.debug("좌석 재고 적재: scheduleId={}, available={}", scheduleId, schedule.getAvailableSeats());
+        return schedule.getAvailableSeats();
+    }
+
+    /**
+     * 잔여 좌석(상위 32비트)과 진행 중 선점 수(하위 32비트)를 한 long에 담아,
+     * 재적재가 동시에 들어온 선점을 덮어쓰지 않도록 한 번의 CAS로 함께 갱신한다.
+     */
+    private static final class ScheduleSeats {
+
+        private final AtomicLong state;
+        private final AtomicLong syncedAt;
+        private final AtomicBoolean stale = new AtomicBoolean();
+
+        private ScheduleSeats(int remaining, long syncedAt) {
+            this.state = new AtomicLong(pack(remaining, 0));
+            this.syncedAt = new AtomicLong(syncedAt);
+        }
+
+        private boolean tryHold(int count) {
+            while (true) {
+                long current = state.get();
+                int remaining = remaining(current);
+                if (remaining < count) {
+                    return false;
+                }
+                if (state.compareAndSet(current, pack(remaining - count, held(current) + count))) {
+                    return true;
+                }
+            }
+        }
+
+        private void confirm(int count) {
+            state.updateAndGet(current -> pack(remaining(current), Math.max(0, held(current) - count)));
+        }
+
+        private void abort(int count) {
+            state.updateAndGet(current -> pack(remaining(current) + count, Math.max(0, held(current) - count)));
+        }
+
+        private void release(int count) {
+            state.updateAndGet(current -> pack(remaining(current) + count, held(current)));
+        }
+
+        private void reseed(int available) {
+            state.updateAndGet(current -> pack(available - held(current), held(current)));
+        }
+
+        private int remaining() {
+            return remaining(state.get());
+        }
+
+        private void markStale() {
+            stale.set(true);
+        }
+
+        private boolean claimStale() {
+            return stale.get() && stale.compareAndSet(true, false);
+        }
+
+        private boolean claimResync(long now, long intervalMillis) {
+            long last = syncedAt.get();
+            return now - last >= intervalMillis && syncedAt.compareAndSet(last, now);
+        }
+
+        private static long pack(int remaining, int held) {
+            return ((long) remaining << 32) | (held & 0xFFFFFFFFL);
+        }
+
+        private static int remaining(long state) {
+            return (int) (state >> 32);
+        }
+
+        private static int held(long state) {
+            return (int) state;
+        }
+    }
+}
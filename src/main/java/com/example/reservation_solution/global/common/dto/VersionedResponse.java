@@ -0,0 +1,11 @@
+package com.example.reservation_solution.global.common.dto;
+
+/**
+ * 조건부 GET(If-None-Match) 처리를 위해 응답 본문과 버전 기반 ETag를 함께 전달한다.
+ * @param etag 따옴표를 포함한 강한 ETag (예: "e12.3.1a2b")
+ */
+public record VersionedResponse<T>(
+    T body,
+    String etag
+) {
+}
@@ -0,0 +1,48 @@
+package com.example.reservation_solution.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * @Async 실행기 구성
+ * - applicationTaskExecutor: 기본 실행기. spring.threads.virtual.enabled=true이면 가상 스레드로 실행한다.
+ * - mailTaskExecutor: 메일 발송 전용 플랫폼 스레드 풀.
+ *   JavaMail SMTP 전송은 synchronized 구간에서 소켓 I/O를 수행하므로 가상 스레드에서 실행하면 캐리어 스레드를 점유(pinning)한다.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String MAIL_TASK_EXECUTOR = "mailTaskExecutor";
+
+    // 실행기 빈이 둘이므로 @Async 기본 실행기는 taskExecutor 이름으로 찾도록 별칭을 함께 등록한다.
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+                                                     SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return simpleAsyncTaskExecutorBuilder
+                    .virtualThreads(true)
+                    .threadNamePrefix("task-vt-")
+                    .build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    @Bean(name = MAIL_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor mailTaskExecutor(@Value("${mail.executor.pool-size:4}") int poolSize,
+                                                   @Value("${mail.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
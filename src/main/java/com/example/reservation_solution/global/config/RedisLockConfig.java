@@ -0,0 +1,23 @@
+package com.example.reservation_solution.global.config;
+
+import com.example.reservation_solution.global.lock.RedisLockExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@Profile("redis")
+public class RedisLockConfig {
+
+    @Bean
+    public RedisMessageListenerContainer lockReleaseListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      RedisLockExecutor redisLockExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisLockExecutor, new ChannelTopic(RedisLockExecutor.RELEASE_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.reservation_solution.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 진단 (spring.threads.virtual.enabled=true일 때만 동작)
+ * - JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 구독하여, 캐리어 스레드를 threshold 이상 점유한 구간을 기록한다.
+ * - 발생 건수와 점유 시간은 virtual.thread.pinned 지표로 노출하고, 원인 파악을 위해 상위 스택 프레임을 경고 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Counter pinnedCount;
+    private final Timer pinnedDuration;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${virtual-thread.pinning.threshold-millis:20}") long thresholdMillis) {
+        this.pinnedCount = Counter.builder("virtual.thread.pinned")
+                .description("캐리어 스레드를 점유한 가상 스레드 구간 수")
+                .register(meterRegistry);
+        this.pinnedDuration = Timer.builder("virtual.thread.pinned.duration")
+                .description("가상 스레드가 캐리어 스레드를 점유한 시간")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        // 이벤트 처리 스레드는 JFR이 별도로 띄우므로 요청 스레드를 막지 않는다.
+        recordingStream.startAsync();
+        // 실행 JDK는 배포 서버(run.sh)가 정하므로, 어떤 JDK에서 가상 스레드가 동작하는지 기동 로그로 확인한다.
+        log.info("가상 스레드 pinning 진단 시작: threshold={}ms, runtime={} {}",
+                threshold.toMillis(), System.getProperty("java.vm.vendor"), Runtime.version());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.increment();
+        pinnedDuration.record(event.getDuration());
+        log.warn("가상 스레드 pinning 감지: duration={}ms, thread={}\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() == null ? "unknown" : event.getThread().getJavaName(),
+                formatStackTrace(event.getStackTrace()));
+    }
+
+    private static String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(stack trace 없음)";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            builder.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.reservation_solution.global.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "waiting-room")
+public class WaitingRoomProperties {
+
+    private final boolean enabled;
+    private final int maxActivePerSchedule;
+    private final int admissionTtlSeconds;
+    private final int idleTimeoutSeconds;
+}
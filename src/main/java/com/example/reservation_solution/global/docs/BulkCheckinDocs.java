@@ -0,0 +1,25 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "일괄 QR 체크인",
+    description = "오프라인 게이트 기기가 쌓아 둔 스캔(최대 500건)을 한 트랜잭션으로 체크인하고 토큰별 결과(CHECKED_IN, ALREADY_CHECKED_IN, CANCELLED, NOT_FOUND, OTHER_EVENT, DUPLICATE)를 반환합니다."
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "처리 완료 (토큰별 결과 포함)"),
+    @ApiResponse(responseCode = "400", description = "스캔이 없거나 500건 초과, 또는 권한 없음")
+})
+@SecurityRequirement(name = "Bearer Auth")
+public @interface BulkCheckinDocs {
+}
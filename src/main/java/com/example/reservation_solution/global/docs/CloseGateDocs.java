@@ -0,0 +1,26 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "게이트 모드 종료",
+    description = "대기 중인 체크인을 DB에 반영한 뒤 메모리 인덱스를 제거합니다."
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "게이트 모드 종료"),
+    @ApiResponse(responseCode = "400", description = "권한 없음"),
+    @ApiResponse(responseCode = "409", description = "게이트 모드가 열려 있지 않음")
+})
+@SecurityRequirement(name = "Bearer Auth")
+public @interface CloseGateDocs {
+}
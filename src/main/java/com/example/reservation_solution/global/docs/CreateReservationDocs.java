@@ -13,7 +13,8 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Operation(
     summary = "예약 생성",
-    description = "이벤트 스케줄에 예약을 생성합니다. 동시성 제어가 적용되어 정원 초과를 방지합니다. (인증 불필요)"
+    description = "이벤트 스케줄에 예약을 생성합니다. 동시성 제어가 적용되어 정원 초과를 방지합니다. 대기열에서 입장이 허용된 토큰을 X-Queue-Token 헤더로 전달해야 합니다. " +
+            "Idempotency-Key 헤더를 보내면 같은 key의 재시도에는 처음 생성된 예약 응답을 그대로 반환합니다. (인증 불필요)"
 )
 @ApiResponses({
     @ApiResponse(responseCode = "201", description = "예약 생성 성공, QR 토큰 반환"),
@@ -22,7 +23,10 @@ import java.lang.annotation.Target;
             "- 이미 매진된 스케줄입니다 (정원 초과)\n" +
             "- 잔여 좌석이 부족합니다 (정원 초과)\n" +
             "- 필수 질문에 답변해야 합니다"),
-    @ApiResponse(responseCode = "404", description = "스케줄을 찾을 수 없음")
+    @ApiResponse(responseCode = "403", description = "대기열 입장이 허용되지 않았거나 입장 시간이 만료됨"),
+    @ApiResponse(responseCode = "404", description = "스케줄을 찾을 수 없음"),
+    @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 아직 처리 중"),
+    @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 예약 요청을 보냄")
 })
 public @interface CreateReservationDocs {
 }
@@ -0,0 +1,23 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "대기열 입장",
+    description = "스케줄의 대기열에 입장하여 대기열 토큰을 발급받습니다. 입장이 허용되면 X-Queue-Token 헤더에 토큰을 담아 예약을 생성합니다. (인증 불필요)"
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "201", description = "대기열 토큰 발급 성공, 현재 순번과 예상 대기 시간 반환"),
+    @ApiResponse(responseCode = "404", description = "스케줄을 찾을 수 없음")
+})
+public @interface EnterQueueDocs {
+}
@@ -0,0 +1,26 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "예약자 명단 내보내기",
+    description = "이벤트의 확정 예약자와 폼 응답을 CSV 또는 JSONL 파일로 스트리밍합니다. scheduleId를 지정하면 해당 스케줄만 내보냅니다."
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+    @ApiResponse(responseCode = "400", description = "해당 스케줄이 이벤트에 속하지 않음"),
+    @ApiResponse(responseCode = "404", description = "이벤트를 찾을 수 없음")
+})
+@SecurityRequirement(name = "Bearer Auth")
+public @interface ExportReservationsDocs {
+}
@@ -0,0 +1,26 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "게이트 QR 체크인",
+    description = "게이트 모드가 열린 이벤트에서 QR 토큰을 메모리 인덱스로 검증하고 입장 처리합니다. DB 반영은 짧은 주기로 모아서 처리되므로 대시보드 체크인 수는 잠시 늦게 반영될 수 있습니다."
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "입장 완료"),
+    @ApiResponse(responseCode = "400", description = "존재하지 않는 QR 토큰, 다른 이벤트의 QR 토큰 또는 권한 없음"),
+    @ApiResponse(responseCode = "409", description = "게이트 모드가 열려 있지 않음, 이미 입장 완료 또는 취소된 예약")
+})
+@SecurityRequirement(name = "Bearer Auth")
+public @interface GateCheckinDocs {
+}
@@ -13,7 +13,7 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Operation(
     summary = "모든 이벤트 조회",
-    description = "등록된 모든 이벤트 목록을 조회합니다. (인증 불필요)"
+    description = "등록된 이벤트 목록을 페이지 단위로 조회합니다. (인증 불필요, 기본 20건, 최신순)"
 )
 @ApiResponses({
     @ApiResponse(responseCode = "200", description = "조회 성공")
@@ -0,0 +1,23 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "대기열 상태 조회",
+    description = "대기열 토큰의 현재 순번, 예상 대기 시간, 입장 허용 여부를 조회합니다. (인증 불필요)"
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "조회 성공"),
+    @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 대기열 토큰")
+})
+public @interface GetQueueStatusDocs {
+}
@@ -0,0 +1,26 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "예약자 리스트 커서 조회",
+    description = "예약자 목록을 예약 ID 내림차순으로 size건씩 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 구간을 조회합니다. OFFSET을 쓰지 않아 예약이 많은 이벤트에서도 깊은 구간 조회 비용이 일정합니다. includeCount=true이면 첫 조회에서만 전체 건수를 계산합니다. (최대 100건)"
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "조회 성공"),
+    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 해당 스케줄이 이벤트에 속하지 않음"),
+    @ApiResponse(responseCode = "404", description = "이벤트를 찾을 수 없음")
+})
+@SecurityRequirement(name = "Bearer Auth")
+public @interface GetReservationListByCursorDocs {
+}
@@ -0,0 +1,26 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "스케줄 예약자 구간 조회",
+    description = "한 스케줄의 확정 예약자를 예약 ID 순으로 size건씩 조회합니다. 응답의 nextCursor를 lastSeenId로 전달하면 다음 구간을 조회합니다. (예약이 많은 이벤트의 칸반 보드용, 최대 500건)"
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "조회 성공"),
+    @ApiResponse(responseCode = "400", description = "해당 스케줄이 이벤트에 속하지 않음"),
+    @ApiResponse(responseCode = "404", description = "이벤트를 찾을 수 없음")
+})
+@SecurityRequirement(name = "Bearer Auth")
+public @interface GetScheduleReservationsDocs {
+}
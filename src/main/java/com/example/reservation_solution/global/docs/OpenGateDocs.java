@@ -0,0 +1,25 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "게이트 모드 시작",
+    description = "이벤트의 모든 예약을 서버 메모리에 적재해 이후 게이트 체크인을 DB 조회 없이 처리합니다. 이미 열려 있으면 DB 기준으로 다시 적재합니다."
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "게이트 모드 시작"),
+    @ApiResponse(responseCode = "400", description = "존재하지 않는 이벤트 또는 권한 없음")
+})
+@SecurityRequirement(name = "Bearer Auth")
+public @interface OpenGateDocs {
+}
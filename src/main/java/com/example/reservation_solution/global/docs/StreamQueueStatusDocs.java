@@ -0,0 +1,23 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "대기열 상태 구독 (SSE)",
+    description = "대기열 상태를 Server-Sent Events로 구독합니다. 입장 처리 주기마다 queue-status 이벤트가 전송되며, 입장이 허용되면 스트림이 종료됩니다. (인증 불필요)"
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)"),
+    @ApiResponse(responseCode = "404", description = "존재하지 않거나 만료된 대기열 토큰")
+})
+public @interface StreamQueueStatusDocs {
+}
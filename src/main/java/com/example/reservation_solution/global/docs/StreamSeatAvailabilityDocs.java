@@ -0,0 +1,24 @@
+package com.example.reservation_solution.global.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Operation(
+    summary = "잔여 좌석 구독 (SSE)",
+    description = "공개 이벤트의 스케줄별 잔여 좌석을 Server-Sent Events로 구독합니다. 구독 직후 현재 값을 보내고, 이후 값이 바뀌면 이벤트당 최대 1초에 한 번 availability 이벤트가 전송됩니다. (인증 불필요)"
+)
+@ApiResponses({
+    @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)"),
+    @ApiResponse(responseCode = "400", description = "존재하지 않는 이벤트 코드"),
+    @ApiResponse(responseCode = "403", description = "비공개 이벤트")
+})
+public @interface StreamSeatAvailabilityDocs {
+}
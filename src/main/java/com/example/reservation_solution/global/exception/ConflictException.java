@@ -25,4 +25,8 @@ public class ConflictException extends BusinessException {
     public static ConflictException alreadyCancelled() {
         return new ConflictException("이미 취소된 예약입니다");
     }
+
+    public static ConflictException admissionInUse() {
+        return new ConflictException("이 대기열 토큰으로 처리 중인 예약이 있습니다");
+    }
 }
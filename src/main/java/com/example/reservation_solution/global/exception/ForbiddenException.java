@@ -19,4 +19,8 @@ public class ForbiddenException extends BusinessException {
     public static ForbiddenException cannotModifyWithReservations() {
         return new ForbiddenException("예약된 답변이 존재하여 질문을 수정할 수 없습니다");
     }
+
+    public static ForbiddenException notAdmitted() {
+        return new ForbiddenException("대기열 입장이 허용되지 않았거나 입장 시간이 만료되었습니다");
+    }
 }
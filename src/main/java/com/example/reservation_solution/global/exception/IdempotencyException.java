@@ -0,0 +1,22 @@
+package com.example.reservation_solution.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyException extends BusinessException {
+
+    public IdempotencyException(String message, HttpStatus httpStatus) {
+        super(message, httpStatus);
+    }
+
+    public static IdempotencyException invalidKey() {
+        return new IdempotencyException("Idempotency-Key는 1~255자여야 합니다.", HttpStatus.BAD_REQUEST);
+    }
+
+    public static IdempotencyException fingerprintMismatch() {
+        return new IdempotencyException("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.", HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    public static IdempotencyException inProgress() {
+        return new IdempotencyException("같은 Idempotency-Key의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT);
+    }
+}
@@ -12,6 +12,10 @@ public class LockAcquisitionException extends BusinessException {
         return new LockAcquisitionException("현재 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
     }
 
+    public static LockAcquisitionException leaseExpired() {
+        return new LockAcquisitionException("락 점유 시간이 만료되어 요청을 처리하지 못했습니다. 다시 시도해주세요.");
+    }
+
     public static LockAcquisitionException interrupted() {
         return new LockAcquisitionException("락 획득 중 인터럽트가 발생했습니다.");
     }
@@ -0,0 +1,12 @@
+package com.example.reservation_solution.global.exception;
+
+/**
+ * 결과 대기 시간이 지났지만 배치가 이미 실행 중이라 예약 성공 여부를 아직 모르는 경우
+ * 선점한 좌석과 입장 자리는 배치 결과가 나온 뒤 정리되므로, 호출자는 이 예외로 좌석을 돌려주면 안 된다.
+ */
+public class ReservationPendingException extends ServiceUnavailableException {
+
+    public ReservationPendingException() {
+        super("예약 처리가 지연되고 있습니다. 예약 조회로 결과를 확인한 뒤 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.reservation_solution.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BusinessException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public static ServiceUnavailableException reservationTimeout() {
+        return new ServiceUnavailableException("예약 처리가 지연되고 있습니다. 예약 조회로 결과를 확인한 뒤 다시 시도해주세요.");
+    }
+
+    public static ServiceUnavailableException interrupted() {
+        return new ServiceUnavailableException("예약 처리 대기 중 인터럽트가 발생했습니다.");
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.reservation_solution.global.idempotency;
+
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 저장소
+ * - key로 처음 들어온 요청만 action을 실행하고, 성공 결과를 TTL 동안 보관한다.
+ * - 같은 key의 요청이 처리 중이면 새로 실행하지 않고 그 결과를 기다려 반환한다.
+ *   wait-timeout 안에 끝나지 않으면 IdempotencyException(409)을 던진다.
+ * - 같은 key로 다른 요청(fingerprint 불일치)을 보내면 IdempotencyException(422)을 던진다.
+ * - action이 실패하면 key를 비워 같은 key로 재시도할 수 있게 한다.
+ */
+public interface IdempotencyStore {
+
+    <T> T execute(String key, String fingerprint, Class<T> type, Supplier<T> action);
+}
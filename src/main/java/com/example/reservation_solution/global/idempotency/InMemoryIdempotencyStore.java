@@ -0,0 +1,77 @@
+package com.example.reservation_solution.global.idempotency;
+
+import com.example.reservation_solution.global.exception.IdempotencyException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 단일 노드용 Idempotency-Key 저장소
+ * 최대 max-size개의 key를 ttl 동안 보관하며, 처리 중인 요청은 CompletableFuture로 공유한다.
+ */
+@Component
+@Profile("!redis")
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+    private final long waitTimeoutMillis;
+
+    public InMemoryIdempotencyStore(@Value("${idempotency.max-size:100000}") long maxSize,
+                                    @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                    @Value("${idempotency.wait-timeout-millis:10000}") long waitTimeoutMillis) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    @Override
+    public <T> T execute(String key, String fingerprint, Class<T> type, Supplier<T> action) {
+        Entry claimed = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, claimed);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                throw IdempotencyException.fingerprintMismatch();
+            }
+            return type.cast(await(existing.result()));
+        }
+        try {
+            T result = action.get();
+            claimed.result().complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            // Error(OOM 등)로 끝나도 key를 비워야 같은 key의 재시도가 ttl 동안 처리 중 상태에 묶이지 않는다.
+            entries.asMap().remove(key, claimed);
+            claimed.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw IdempotencyException.inProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyException.inProgress();
+        }
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Object> result) {
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.reservation_solution.global.idempotency;
+
+import com.example.reservation_solution.global.exception.IdempotencyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 다중 노드용 Idempotency-Key 저장소 (redis 프로필)
+ * - 처리 시작 시 SET NX로 "P|fingerprint|owner"를 짧은 TTL(wait-timeout)로 선점하므로, 처리 중 노드가 죽어도 key가 오래 묶이지 않는다.
+ *   처리가 wait-timeout보다 길어져도 다른 노드가 같은 요청을 다시 실행하지 않도록, 실행 중에는 워치독이 선점 TTL을 연장한다.
+ * - 성공하면 자신이 선점한 값일 때만 "D|fingerprint|응답 JSON"으로 바꿔 ttl 동안 보관하고(Lua CAS), 실패하면 자신이 선점한 key만 지운다.
+ *   연장에 실패해 선점을 잃었다면 결과를 저장하지 않는다. (다른 노드가 선점한 key를 덮어쓰지 않는다)
+ * - 다른 노드가 처리 중이면 결과가 저장될 때까지 poll-interval마다 확인한다.
+ */
+@Slf4j
+@Component
+@Profile("redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idem:";
+    private static final String PENDING = "P";
+    private static final String DONE = "D";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-lease-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                                 @Value("${idempotency.wait-timeout-millis:10000}") long waitTimeoutMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    @Override
+    public <T> T execute(String key, String fingerprint, Class<T> type, Supplier<T> action) {
+        String redisKey = KEY_PREFIX + key;
+        String pending = String.join("|", PENDING, fingerprint, UUID.randomUUID().toString());
+        long deadline = System.currentTimeMillis() + waitTimeout.toMillis();
+        while (true) {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(redisKey, pending, waitTimeout))) {
+                return run(redisKey, pending, fingerprint, action);
+            }
+            String stored = redisTemplate.opsForValue().get(redisKey);
+            if (stored != null) {
+                List<String> parts = List.of(stored.split("\\|", 3));
+                if (!parts.get(1).equals(fingerprint)) {
+                    throw IdempotencyException.fingerprintMismatch();
+                }
+                if (parts.get(0).equals(DONE)) {
+                    return read(parts.get(2), type);
+                }
+            }
+            // 처리 중이거나, 선점한 요청이 실패해 key가 비워졌다면 잠시 후 다시 확인(또는 선점)한다.
+            if (System.currentTimeMillis() >= deadline) {
+                throw IdempotencyException.inProgress();
+            }
+            sleep();
+        }
+    }
+
+    private <T> T run(String redisKey, String pending, String fingerprint, Supplier<T> action) {
+        T result;
+        ScheduledFuture<?> renewal = scheduleRenewal(redisKey, pending);
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            // Error로 끝나도 연장을 멈추고 key를 비운다. (그대로 두면 선점이 계속 연장된다)
+            renewal.cancel(false);
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(redisKey), pending);
+            throw e;
+        }
+        renewal.cancel(false);
+        Long completed = redisTemplate.execute(COMPLETE_SCRIPT, List.of(redisKey),
+                pending, String.join("|", DONE, fingerprint, write(result)), String.valueOf(ttl.toMillis()));
+        if (completed == null || completed == 0L) {
+            log.warn("Idempotency 선점이 만료되어 결과를 저장하지 않음: key={}", redisKey);
+        }
+        return result;
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(String redisKey, String pending) {
+        long interval = Math.max(1, waitTimeout.toMillis() / 3);
+        return watchdog.scheduleAtFixedRate(() -> renew(redisKey, pending), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew(String redisKey, String pending) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(redisKey),
+                    pending, String.valueOf(waitTimeout.toMillis()));
+            if (renewed == null || renewed == 0L) {
+                log.warn("Idempotency 선점 연장 실패 (이미 만료됨): key={}", redisKey);
+            }
+        } catch (RuntimeException e) {
+            log.error("Idempotency 선점 연장 중 오류: key={}", redisKey, e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 응답 직렬화 실패", e);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency 응답 역직렬화 실패", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw IdempotencyException.inProgress();
+        }
+    }
+}
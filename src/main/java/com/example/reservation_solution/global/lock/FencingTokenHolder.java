@@ -0,0 +1,29 @@
+package com.example.reservation_solution.global.lock;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 현재 스레드가 보유한 분산 락의 펜싱 토큰을 보관한다.
+ * 락 임대가 만료된 뒤 늦게 도착한 쓰기를 DB에서 거절하기 위해 EventSchedule 갱신 쿼리에서 사용한다.
+ * 단일 JVM 락(InMemoryLockExecutor)은 임대가 만료되지 않으므로 토큰을 발급하지 않는다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FencingTokenHolder {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    public static Optional<Long> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void set(long fencingToken) {
+        CURRENT.set(fencingToken);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
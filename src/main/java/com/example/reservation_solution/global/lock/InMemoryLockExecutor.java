@@ -9,6 +9,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
+/**
+ * 단일 JVM 락
+ * - synchronized 대신 ReentrantLock으로 대기하므로, 가상 스레드는 락 대기 중 캐리어 스레드에서 분리(park)된다.
+ */
 @Component
 @Profile("!redis")
 public class InMemoryLockExecutor implements LockExecutor {
@@ -37,4 +41,18 @@ public class InMemoryLockExecutor implements LockExecutor {
             return null;
         });
     }
+
+    @Override
+    public boolean tryExecuteWithLock(String lockKey, Runnable runnable) {
+        ReentrantLock lock = lockMap.computeIfAbsent(lockKey, k -> new ReentrantLock(true));
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            runnable.run();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
 }
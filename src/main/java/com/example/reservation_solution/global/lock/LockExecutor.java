@@ -7,4 +7,9 @@ public interface LockExecutor {
     <T> T executeWithLock(String lockKey, Supplier<T> supplier) throws InterruptedException;
 
     void executeWithLock(String lockKey, Runnable runnable) throws InterruptedException;
+
+    /**
+     * 락을 기다리지 않고 한 번만 시도한다. 다른 요청이 보유 중이면 실행하지 않고 false를 반환한다.
+     */
+    boolean tryExecuteWithLock(String lockKey, Runnable runnable);
 }
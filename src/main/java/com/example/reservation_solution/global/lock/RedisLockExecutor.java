@@ -0,0 +1,219 @@
+package com.example.reservation_solution.global.lock;
+
+import com.example.reservation_solution.global.exception.LockAcquisitionException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Redis 기반 분산 락
+ * - SET NX PX로 임대(lease) 시간이 있는 락을 획득하고, 획득할 때마다 키별 펜싱 토큰을 INCR로 발급한다.
+ * - 작업이 임대 시간보다 길어지면 워치독이 임대를 연장한다.
+ * - 해제 시 Pub/Sub으로 대기자를 깨우므로 스핀 폴링하지 않는다. (해제 메시지를 놓쳐도 남은 TTL만큼만 대기)
+ *   키별 알림 항목은 첫 시도가 실패한 대기자가 있는 동안만 두고, 마지막 대기자가 떠나면 지운다.
+ */
+@Slf4j
+@Component
+@Profile("redis")
+public class RedisLockExecutor implements LockExecutor, MessageListener {
+
+    public static final String RELEASE_CHANNEL = "lock:release";
+    private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final String FENCE_KEY_PREFIX = "lock:fence:";
+
+    private static final RedisScript<List> ACQUIRE_SCRIPT = RedisScript.of("""
+            if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return {1, redis.call('incr', KEYS[2])}
+            end
+            return {0, redis.call('pttl', KEYS[1])}
+            """, List.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                redis.call('del', KEYS[1])
+                redis.call('publish', ARGV[2], ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long leaseTimeMillis;
+    private final long waitTimeMillis;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentHashMap<String, ReleaseSignal> releaseSignals = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-lock-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisLockExecutor(StringRedisTemplate redisTemplate,
+                             @Value("${lock.redis.lease-time-millis:10000}") long leaseTimeMillis,
+                             @Value("${lock.redis.wait-time-millis:5000}") long waitTimeMillis) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTimeMillis = leaseTimeMillis;
+        this.waitTimeMillis = waitTimeMillis;
+    }
+
+    @Override
+    public <T> T executeWithLock(String lockKey, Supplier<T> supplier) throws InterruptedException {
+        String owner = instanceId + ":" + UUID.randomUUID();
+        long fencingToken = acquire(lockKey, owner);
+        return runLocked(lockKey, owner, fencingToken, supplier);
+    }
+
+    @Override
+    public void executeWithLock(String lockKey, Runnable runnable) throws InterruptedException {
+        executeWithLock(lockKey, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean tryExecuteWithLock(String lockKey, Runnable runnable) {
+        String owner = instanceId + ":" + UUID.randomUUID();
+        List<Long> result = tryAcquire(lockKey, owner);
+        if (result.get(0) != 1L) {
+            return false;
+        }
+        runLocked(lockKey, owner, result.get(1), () -> {
+            runnable.run();
+            return null;
+        });
+        return true;
+    }
+
+    private <T> T runLocked(String lockKey, String owner, long fencingToken, Supplier<T> supplier) {
+        ScheduledFuture<?> renewal = scheduleRenewal(lockKey, owner);
+        FencingTokenHolder.set(fencingToken);
+        try {
+            return supplier.get();
+        } finally {
+            FencingTokenHolder.clear();
+            renewal.cancel(false);
+            release(lockKey, owner);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String lockKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        ReleaseSignal signal = releaseSignals.get(lockKey);
+        if (signal != null) {
+            signal.permits.release(Math.max(1, signal.permits.getQueueLength()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    private long acquire(String lockKey, String owner) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + waitTimeMillis;
+        List<Long> result = tryAcquire(lockKey, owner);
+        if (result.get(0) == 1L) {
+            return result.get(1);
+        }
+        // 알림 항목을 등록한 뒤 다시 시도하므로, 첫 시도와 등록 사이의 해제도 놓치지 않는다.
+        ReleaseSignal signal = releaseSignals.compute(lockKey,
+                (key, existing) -> (existing != null ? existing : new ReleaseSignal()).join());
+        try {
+            while (true) {
+                signal.permits.drainPermits();
+                result = tryAcquire(lockKey, owner);
+                if (result.get(0) == 1L) {
+                    return result.get(1);
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw LockAcquisitionException.timeout();
+                }
+                // 해제 알림을 기다리되, 보유자가 죽어 알림이 오지 않는 경우를 대비해 남은 임대 시간까지만 대기한다.
+                long ttl = result.get(1);
+                long waitMillis = ttl > 0 ? Math.min(remaining, ttl) : remaining;
+                signal.permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            releaseSignals.computeIfPresent(lockKey, (key, existing) -> existing.leave() ? null : existing);
+        }
+    }
+
+    int releaseSignalCount() {
+        return releaseSignals.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> tryAcquire(String lockKey, String owner) {
+        return redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(LOCK_KEY_PREFIX + lockKey, FENCE_KEY_PREFIX + lockKey),
+                owner, String.valueOf(leaseTimeMillis));
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(String lockKey, String owner) {
+        long interval = Math.max(1, leaseTimeMillis / 3);
+        return watchdog.scheduleAtFixedRate(() -> renew(lockKey, owner), interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew(String lockKey, String owner) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY_PREFIX + lockKey),
+                    owner, String.valueOf(leaseTimeMillis));
+            if (renewed == null || renewed == 0L) {
+                log.warn("락 임대 연장 실패 (이미 만료됨): lockKey={}", lockKey);
+            }
+        } catch (RuntimeException e) {
+            log.error("락 임대 연장 중 오류: lockKey={}", lockKey, e);
+        }
+    }
+
+    private void release(String lockKey, String owner) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + lockKey),
+                owner, RELEASE_CHANNEL, lockKey);
+        if (released == null || released == 0L) {
+            log.warn("락 해제 실패 (임대 만료 후 다른 요청이 획득함): lockKey={}", lockKey);
+        }
+    }
+
+    private static final class ReleaseSignal {
+
+        private final Semaphore permits = new Semaphore(0);
+        // releaseSignals의 compute·computeIfPresent 안에서만 바뀐다.
+        private int waiters;
+
+        private ReleaseSignal join() {
+            waiters++;
+            return this;
+        }
+
+        private boolean leave() {
+            return --waiters == 0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.reservation_solution.global.mail;
 
+import com.example.reservation_solution.global.config.AsyncConfig;
 import com.example.reservation_solution.global.exception.EmailSendException;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -19,7 +20,7 @@ public class GoogleMailService implements MailService {
 
     private final JavaMailSender javaMailSender;
 
-    @Async
+    @Async(AsyncConfig.MAIL_TASK_EXECUTOR)
     public void sendAuthEmail(String toEmail, String authCode) {
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
         try {
@@ -0,0 +1,28 @@
+package com.example.reservation_solution.global.migration;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 완료 표시
+ * 재기동하면 사라지므로 작업은 기동마다 한 번씩 남은 대상을 확인한다.
+ */
+@Component
+@Profile("!redis")
+public class InMemoryMigrationMarker implements MigrationMarker {
+
+    private final Set<String> done = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean isDone(String name) {
+        return done.contains(name);
+    }
+
+    @Override
+    public void markDone(String name) {
+        done.add(name);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.reservation_solution.global.migration;
+
+/**
+ * 기동 시 실행하는 데이터 보정 작업의 완료 표시
+ * 여러 노드가 같은 작업을 매번 다시 훑지 않도록, 한 번 끝난 작업은 이름으로 기록해 둔다.
+ */
+public interface MigrationMarker {
+
+    boolean isDone(String name);
+
+    void markDone(String name);
+}
@@ -0,0 +1,32 @@
+package com.example.reservation_solution.global.migration;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 노드용 완료 표시 (redis 프로필)
+ * 만료 없이 보관하므로, 작업을 다시 실행하려면 migration:{name} 키를 지운다.
+ */
+@Component
+@Profile("redis")
+public class RedisMigrationMarker implements MigrationMarker {
+
+    private static final String KEY_PREFIX = "migration:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisMigrationMarker(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean isDone(String name) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + name));
+    }
+
+    @Override
+    public void markDone(String name) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + name, String.valueOf(System.currentTimeMillis()));
+    }
+}
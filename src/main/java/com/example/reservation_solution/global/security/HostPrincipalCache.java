@@ -0,0 +1,49 @@
+package com.example.reservation_solution.global.security;
+
+import com.example.reservation_solution.global.util.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 호스트 정보(HostUserDetails) 캐시
+ * - 토큰에는 이메일과 역할만 있으므로 호스트 ID 등은 DB에서 읽어야 한다. 요청마다 조회하지 않도록 이메일별로 짧게 보관한다.
+ * - 캐시된 정보는 ttl-seconds 동안 DB 변경과 관계없이 그대로 쓰인다. 현재 호스트의 역할·비밀번호를 바꾸거나 호스트를 삭제하는 기능은 없으며,
+ *   이런 기능을 추가하면 ttl-seconds 동안 이전 역할로 인증되지 않도록 커밋 후 해당 이메일을 제거해야 한다.
+ * - 존재하지 않는 호스트(UsernameNotFoundException)는 캐시하지 않으므로 가입 직후에도 바로 조회된다.
+ * - 적중/미적중 수는 cache.gets{cache="hostPrincipal"} 지표로 노출된다.
+ */
+@Component
+public class HostPrincipalCache {
+
+    private static final String CACHE_NAME = "hostPrincipal";
+
+    private final HostUserDetailsService hostUserDetailsService;
+    private final AsyncCache<String, HostUserDetails> principals;
+
+    public HostPrincipalCache(HostUserDetailsService hostUserDetailsService,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.hostUserDetailsService = hostUserDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, CACHE_NAME);
+    }
+
+    /**
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException 존재하지 않는 호스트
+     */
+    public HostUserDetails get(String email) {
+        // 조회는 캐시 내부 잠금 밖에서 한다. (CacheLoads)
+        return CacheLoads.getOrLoad(principals, email, key -> (HostUserDetails) hostUserDetailsService.loadUserByUsername(key));
+    }
+}
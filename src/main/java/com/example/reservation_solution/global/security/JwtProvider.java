@@ -5,27 +5,35 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtProvider {
 
     private final Key key;
     private final long expirationTime;
-    private final HostUserDetailsService hostUserDetailsService;
+    // JwtParser는 불변이고 스레드 안전하므로 한 번만 만든다.
+    private final JwtParser parser;
+    private final HostPrincipalCache hostPrincipalCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long expirationTime,
-            HostUserDetailsService hostUserDetailsService) {
+            HostPrincipalCache hostPrincipalCache,
+            VerifiedTokenCache verifiedTokenCache) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationTime = expirationTime;
-        this.hostUserDetailsService = hostUserDetailsService;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.hostPrincipalCache = hostPrincipalCache;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     public String generateToken(String email, String role) {
@@ -41,30 +49,32 @@ public class JwtProvider {
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-        String email = claims.getSubject();
-
-        UserDetails userDetails = hostUserDetailsService.loadUserByUsername(email);
-
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    /**
+     * 토큰 검증 결과는 VerifiedTokenCache에서, 호스트 정보는 HostPrincipalCache에서 가져온다.
+     * 같은 토큰은 만료 전까지 서명 검증과 파싱을 다시 하지 않는다.
+     * @return 유효하지 않은 토큰이면 빈 값
+     */
+    public Optional<Authentication> authenticate(String token) {
+        VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(token, this::verify);
+        if (verified == null) {
+            return Optional.empty();
+        }
+        HostUserDetails userDetails = hostPrincipalCache.get(verified.subject());
+        return Optional.of(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
     }
 
-    public boolean validateToken(String token) {
+    private VerifiedTokenCache.VerifiedToken verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            Date expiration = claims.getExpiration();
+            return new VerifiedTokenCache.VerifiedToken(claims.getSubject(), expiration == null ? 0 : expiration.getTime());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String getEmailFromToken(String token) {
@@ -0,0 +1,173 @@
+package com.example.reservation_solution.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 JWT의 결과 캐시
+ * - JWS 형식(base64url 세그먼트 3개, MAX_TOKEN_LENGTH 이하)이 아닌 값은 해시·검증·캐시 없이 바로 거절한다.
+ *   따라서 임의의 긴 문자열로 해시 비용을 키우거나 거절 캐시를 채울 수 없다.
+ * - 키는 토큰의 SHA-256 앞 128비트이므로 토큰 원문을 보관하지 않는다.
+ * - 유효한 토큰은 토큰의 만료 시각(exp)까지, 유효하지 않은 토큰은 negative-ttl-seconds 동안 별도 캐시에 보관한다.
+ *   (형식은 맞지만 서명이 틀린 토큰이 몰려도 유효한 토큰 캐시는 밀려나지 않는다)
+ * - 적중/미적중 수는 cache.gets{cache="jwtVerified"|"jwtRejected"}, 실제 검증 시간은 jwt.verify{outcome},
+ *   조회 전체 시간은 jwt.verified-cache.lookup{result=hit|negative_hit|miss|malformed} 지표로 노출된다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String VERIFY_TIMER = "jwt.verify";
+    private static final String LOOKUP_TIMER = "jwt.verified-cache.lookup";
+    // 발급 토큰은 200자 안팎이다. (헤더·이메일·역할·iat·exp·서명)
+    static final int MAX_TOKEN_LENGTH = 4096;
+
+    private final Cache<TokenHash, VerifiedToken> verified;
+    private final Cache<TokenHash, Boolean> rejected;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+    private final Timer hitTimer;
+    private final Timer negativeHitTimer;
+    private final Timer missTimer;
+    private final Timer malformedTimer;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.max-size:100000}") long maxSize,
+                              @Value("${jwt.verified-cache.negative-max-size:10000}") long negativeMaxSize,
+                              @Value("${jwt.verified-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "jwtVerified");
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, "jwtRejected");
+        this.validTimer = meterRegistry.timer(VERIFY_TIMER, "outcome", "valid");
+        this.invalidTimer = meterRegistry.timer(VERIFY_TIMER, "outcome", "invalid");
+        this.hitTimer = meterRegistry.timer(LOOKUP_TIMER, "result", "hit");
+        this.negativeHitTimer = meterRegistry.timer(LOOKUP_TIMER, "result", "negative_hit");
+        this.missTimer = meterRegistry.timer(LOOKUP_TIMER, "result", "miss");
+        this.malformedTimer = meterRegistry.timer(LOOKUP_TIMER, "result", "malformed");
+    }
+
+    /**
+     * 캐시에 없을 때만 verifier로 검증한다.
+     * @param verifier 유효하지 않으면 null을 반환해야 한다.
+     * @return 형식이 틀리거나 유효하지 않은 토큰이면 null
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        long lookupStartedAt = System.nanoTime();
+        if (!isWellFormed(token)) {
+            record(malformedTimer, lookupStartedAt);
+            return null;
+        }
+        TokenHash key = TokenHash.of(token);
+        VerifiedToken cached = verified.getIfPresent(key);
+        if (cached != null) {
+            record(hitTimer, lookupStartedAt);
+            return cached;
+        }
+        if (rejected.getIfPresent(key) != null) {
+            record(negativeHitTimer, lookupStartedAt);
+            return null;
+        }
+        long startedAt = System.nanoTime();
+        VerifiedToken result = verifier.apply(token);
+        if (result == null) {
+            record(invalidTimer, startedAt);
+            rejected.put(key, Boolean.TRUE);
+        } else {
+            record(validTimer, startedAt);
+            if (result.expiresAtMillis() > System.currentTimeMillis()) {
+                verified.put(key, result);
+            }
+        }
+        record(missTimer, lookupStartedAt);
+        return result;
+    }
+
+    /**
+     * JWS compact 형식: 비어 있지 않은 base64url 세그먼트 3개를 '.'로 이은 문자열
+     */
+    static boolean isWellFormed(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int dots = 0;
+        char previous = '.';
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (previous == '.' || ++dots > 2) {
+                    return false;
+                }
+            } else if (!isBase64Url(c)) {
+                return false;
+            }
+            previous = c;
+        }
+        return dots == 2 && previous != '.';
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    private static void record(Timer timer, long startedAt) {
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param expiresAtMillis 토큰의 exp (없으면 0이며 캐시하지 않는다)
+     */
+    public record VerifiedToken(String subject, long expiresAtMillis) {
+    }
+
+    private record TokenHash(long high, long low) {
+
+        static TokenHash of(String token) {
+            try {
+                ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                        .digest(token.getBytes(StandardCharsets.UTF_8)));
+                return new TokenHash(digest.getLong(), digest.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+            }
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<TokenHash, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenHash key, VerifiedToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenHash key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenHash key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.reservation_solution.global.sse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 비동기 전송기
+ * - 발행 스레드는 전송을 맡기기만 하고, 실제 쓰기는 가상 스레드에서 구독자마다 한 번에 하나씩 수행한다.
+ *   따라서 느린 구독자 하나가 입장 처리나 다른 구독자의 전송을 막지 않는다.
+ * - 이전 전송이 끝나지 않은 구독자에게는 이번 이벤트를 보내지 않는다. 대기 순번·잔여 좌석은 최신 값만 의미가 있으므로 다음 발행이 대신한다.
+ * - send-timeout-millis 안에 끝나지 않은 전송은 연결을 끊는다.
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final long sendTimeoutMillis;
+    private final Map<SseEmitter, Delivery> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sse-send-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseDispatcher(@Value("${sse.send-timeout-millis:5000}") long sendTimeoutMillis) {
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = Math.max(100, sendTimeoutMillis / 2);
+        watchdog.scheduleWithFixedDelay(this::expireSlowDeliveries, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    /**
+     * @param onSent    전송에 성공하면 전송 스레드에서 호출된다.
+     * @param onFailure 전송에 실패하거나 시간 안에 끝나지 않으면 호출된다. 연결은 이미 종료된 상태다.
+     * @return 이전 전송이 진행 중이라 이번 이벤트를 건너뛰었으면 false
+     */
+    public boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event, Runnable onSent, Runnable onFailure) {
+        Delivery delivery = new Delivery(System.currentTimeMillis(), onFailure);
+        if (inFlight.putIfAbsent(emitter, delivery) != null) {
+            return false;
+        }
+        delivery.future = senders.submit(() -> {
+            try {
+                emitter.send(event);
+                if (delivery.finish()) {
+                    onSent.run();
+                }
+            } catch (IOException | IllegalStateException e) {
+                fail(emitter, delivery, e);
+            } finally {
+                inFlight.remove(emitter, delivery);
+            }
+        });
+        return true;
+    }
+
+    private void expireSlowDeliveries() {
+        long deadline = System.currentTimeMillis() - sendTimeoutMillis;
+        inFlight.forEach((emitter, delivery) -> {
+            if (delivery.startedAt <= deadline) {
+                inFlight.remove(emitter, delivery);
+                Future<?> future = delivery.future;
+                if (future != null) {
+                    future.cancel(true);
+                }
+                fail(emitter, delivery, new TimeoutException("SSE 전송 시간 초과"));
+            }
+        });
+    }
+
+    private void fail(SseEmitter emitter, Delivery delivery, Exception cause) {
+        if (!delivery.finish()) {
+            return;
+        }
+        log.debug("SSE 전송 실패, 연결 종료: reason={}", cause.getMessage());
+        emitter.completeWithError(cause);
+        try {
+            delivery.onFailure.run();
+        } catch (RuntimeException e) {
+            log.warn("SSE 전송 실패 처리 중 오류", e);
+        }
+    }
+
+    private static final class Delivery {
+
+        private final long startedAt;
+        private final Runnable onFailure;
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile Future<?> future;
+
+        private Delivery(long startedAt, Runnable onFailure) {
+            this.startedAt = startedAt;
+            this.onFailure = onFailure;
+        }
+
+        private boolean finish() {
+            return finished.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.reservation_solution.global.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전화번호 블라인드 인덱스 유틸리티
+ * HMAC-SHA256으로 평문을 복호화 없이 동등 비교할 수 있는 값으로 변환한다.
+ * - phoneHash: 전체 번호 (중복 예약 검증, 게스트 예약 조회, 호스트 전체 번호 검색)
+ * - suffixHash: 끝 4자리 (호스트 뒷자리 검색)
+ * - fingerprint: 개인정보가 담긴 요청 전체 (Idempotency-Key 요청 비교)
+ */
+@Component
+public class BlindIndexUtils {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SUFFIX_LENGTH = 4;
+    private static final String PHONE_DOMAIN = "phone:";
+    private static final String SUFFIX_DOMAIN = "phone-suffix:";
+    private static final String FINGERPRINT_DOMAIN = "fingerprint:";
+    private static final int MAX_POOLED_MACS = 64;
+
+    private final SecretKeySpec secretKey;
+    // Mac은 스레드 안전하지 않으므로 풀에서 빌려 쓴다. (ThreadLocal은 요청마다 새 가상 스레드가 생기면 재사용되지 않는다)
+    private final ConcurrentLinkedQueue<Mac> macs = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledMacs = new AtomicInteger();
+
+    public BlindIndexUtils(@Value("${encryption.blind-index-key:ticket-form-default-blind-index-key-32chars}") String secretKey) {
+        this.secretKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String phoneHash(String phoneNumber) {
+        String digits = normalize(phoneNumber);
+        if (digits.isEmpty()) {
+            return null;
+        }
+        return hmac(PHONE_DOMAIN + digits);
+    }
+
+    /**
+     * 전화번호의 끝 4자리 블라인드 인덱스 (저장용)
+     */
+    public String phoneSuffixHash(String phoneNumber) {
+        String digits = normalize(phoneNumber);
+        if (digits.length() < SUFFIX_LENGTH) {
+            return null;
+        }
+        return suffixHash(digits.substring(digits.length() - SUFFIX_LENGTH));
+    }
+
+    /**
+     * 검색어로 입력된 끝 4자리의 블라인드 인덱스 (조회용)
+     */
+    public String suffixHash(String lastDigits) {
+        return hmac(SUFFIX_DOMAIN + lastDigits);
+    }
+
+    /**
+     * 평문을 저장하지 않고 두 요청이 같은지 비교하기 위한 값. value는 호출자가 모호하지 않게 직렬화해야 한다.
+     */
+    public String fingerprint(String value) {
+        return hmac(FINGERPRINT_DOMAIN + value);
+    }
+
+    public boolean isPhoneSuffix(String keyword) {
+        return keyword.length() == SUFFIX_LENGTH && isDigits(keyword);
+    }
+
+    public boolean isFullPhoneNumber(String keyword) {
+        String digits = normalize(keyword);
+        return digits.length() >= 10 && digits.length() == keyword.replace("-", "").length();
+    }
+
+    private String hmac(String value) {
+        Mac mac = borrow();
+        // doFinal은 Mac을 초기 상태로 되돌리므로 예외가 없으면 그대로 반납한다.
+        byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        release(mac);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private Mac borrow() {
+        Mac mac = macs.poll();
+        if (mac == null) {
+            return createMac();
+        }
+        pooledMacs.decrementAndGet();
+        return mac;
+    }
+
+    private void release(Mac mac) {
+        if (pooledMacs.incrementAndGet() <= MAX_POOLED_MACS) {
+            macs.offer(mac);
+        } else {
+            pooledMacs.decrementAndGet();
+        }
+    }
+
+    private Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("블라인드 인덱스 초기화 실패", e);
+        }
+    }
+
+    private String normalize(String phoneNumber) {
+        if (phoneNumber == null) {
+            return "";
+        }
+        return phoneNumber.replaceAll("\\D", "");
+    }
+
+    private boolean isDigits(String value) {
+        return value.chars().allMatch(Character::isDigit);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.reservation_solution.global.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Caffeine 캐시 적재 유틸리티
+ * Cache.get(key, loader)는 ConcurrentHashMap.compute의 synchronized 구간 안에서 loader를 실행하므로,
+ * loader가 DB를 조회하면 JDK 21 가상 스레드가 캐리어 스레드에 고정(pinning)된다.
+ * 여기서는 compute 안에서 빈 future만 등록하고, 등록한 스레드가 구간 밖에서 적재한다.
+ * - 같은 키의 동시 미적중은 먼저 등록된 future를 기다린다. (대기는 park이므로 고정되지 않는다)
+ * - 적재 중에 invalidate되면 그 결과는 캐시에 남지 않는다.
+ * - 적재에 실패한 future는 캐시에서 제거되고, 기다리던 호출에도 같은 예외가 전달된다.
+ */
+public final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    public static <K, V> V getOrLoad(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
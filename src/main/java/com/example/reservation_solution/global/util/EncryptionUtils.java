@@ -6,23 +6,38 @@ import org.springframework.stereotype.Component;
 import javax.crypto.Cipher;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 전화번호 등 개인정보 암호화/복호화 유틸리티
  * AES-256 알고리즘 사용
+ * - 초기화된 Cipher와 작업 버퍼를 풀에 보관하여 호출마다 Cipher.getInstance/init을 반복하지 않는다.
+ *   (스레드에 묶지 않으므로 가상 스레드에서도 재사용된다)
+ * - Base64는 기존 데이터와 같은 결과를 보장하도록 JDK 표준 코덱(java.util.Base64, RFC 4648)을 사용한다.
  */
 @Component
 public class EncryptionUtils {
 
     private static final String ALGORITHM = "AES/CBC/PKCS5Padding";
     private static final String KEY_ALGORITHM = "AES";
+    private static final int MAX_POOLED_CONTEXTS = 64;
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getDecoder();
 
     private final SecretKeySpec secretKey;
     private final IvParameterSpec ivParameterSpec;
+    private final ConcurrentLinkedQueue<CipherContext> contexts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledContexts = new AtomicInteger();
 
     public EncryptionUtils(@Value("${encryption.secret-key:ticket-form-default-secret-key-32chars!!}") String secretKey) {
         try {
@@ -52,12 +67,13 @@ public class EncryptionUtils {
             return plainText;
         }
 
+        CipherContext context = borrow();
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
-            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encrypted);
+            String encrypted = context.encrypt(plainText);
+            release(context);
+            return encrypted;
         } catch (Exception e) {
+            // 예외가 발생한 Cipher는 상태를 보장할 수 없으므로 풀에 반납하지 않는다.
             throw new RuntimeException("암호화 실패: " + e.getMessage(), e);
         }
     }
@@ -72,14 +88,104 @@ public class EncryptionUtils {
             return encryptedText;
         }
 
+        CipherContext context = borrow();
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
-            byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
-            byte[] decrypted = cipher.doFinal(decodedBytes);
-            return new String(decrypted, StandardCharsets.UTF_8);
+            String decrypted = context.decrypt(encryptedText);
+            release(context);
+            return decrypted;
         } catch (Exception e) {
             throw new RuntimeException("복호화 실패: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * 목록 응답용 일괄 복호화. 하나의 Cipher와 버퍼로 전체를 처리하며, 입력 순서대로 결과를 반환한다.
+     */
+    public List<String> decryptAll(Collection<String> encryptedTexts) {
+        List<String> decrypted = new ArrayList<>(encryptedTexts.size());
+        CipherContext context = borrow();
+        try {
+            for (String encryptedText : encryptedTexts) {
+                boolean blank = encryptedText == null || encryptedText.trim().isEmpty();
+                decrypted.add(blank ? encryptedText : context.decrypt(encryptedText));
+            }
+            release(context);
+            return decrypted;
+        } catch (Exception e) {
+            throw new RuntimeException("복호화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private CipherContext borrow() {
+        CipherContext context = contexts.poll();
+        if (context == null) {
+            return new CipherContext();
+        }
+        pooledContexts.decrementAndGet();
+        return context;
+    }
+
+    private void release(CipherContext context) {
+        if (pooledContexts.incrementAndGet() <= MAX_POOLED_CONTEXTS) {
+            contexts.offer(context);
+        } else {
+            pooledContexts.decrementAndGet();
+        }
+    }
+
+    private final class CipherContext {
+
+        private final Cipher encryptCipher;
+        private final Cipher decryptCipher;
+        private byte[] plainBuffer = new byte[64];
+        private byte[] cipherBuffer = new byte[80];
+
+        private CipherContext() {
+            try {
+                // CBC 모드는 doFinal 이후 init 시점 상태로 되돌아가므로 한 번만 초기화한다.
+                this.encryptCipher = Cipher.getInstance(ALGORITHM);
+                this.encryptCipher.init(Cipher.ENCRYPT_MODE, secretKey, ivParameterSpec);
+                this.decryptCipher = Cipher.getInstance(ALGORITHM);
+                this.decryptCipher.init(Cipher.DECRYPT_MODE, secretKey, ivParameterSpec);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("암호화 초기화 실패", e);
+            }
+        }
+
+        private String encrypt(String plainText) throws GeneralSecurityException {
+            int plainLength = writeUtf8(plainText);
+            cipherBuffer = ensureCapacity(cipherBuffer, encryptCipher.getOutputSize(plainLength));
+            int cipherLength = encryptCipher.doFinal(plainBuffer, 0, plainLength, cipherBuffer, 0);
+            ByteBuffer encoded = BASE64_ENCODER.encode(ByteBuffer.wrap(cipherBuffer, 0, cipherLength));
+            return new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+        }
+
+        private String decrypt(String encryptedText) throws GeneralSecurityException {
+            byte[] decoded = BASE64_DECODER.decode(encryptedText);
+            plainBuffer = ensureCapacity(plainBuffer, decryptCipher.getOutputSize(decoded.length));
+            int plainLength = decryptCipher.doFinal(decoded, 0, decoded.length, plainBuffer, 0);
+            return new String(plainBuffer, 0, plainLength, StandardCharsets.UTF_8);
+        }
+
+        private int writeUtf8(String text) {
+            int length = text.length();
+            plainBuffer = ensureCapacity(plainBuffer, length);
+            for (int i = 0; i < length; i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    // 전화번호는 ASCII이므로 드문 경우에만 일반 인코딩을 사용한다.
+                    byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+                    plainBuffer = ensureCapacity(plainBuffer, encoded.length);
+                    System.arraycopy(encoded, 0, plainBuffer, 0, encoded.length);
+                    return encoded.length;
+                }
+                plainBuffer[i] = (byte) c;
+            }
+            return length;
+        }
+
+        private byte[] ensureCapacity(byte[] buffer, int required) {
+            return buffer.length >= required ? buffer : new byte[Math.max(required, buffer.length * 2)];
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package com.example.reservation_solution.api.event.repository;
+
+import com.example.reservation_solution.api.auth.domain.Host;
+import com.example.reservation_solution.api.auth.domain.Role;
+import com.example.reservation_solution.api.event.domain.Event;
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+class EventScheduleRepositoryTest {
+
+    @Autowired
+    private EventScheduleRepository eventScheduleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long scheduleId;
+
+    @BeforeEach
+    void setUp() {
+        Host host = entityManager.persist(Host.builder()
+                .email("host@example.com")
+                .password("password")
+                .name("호스트")
+                .role(Role.HOST)
+                .build());
+        Event event = Event.builder()
+                .host(host)
+                .title("이벤트")
+                .location("서울")
+                .eventCode("FENCE0001")
+                .build();
+        EventSchedule schedule = EventSchedule.create(LocalDateTime.now(), LocalDateTime.now().plusHours(2), 10);
+        event.addSchedule(schedule);
+        entityManager.persist(event);
+        schedule.incrementReservedCount(4);
+        entityManager.flush();
+        entityManager.clear();
+        scheduleId = schedule.getId();
+    }
+
+    @Test
+    @DisplayName("새 락 보유자가 펜스를 통과한 뒤에는 이전 보유자의 펜스가 거절된다")
+    void fence_shouldRejectStaleToken_afterNewerHolderFenced() {
+        // given
+        assertThat(eventScheduleRepository.fence(scheduleId, 6L)).isEqualTo(1);
+
+        // when
+        int staleUpdated = eventScheduleRepository.fence(scheduleId, 5L);
+
+        // then
+        assertThat(staleUpdated).isZero();
+        entityManager.clear();
+        assertThat(eventScheduleRepository.findById(scheduleId).orElseThrow().getFencingToken()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("같은 락 보유자는 펜스와 좌석 반환을 이어서 할 수 있다")
+    void fence_shouldAllowSameToken_forFollowingWrites() {
+        // given
+        assertThat(eventScheduleRepository.fence(scheduleId, 7L)).isEqualTo(1);
+
+        // when
+        int updated = eventScheduleRepository.decreaseReservedCount(scheduleId, 1, 7L);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        entityManager.clear();
+        assertThat(eventScheduleRepository.findById(scheduleId).orElseThrow().getReservedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이전 락 보유자의 늦은 좌석 반환은 거절되고 잔여 좌석이 바뀌지 않는다")
+    void decreaseReservedCount_shouldRejectStaleToken() {
+        // given
+        eventScheduleRepository.fence(scheduleId, 6L);
+
+        // when
+        int updated = eventScheduleRepository.decreaseReservedCount(scheduleId, 1, 5L);
+
+        // then
+        assertThat(updated).isZero();
+        entityManager.clear();
+        assertThat(eventScheduleRepository.findById(scheduleId).orElseThrow().getReservedCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.reservation_solution.api.event.repository;
+
+import com.example.reservation_solution.api.auth.domain.Host;
+import com.example.reservation_solution.api.auth.domain.Role;
+import com.example.reservation_solution.api.event.domain.Event;
+import com.example.reservation_solution.api.event.domain.FormQuestion;
+import com.example.reservation_solution.api.event.domain.QuestionType;
+import com.example.reservation_solution.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+class FormQuestionRepositoryTest {
+
+    @Autowired
+    private FormQuestionRepository formQuestionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Host host;
+
+    @BeforeEach
+    void setUp() {
+        host = entityManager.persist(Host.builder()
+                .email("host@example.com")
+                .password("password")
+                .name("호스트")
+                .role(Role.HOST)
+                .build());
+    }
+
+    @Test
+    @DisplayName("이벤트에 남아 있는 질문 ID만 반환한다")
+    void findExistingIds_shouldReturnOnlyQuestionsOfEvent() {
+        // given
+        FormQuestion kept = FormQuestion.create("소속", QuestionType.TEXT, true);
+        FormQuestion removed = FormQuestion.create("직함", QuestionType.TEXT, false);
+        Event event = createEvent("FORM00001", kept, removed);
+        FormQuestion otherQuestion = FormQuestion.create("소속", QuestionType.TEXT, true);
+        createEvent("FORM00002", otherQuestion);
+
+        // 다른 노드에서 폼을 수정해 질문 하나가 삭제되었다.
+        event.getQuestions().remove(removed);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> existingIds = formQuestionRepository.findExistingIds(event.getId(),
+                List.of(kept.getId(), removed.getId(), otherQuestion.getId()));
+
+        // then
+        assertThat(existingIds).containsExactly(kept.getId());
+    }
+
+    private Event createEvent(String eventCode, FormQuestion... questions) {
+        Event event = Event.builder()
+                .host(host)
+                .title("이벤트")
+                .location("서울")
+                .eventCode(eventCode)
+                .build();
+        for (FormQuestion question : questions) {
+            event.addQuestion(question);
+        }
+        return entityManager.persist(event);
+    }
+}
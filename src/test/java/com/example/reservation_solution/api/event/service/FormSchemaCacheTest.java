@@ -0,0 +1,88 @@
+package com.example.reservation_solution.api.event.service;
+
+import com.example.reservation_solution.api.event.repository.EventScheduleRepository;
+import com.example.reservation_solution.api.event.repository.FormQuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FormSchemaCacheTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final Long EVENT_ID = 10L;
+
+    @Mock
+    private EventScheduleRepository eventScheduleRepository;
+
+    @Mock
+    private FormQuestionRepository formQuestionRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(eventScheduleRepository.findEventIdById(SCHEDULE_ID)).willReturn(Optional.of(EVENT_ID));
+        given(formQuestionRepository.findByEventIdOrderById(EVENT_ID)).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("만료 시간 안에서는 스키마를 다시 읽지 않는다")
+    void getByScheduleId_shouldUseCache_withinExpiry() {
+        // given
+        FormSchemaCache cache = createCache(60);
+
+        // when
+        cache.getByScheduleId(SCHEDULE_ID);
+        cache.getByScheduleId(SCHEDULE_ID);
+
+        // then
+        verify(formQuestionRepository, times(1)).findByEventIdOrderById(EVENT_ID);
+        verify(eventScheduleRepository, times(1)).findEventIdById(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("적재 후 만료 시간이 지나면 다른 노드에서 수정된 스키마를 다시 읽는다")
+    void getByScheduleId_shouldReload_afterExpireAfterWrite() {
+        // given
+        // 만료 시간 0초: 조회할 때마다 만료된 상태
+        FormSchemaCache cache = createCache(0);
+
+        // when
+        cache.getByScheduleId(SCHEDULE_ID);
+        cache.getByScheduleId(SCHEDULE_ID);
+
+        // then
+        verify(formQuestionRepository, times(2)).findByEventIdOrderById(EVENT_ID);
+        verify(eventScheduleRepository, times(1)).findEventIdById(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 스키마를 다시 읽는다")
+    void evict_shouldReloadSchema() {
+        // given
+        FormSchemaCache cache = createCache(60);
+        cache.getByScheduleId(SCHEDULE_ID);
+
+        // when
+        cache.evict(EVENT_ID);
+        cache.getByScheduleId(SCHEDULE_ID);
+
+        // then
+        verify(formQuestionRepository, times(2)).findByEventIdOrderById(EVENT_ID);
+    }
+
+    private FormSchemaCache createCache(long expireSeconds) {
+        return new FormSchemaCache(eventScheduleRepository, formQuestionRepository, new SimpleMeterRegistry(),
+                100, expireSeconds);
+    }
+}
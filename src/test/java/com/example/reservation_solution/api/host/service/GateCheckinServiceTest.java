@@ -0,0 +1,120 @@
+package com.example.reservation_solution.api.host.service;
+
+import com.example.reservation_solution.api.host.dto.CheckinRequest;
+import com.example.reservation_solution.api.host.dto.CheckinResponse;
+import com.example.reservation_solution.api.host.dto.GateStatusResponse;
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.GateEntry;
+import com.example.reservation_solution.api.reservation.service.GateIndexRegistry;
+import com.example.reservation_solution.api.reservation.service.QrTokenCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GateCheckinServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final String HOST_EMAIL = "host@example.com";
+    private static final int MAX_FLUSH_ATTEMPTS = 2;
+
+    @Mock
+    private HostReservationService hostReservationService;
+
+    private final String qrToken = QrToken.random().toCompactString();
+    private GateCheckinService gateCheckinService;
+
+    @BeforeEach
+    void setUp() {
+        gateCheckinService = new GateCheckinService(hostReservationService, new GateIndexRegistry(),
+                new QrTokenCodec("", true, true), new SimpleMeterRegistry(), 200, 500, MAX_FLUSH_ATTEMPTS);
+        // DB에는 아직 체크인이 반영되지 않은 상태
+        given(hostReservationService.getGateEntries(EVENT_ID, HOST_EMAIL)).willReturn(List.of(
+                new GateEntry(100L, EVENT_ID, 10L, qrToken, "홍길동", 2, ReservationStatus.CONFIRMED, false)));
+    }
+
+    @Test
+    @DisplayName("같은 QR은 한 번만 입장시킨다")
+    void checkin_shouldRejectSecondScan() {
+        // given
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+
+        // when
+        CheckinResponse response = gateCheckinService.checkin(EVENT_ID, new CheckinRequest(qrToken), HOST_EMAIL);
+
+        // then
+        assertThat(response.guestName()).isEqualTo("홍길동");
+        assertThatThrownBy(() -> gateCheckinService.checkin(EVENT_ID, new CheckinRequest(qrToken), HOST_EMAIL))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 체크인이 완료된 예약입니다.");
+    }
+
+    @Test
+    @DisplayName("게이트를 다시 열면 남은 체크인을 먼저 반영한 뒤 적재한다")
+    void open_shouldFlushBeforeLoading() {
+        // given
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+        gateCheckinService.checkin(EVENT_ID, new CheckinRequest(qrToken), HOST_EMAIL);
+        given(hostReservationService.checkInAll(List.of(100L))).willReturn(List.of());
+
+        // when
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+
+        // then
+        InOrder inOrder = inOrder(hostReservationService);
+        inOrder.verify(hostReservationService).getGateEntries(EVENT_ID, HOST_EMAIL);
+        inOrder.verify(hostReservationService).checkInAll(List.of(100L));
+        inOrder.verify(hostReservationService).getGateEntries(EVENT_ID, HOST_EMAIL);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 체크인은 다시 연 게이트에서도 체크인 상태로 유지된다")
+    void open_shouldCarryOverPendingCheckins_whenFlushFails() {
+        // given
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+        gateCheckinService.checkin(EVENT_ID, new CheckinRequest(qrToken), HOST_EMAIL);
+        given(hostReservationService.checkInAll(anyCollection())).willThrow(new IllegalStateException("DB 장애"));
+
+        // when
+        GateStatusResponse status = gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+
+        // then
+        assertThat(status.pendingCheckins()).isEqualTo(1);
+        assertThatThrownBy(() -> gateCheckinService.checkin(EVENT_ID, new CheckinRequest(qrToken), HOST_EMAIL))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 체크인이 완료된 예약입니다.");
+    }
+
+    @Test
+    @DisplayName("max-flush-attempts번 반영에 실패한 체크인은 버리고 더 이상 재시도하지 않는다")
+    void flush_shouldDropPoisonEntry_afterMaxAttempts() {
+        // given
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+        gateCheckinService.checkin(EVENT_ID, new CheckinRequest(qrToken), HOST_EMAIL);
+        given(hostReservationService.checkInAll(anyCollection())).willThrow(new IllegalStateException("반영 불가"));
+
+        // when
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+        gateCheckinService.open(EVENT_ID, HOST_EMAIL);
+
+        // then
+        verify(hostReservationService, times(MAX_FLUSH_ATTEMPTS)).checkInAll(anyCollection());
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.reservation_solution.api.host.service;
+
+import com.example.reservation_solution.api.auth.domain.Host;
+import com.example.reservation_solution.api.auth.repository.HostRepository;
+import com.example.reservation_solution.api.event.domain.Event;
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.api.event.repository.EventRepository;
+import com.example.reservation_solution.api.event.repository.EventScheduleRepository;
+import com.example.reservation_solution.api.host.dto.BulkCheckinRequest;
+import com.example.reservation_solution.api.host.dto.BulkCheckinResponse;
+import com.example.reservation_solution.api.host.dto.BulkCheckinResult;
+import com.example.reservation_solution.api.host.dto.BulkCheckinStatus;
+import com.example.reservation_solution.api.host.dto.CheckinScan;
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.CheckinCandidate;
+import com.example.reservation_solution.api.reservation.dto.GateEntry;
+import com.example.reservation_solution.api.reservation.repository.ReservationRepository;
+import com.example.reservation_solution.api.reservation.service.GateIndexRegistry;
+import com.example.reservation_solution.api.reservation.service.GateQrIndex;
+import com.example.reservation_solution.api.reservation.service.QrTokenCodec;
+import com.example.reservation_solution.api.reservation.service.ReservationEtagCache;
+import com.example.reservation_solution.api.reservation.service.ReservationSearchIndex;
+import com.example.reservation_solution.global.util.BlindIndexUtils;
+import com.example.reservation_solution.global.util.EncryptionUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HostReservationServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long SCHEDULE_ID = 10L;
+    private static final Long OTHER_SCHEDULE_ID = 20L;
+    private static final String HOST_EMAIL = "host@example.com";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private EventScheduleRepository eventScheduleRepository;
+
+    @Mock
+    private HostRepository hostRepository;
+
+    @Mock
+    private EncryptionUtils encryptionUtils;
+
+    @Mock
+    private BlindIndexUtils blindIndexUtils;
+
+    @Mock
+    private ReservationSearchIndex reservationSearchIndex;
+
+    @Mock
+    private ReservationEtagCache reservationEtagCache;
+
+    private final GateIndexRegistry gateIndexRegistry = new GateIndexRegistry();
+    private HostReservationService hostReservationService;
+
+    @BeforeEach
+    void setUp() {
+        hostReservationService = new HostReservationService(eventRepository, reservationRepository,
+                eventScheduleRepository, hostRepository, encryptionUtils, blindIndexUtils, reservationSearchIndex,
+                reservationEtagCache, gateIndexRegistry, new QrTokenCodec("", true, true));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 스캔 시각이 가장 이른 스캔만 처리하고 나머지는 DUPLICATE로 응답한다")
+    void bulkCheckin_shouldProcessEarliestScan_whenTokenIsDuplicated() {
+        // given
+        givenEventOwnedByHost();
+        String qrToken = QrToken.random().toCompactString();
+        given(reservationRepository.findCheckinCandidatesForUpdate(anyCollection()))
+                .willReturn(List.of(candidate(100L, SCHEDULE_ID, qrToken, ReservationStatus.CONFIRMED, false)));
+        given(reservationRepository.checkInAll(List.of(100L))).willReturn(1);
+        // 요청 순서와 스캔 시각 순서가 다르다
+        BulkCheckinRequest request = new BulkCheckinRequest(List.of(
+                new CheckinScan(qrToken, NOW.plusMinutes(5)),
+                new CheckinScan(qrToken, NOW),
+                new CheckinScan(qrToken, null)));
+
+        // when
+        BulkCheckinResponse response = hostReservationService.bulkCheckin(EVENT_ID, request, HOST_EMAIL);
+
+        // then
+        assertThat(response.checkedIn()).isEqualTo(1);
+        assertThat(response.results()).extracting(BulkCheckinResult::status).containsExactly(
+                BulkCheckinStatus.DUPLICATE, BulkCheckinStatus.CHECKED_IN, BulkCheckinStatus.DUPLICATE);
+        verify(eventScheduleRepository).increaseCheckedInCount(SCHEDULE_ID, 2);
+    }
+
+    @Test
+    @DisplayName("다른 이벤트의 예약과 취소된 예약은 체크인하지 않는다")
+    void bulkCheckin_shouldSkipOtherEventAndCancelled() {
+        // given
+        givenEventOwnedByHost();
+        String otherEvent = QrToken.random().toCompactString();
+        String cancelled = QrToken.random().toCompactString();
+        String unknown = QrToken.random().toCompactString();
+        given(reservationRepository.findCheckinCandidatesForUpdate(anyCollection())).willReturn(List.of(
+                candidate(100L, OTHER_SCHEDULE_ID, otherEvent, ReservationStatus.CONFIRMED, false),
+                candidate(101L, SCHEDULE_ID, cancelled, ReservationStatus.CANCELLED, false)));
+        BulkCheckinRequest request = new BulkCheckinRequest(List.of(
+                new CheckinScan(otherEvent, NOW),
+                new CheckinScan(cancelled, NOW),
+                new CheckinScan(unknown, NOW),
+                new CheckinScan("malformed", NOW)));
+
+        // when
+        BulkCheckinResponse response = hostReservationService.bulkCheckin(EVENT_ID, request, HOST_EMAIL);
+
+        // then
+        assertThat(response.checkedIn()).isZero();
+        assertThat(response.results()).extracting(BulkCheckinResult::status).containsExactly(
+                BulkCheckinStatus.OTHER_EVENT, BulkCheckinStatus.CANCELLED,
+                BulkCheckinStatus.NOT_FOUND, BulkCheckinStatus.NOT_FOUND);
+        // 다른 이벤트 예약자의 정보는 응답에 담지 않는다
+        assertThat(response.results().get(0).guestName()).isNull();
+        verify(reservationRepository, never()).checkInAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘는 요청은 DB 조회 없이 거절한다")
+    void bulkCheckin_shouldReject_whenSizeExceedsLimit() {
+        // given
+        List<CheckinScan> scans = IntStream.range(0, 501)
+                .mapToObj(i -> new CheckinScan(QrToken.random().toCompactString(), NOW))
+                .toList();
+
+        // when & then
+        assertThatThrownBy(() -> hostReservationService.bulkCheckin(EVENT_ID, new BulkCheckinRequest(scans), HOST_EMAIL))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> hostReservationService.bulkCheckin(EVENT_ID, new BulkCheckinRequest(List.of()), HOST_EMAIL))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(eventRepository, never()).findByIdWithSchedules(any());
+    }
+
+    @Test
+    @DisplayName("게이트에서 입장했지만 아직 DB에 반영되지 않은 예약은 ALREADY_CHECKED_IN으로 응답한다")
+    void bulkCheckin_shouldRespectGateIndex_whenGateIsOpen() {
+        // given
+        givenEventOwnedByHost();
+        String admittedAtGate = QrToken.random().toCompactString();
+        String notScanned = QrToken.random().toCompactString();
+        GateQrIndex gateIndex = new GateQrIndex(EVENT_ID, HOST_EMAIL, List.of(
+                gateEntry(100L, admittedAtGate), gateEntry(101L, notScanned)));
+        gateIndexRegistry.register(gateIndex);
+        gateIndex.checkIn(QrToken.parse(admittedAtGate));
+        given(reservationRepository.findCheckinCandidatesForUpdate(anyCollection())).willReturn(List.of(
+                candidate(100L, SCHEDULE_ID, admittedAtGate, ReservationStatus.CONFIRMED, false),
+                candidate(101L, SCHEDULE_ID, notScanned, ReservationStatus.CONFIRMED, false)));
+        given(reservationRepository.checkInAll(List.of(101L))).willReturn(1);
+        BulkCheckinRequest request = new BulkCheckinRequest(List.of(
+                new CheckinScan(admittedAtGate, NOW),
+                new CheckinScan(notScanned, NOW)));
+
+        // when
+        BulkCheckinResponse response = hostReservationService.bulkCheckin(EVENT_ID, request, HOST_EMAIL);
+
+        // then
+        assertThat(response.results()).extracting(BulkCheckinResult::status).containsExactly(
+                BulkCheckinStatus.ALREADY_CHECKED_IN, BulkCheckinStatus.CHECKED_IN);
+        // 일괄 체크인한 예약은 게이트에서 다시 입장되지 않는다
+        assertThat(gateIndex.checkIn(QrToken.parse(notScanned)).admitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("UPDATE 건수가 대상 수와 달라도 예외 없이 커밋한다")
+    void checkInAll_shouldNotThrow_whenUpdatedCountDiffers() {
+        // given
+        String qrToken = QrToken.random().toCompactString();
+        given(reservationRepository.findCheckinTargetsForUpdate(List.of(100L)))
+                .willReturn(List.of(candidate(100L, SCHEDULE_ID, qrToken, ReservationStatus.CONFIRMED, false).toTarget()));
+        given(reservationRepository.checkInAll(List.of(100L))).willReturn(0);
+
+        // when & then
+        assertThat(hostReservationService.checkInAll(List.of(100L))).hasSize(1);
+    }
+
+    private void givenEventOwnedByHost() {
+        Host host = mock(Host.class);
+        given(host.getEmail()).willReturn(HOST_EMAIL);
+        EventSchedule schedule = mock(EventSchedule.class);
+        given(schedule.getId()).willReturn(SCHEDULE_ID);
+        Event event = mock(Event.class);
+        given(event.getHost()).willReturn(host);
+        given(event.getSchedules()).willReturn(new ArrayList<>(List.of(schedule)));
+        given(eventRepository.findByIdWithSchedules(EVENT_ID)).willReturn(Optional.of(event));
+    }
+
+    private static CheckinCandidate candidate(Long id, Long scheduleId, String qrToken,
+                                              ReservationStatus status, boolean checkedIn) {
+        return new CheckinCandidate(id, scheduleId, qrToken, "게스트" + id, 2, status, checkedIn);
+    }
+
+    private static GateEntry gateEntry(Long id, String qrToken) {
+        return new GateEntry(id, EVENT_ID, SCHEDULE_ID, qrToken, "게스트" + id, 2, ReservationStatus.CONFIRMED, false);
+    }
+}
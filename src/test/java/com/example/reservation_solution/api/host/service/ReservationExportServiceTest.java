@@ -0,0 +1,99 @@
+package com.example.reservation_solution.api.host.service;
+
+import com.example.reservation_solution.api.event.domain.FormQuestion;
+import com.example.reservation_solution.api.event.repository.FormQuestionRepository;
+import com.example.reservation_solution.api.host.dto.ExportFormat;
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.ReservationExportRow;
+import com.example.reservation_solution.api.reservation.repository.ReservationRepository;
+import com.example.reservation_solution.global.util.EncryptionUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExportServiceTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final List<Long> SCHEDULE_IDS = List.of(10L);
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private FormQuestionRepository formQuestionRepository;
+
+    @Mock
+    private EncryptionUtils encryptionUtils;
+
+    @Mock
+    private FormQuestion question;
+
+    private ReservationExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ReservationExportService(reservationRepository, formQuestionRepository,
+                encryptionUtils, new ObjectMapper());
+        given(question.getId()).willReturn(100L);
+        given(question.getQuestionText()).willReturn("소속");
+        given(formQuestionRepository.findByEventIdOrderById(EVENT_ID)).willReturn(List.of(question));
+        given(encryptionUtils.decryptAll(anyList())).willReturn(List.of("01012345678"));
+    }
+
+    @Test
+    @DisplayName("수식으로 시작하는 이름과 답변은 CSV에서 문자열로 바뀐다")
+    void export_shouldNeutralizeFormula_whenCsv() {
+        // given
+        given(reservationRepository.streamExportRows(SCHEDULE_IDS, ReservationStatus.CONFIRMED))
+                .willReturn(Stream.of(row("=HYPERLINK(\"http://evil\",\"x\")", "@SUM(A1:A2)")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(EVENT_ID, SCHEDULE_IDS, ExportFormat.CSV, output);
+
+        // then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[1]).contains("\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\"");
+        assertThat(lines[1]).endsWith(",'@SUM(A1:A2)");
+        assertThat(lines[1]).contains(",01012345678,");
+    }
+
+    @Test
+    @DisplayName("JSONL 내보내기는 값을 바꾸지 않는다")
+    void export_shouldKeepValues_whenJsonl() {
+        // given
+        given(reservationRepository.streamExportRows(SCHEDULE_IDS, ReservationStatus.CONFIRMED))
+                .willReturn(Stream.of(row("-홍길동", "+82")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        exportService.export(EVENT_ID, SCHEDULE_IDS, ExportFormat.JSONL, output);
+
+        // then
+        String json = output.toString(StandardCharsets.UTF_8);
+        assertThat(json).contains("\"guestName\":\"-홍길동\"");
+        assertThat(json).contains("\"소속\":\"+82\"");
+    }
+
+    private ReservationExportRow row(String guestName, String answer) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 10, 0);
+        return new ReservationExportRow(1L, now, guestName, "encrypted", 2, ReservationStatus.CONFIRMED,
+                false, now, 100L, answer);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.reservation_solution.api.queue.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryQueueStoreTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final long NOW = 1_000_000L;
+    private static final long EXPIRES_AT = NOW + 120_000;
+
+    private final InMemoryQueueStore queueStore = new InMemoryQueueStore();
+
+    @Test
+    @DisplayName("입장 토큰은 한 요청만 묶을 수 있고, 풀면 다시 묶을 수 있으며, 완료하면 더 쓸 수 없다")
+    void claim_shouldAllowOneRequestAtATime() {
+        // given
+        queueStore.register(SCHEDULE_ID, "token", NOW);
+        queueStore.admit(SCHEDULE_ID, 1, EXPIRES_AT, NOW - 30_000, NOW);
+
+        // when & then
+        assertThat(queueStore.claim(SCHEDULE_ID, "token", NOW)).isTrue();
+        assertThat(queueStore.claim(SCHEDULE_ID, "token", NOW)).isFalse();
+        queueStore.release(SCHEDULE_ID, "token");
+        assertThat(queueStore.claim(SCHEDULE_ID, "token", NOW)).isTrue();
+        queueStore.complete(SCHEDULE_ID, "token");
+        assertThat(queueStore.claim(SCHEDULE_ID, "token", NOW)).isFalse();
+        assertThat(queueStore.isAdmitted(SCHEDULE_ID, "token", NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("입장하지 않았거나 입장 시간이 지난 토큰은 묶을 수 없다")
+    void claim_shouldReject_whenNotAdmittedOrExpired() {
+        // given
+        queueStore.register(SCHEDULE_ID, "admitted", NOW);
+        queueStore.register(SCHEDULE_ID, "waiting", NOW);
+        queueStore.admit(SCHEDULE_ID, 1, EXPIRES_AT, NOW - 30_000, NOW);
+
+        // when & then
+        assertThat(queueStore.claim(SCHEDULE_ID, "waiting", NOW)).isFalse();
+        assertThat(queueStore.claim(SCHEDULE_ID, "admitted", EXPIRES_AT)).isFalse();
+        assertThat(queueStore.claim(SCHEDULE_ID, "admitted", NOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("폴링이 멈춘 대기자는 입장시키지 않고 빼며, 뒤 대기자의 순위에서도 제외한다")
+    void admit_shouldExpireIdleWaiters() {
+        // given
+        queueStore.register(SCHEDULE_ID, "head", NOW);
+        queueStore.register(SCHEDULE_ID, "idle", NOW);
+        queueStore.register(SCHEDULE_ID, "polling", NOW);
+        queueStore.register(SCHEDULE_ID, "tail", NOW);
+        long later = NOW + 60_000;
+        queueStore.touch(SCHEDULE_ID, "head", later);
+        queueStore.touch(SCHEDULE_ID, "polling", later);
+        queueStore.touch(SCHEDULE_ID, "tail", later);
+
+        // when
+        int admitted = queueStore.admit(SCHEDULE_ID, 1, later + 120_000, later - 30_000, later);
+
+        // then
+        assertThat(admitted).isEqualTo(1);
+        assertThat(queueStore.isAdmitted(SCHEDULE_ID, "head", later)).isTrue();
+        assertThat(queueStore.findWaitingRank(SCHEDULE_ID, "idle")).isEmpty();
+        assertThat(queueStore.findWaitingRank(SCHEDULE_ID, "polling")).contains(0L);
+        assertThat(queueStore.findWaitingRank(SCHEDULE_ID, "tail")).contains(1L);
+    }
+
+    @Test
+    @DisplayName("입장하거나 만료된 토큰은 touch로 되살아나지 않는다")
+    void touch_shouldIgnoreTokensNotWaiting() {
+        // given
+        queueStore.register(SCHEDULE_ID, "token", NOW);
+        queueStore.admit(SCHEDULE_ID, 1, EXPIRES_AT, NOW - 30_000, NOW);
+
+        // when
+        queueStore.touch(SCHEDULE_ID, "token", NOW + 1000);
+        queueStore.touch(SCHEDULE_ID, "unknown", NOW + 1000);
+
+        // then
+        assertThat(queueStore.findWaitingRank(SCHEDULE_ID, "token")).isEmpty();
+        assertThat(queueStore.findWaitingRank(SCHEDULE_ID, "unknown")).isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.reservation_solution.api.reservation.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QrTokenTest {
+
+    @Test
+    @DisplayName("기존 UUID 토큰은 같은 128비트 값으로 해석되고 UUID 문자열로 되돌릴 수 있다")
+    void parse_shouldRoundTrip_legacyUuid() {
+        // given
+        UUID uuid = UUID.randomUUID();
+
+        // when
+        QrToken token = QrToken.parse(uuid.toString());
+
+        // then
+        assertThat(token).isEqualTo(new QrToken(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+        assertThat(token.toLegacyString()).isEqualTo(uuid.toString());
+        assertThat(QrToken.parse(token.toCompactString())).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("22자 토큰은 바이트 변환과 문자열 변환을 오가도 같은 값이다")
+    void parse_shouldRoundTrip_compactToken() {
+        // given
+        QrToken token = QrToken.random();
+
+        // when
+        String compact = token.toCompactString();
+
+        // then
+        assertThat(compact).hasSize(QrToken.COMPACT_LENGTH);
+        assertThat(QrToken.parse(compact)).isEqualTo(token);
+        assertThat(QrToken.fromBytes(token.toBytes())).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("길이나 문자가 맞지 않는 토큰은 null이다")
+    void parse_shouldReturnNull_whenMalformed() {
+        assertThat(QrToken.parse(null)).isNull();
+        assertThat(QrToken.parse("short")).isNull();
+        assertThat(QrToken.parse("!".repeat(QrToken.COMPACT_LENGTH))).isNull();
+        assertThat(QrToken.parse("not-a-uuid-but-exactly-36-characters")).isNull();
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.reservation_solution.api.reservation.repository;
+
+import com.example.reservation_solution.api.auth.domain.Host;
+import com.example.reservation_solution.api.auth.domain.Role;
+import com.example.reservation_solution.api.event.domain.Event;
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import com.example.reservation_solution.api.reservation.domain.Reservation;
+import com.example.reservation_solution.global.config.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QuerydslConfig.class)
+class ReservationRepositoryTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private EventSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        Host host = entityManager.persist(Host.builder()
+                .email("host@example.com")
+                .password("password")
+                .name("호스트")
+                .role(Role.HOST)
+                .build());
+        Event event = Event.builder()
+                .host(host)
+                .title("이벤트")
+                .location("서울")
+                .eventCode("RESV00001")
+                .build();
+        schedule = EventSchedule.create(LocalDateTime.now(), LocalDateTime.now().plusHours(2), 10);
+        event.addSchedule(schedule);
+        entityManager.persist(event);
+    }
+
+    @Test
+    @DisplayName("같은 예약을 두 번 체크인하면 두 번째 UPDATE는 반영되지 않는다")
+    void checkIn_shouldUpdateOnlyOnce() {
+        // given
+        Reservation reservation = persistReservation();
+
+        // when
+        int first = reservationRepository.checkIn(reservation.getId());
+        int second = reservationRepository.checkIn(reservation.getId());
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        entityManager.clear();
+        assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getIsCheckedIn()).isTrue();
+    }
+
+    @Test
+    @DisplayName("취소된 예약은 체크인 UPDATE 대상이 아니다")
+    void checkIn_shouldNotUpdate_whenCancelled() {
+        // given
+        Reservation reservation = persistReservation();
+        reservation.cancel();
+        entityManager.flush();
+
+        // when
+        int updated = reservationRepository.checkIn(reservation.getId());
+
+        // then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("QR 토큰의 128비트 값으로 예약을 조회한다")
+    void findByQrKey_shouldFindByKey() {
+        // given
+        Reservation reservation = persistReservation();
+        QrToken qrToken = QrToken.parse(reservation.getQrToken());
+        entityManager.clear();
+
+        // when & then
+        assertThat(reservationRepository.findByQrKey(qrToken)).get()
+                .extracting(Reservation::getId)
+                .isEqualTo(reservation.getId());
+        assertThat(reservationRepository.findByQrKey(QrToken.random())).isEmpty();
+    }
+
+    @Test
+    @Sql(statements = "ALTER TABLE reservations ALTER COLUMN qr_key SET NULL",
+            config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    @DisplayName("qr_key가 비어 있는 이전 버전의 예약은 UUID 문자열로 찾는다")
+    void findByQrKey_shouldFallBackToQrToken_whenQrKeyIsNull() {
+        // given
+        // 롤링 배포 중 이전 버전이 qr_key 없이 저장한 행
+        Reservation reservation = persistReservation(UUID.randomUUID().toString());
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE reservations SET qr_key = NULL WHERE id = :id")
+                .setParameter("id", reservation.getId())
+                .executeUpdate();
+        entityManager.clear();
+        QrToken qrToken = QrToken.parse(reservation.getQrToken());
+
+        // when & then
+        assertThat(reservationRepository.findByQrKey(qrToken)).get()
+                .extracting(Reservation::getId)
+                .isEqualTo(reservation.getId());
+        assertThat(reservationRepository.findGateEntryByQrKey(qrToken)).isPresent();
+        assertThat(reservationRepository.findCheckinCandidatesForUpdate(List.of(qrToken))).hasSize(1);
+    }
+
+    private Reservation persistReservation() {
+        return persistReservation(QrToken.random().toCompactString());
+    }
+
+    private Reservation persistReservation(String qrToken) {
+        Reservation reservation = entityManager.persist(Reservation.create(schedule, "게스트", "encrypted",
+                "phone-hash", "suffix-hash", 2, qrToken));
+        entityManager.flush();
+        return reservation;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import com.example.reservation_solution.api.reservation.domain.ReservationStatus;
+import com.example.reservation_solution.api.reservation.dto.GateEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GateQrIndexTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Test
+    @DisplayName("여러 게이트가 같은 QR을 동시에 스캔해도 한 번만 입장된다")
+    void checkIn_shouldAdmitOnce_whenScannedConcurrently() throws Exception {
+        // given
+        String qrToken = QrToken.random().toCompactString();
+        GateQrIndex index = new GateQrIndex(EVENT_ID, "host@example.com",
+                List.of(entry(1L, qrToken, ReservationStatus.CONFIRMED, false)));
+        int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<GateQrIndex.CheckinResult>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return index.checkIn(QrToken.parse(qrToken));
+            }));
+        }
+        start.countDown();
+        int admitted = 0;
+        for (Future<GateQrIndex.CheckinResult> future : futures) {
+            if (future.get().admitted()) {
+                admitted++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(admitted).isEqualTo(1);
+        assertThat(index.checkIn(QrToken.parse(qrToken)).state()).isEqualTo(GateQrIndex.CHECKED_IN);
+    }
+
+    @Test
+    @DisplayName("취소되었거나 이미 체크인된 예약은 입장시키지 않는다")
+    void checkIn_shouldReject_whenCancelledOrCheckedIn() {
+        // given
+        String cancelled = QrToken.random().toCompactString();
+        String checkedIn = QrToken.random().toCompactString();
+        GateQrIndex index = new GateQrIndex(EVENT_ID, "host@example.com", List.of(
+                entry(1L, cancelled, ReservationStatus.CANCELLED, false),
+                entry(2L, checkedIn, ReservationStatus.CONFIRMED, true)));
+
+        // when
+        GateQrIndex.CheckinResult cancelledResult = index.checkIn(QrToken.parse(cancelled));
+        GateQrIndex.CheckinResult checkedInResult = index.checkIn(QrToken.parse(checkedIn));
+
+        // then
+        assertThat(cancelledResult.admitted()).isFalse();
+        assertThat(cancelledResult.state()).isEqualTo(GateQrIndex.CANCELLED);
+        assertThat(checkedInResult.admitted()).isFalse();
+        assertThat(checkedInResult.state()).isEqualTo(GateQrIndex.CHECKED_IN);
+    }
+
+    @Test
+    @DisplayName("게이트 밖에서 취소된 예약은 상태 반영 후 입장시키지 않는다")
+    void updateState_shouldRejectCheckin_afterCancelled() {
+        // given
+        String qrToken = QrToken.random().toCompactString();
+        GateQrIndex index = new GateQrIndex(EVENT_ID, "host@example.com",
+                List.of(entry(1L, qrToken, ReservationStatus.CONFIRMED, false)));
+
+        // when
+        index.updateState(QrToken.parse(qrToken), GateQrIndex.CANCELLED);
+
+        // then
+        assertThat(index.checkIn(QrToken.parse(qrToken)).admitted()).isFalse();
+    }
+
+    @Test
+    @DisplayName("롤백으로 체크인을 되돌려도 그사이 취소된 예약은 취소 상태로 남는다")
+    void revertCheckIn_shouldNotResurrectCancelled() {
+        // given
+        String checkedIn = QrToken.random().toCompactString();
+        String cancelled = QrToken.random().toCompactString();
+        GateQrIndex index = new GateQrIndex(EVENT_ID, "host@example.com", List.of(
+                entry(1L, checkedIn, ReservationStatus.CONFIRMED, false),
+                entry(2L, cancelled, ReservationStatus.CONFIRMED, false)));
+        index.checkIn(QrToken.parse(checkedIn));
+        index.checkIn(QrToken.parse(cancelled));
+        index.updateState(QrToken.parse(cancelled), GateQrIndex.CANCELLED);
+
+        // when
+        index.revertCheckIn(QrToken.parse(checkedIn));
+        index.revertCheckIn(QrToken.parse(cancelled));
+
+        // then
+        assertThat(index.checkIn(QrToken.parse(checkedIn)).admitted()).isTrue();
+        GateQrIndex.CheckinResult result = index.checkIn(QrToken.parse(cancelled));
+        assertThat(result.admitted()).isFalse();
+        assertThat(result.state()).isEqualTo(GateQrIndex.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("적재 후 추가된 예약은 테이블이 커져도 모두 찾고, 없는 토큰은 null을 반환한다")
+    void add_shouldKeepEntries_whenRehashed() {
+        // given
+        GateQrIndex index = new GateQrIndex(EVENT_ID, "host@example.com", List.of());
+        List<String> tokens = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            String qrToken = id % 2 == 0 ? QrToken.random().toCompactString() : UUID.randomUUID().toString();
+            tokens.add(qrToken);
+            index.add(entry(id, qrToken, ReservationStatus.CONFIRMED, false));
+        }
+
+        // when & then
+        assertThat(index.size()).isEqualTo(100);
+        for (int i = 0; i < tokens.size(); i++) {
+            GateQrIndex.CheckinResult result = index.checkIn(QrToken.parse(tokens.get(i)));
+            assertThat(result.admitted()).isTrue();
+            assertThat(result.reservationId()).isEqualTo(i + 1L);
+        }
+        assertThat(index.checkIn(QrToken.random())).isNull();
+    }
+
+    private GateEntry entry(Long id, String qrToken, ReservationStatus status, boolean checkedIn) {
+        return new GateEntry(id, EVENT_ID, 10L, qrToken, "게스트" + id, 2, status, checkedIn);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.QrToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QrTokenCodecTest {
+
+    private static final String HMAC_KEY = "qr-token-codec-test-key";
+
+    @Test
+    @DisplayName("키가 있으면 서명 태그를 붙여 발급하고, 발급한 토큰은 같은 값으로 검증된다")
+    void issue_shouldSignToken_andResolveIt() {
+        // given
+        QrTokenCodec codec = new QrTokenCodec(HMAC_KEY, false, true);
+
+        // when
+        String issued = codec.issue();
+
+        // then
+        assertThat(issued).hasSize(QrToken.COMPACT_LENGTH + 8);
+        assertThat(codec.resolve(issued)).isEqualTo(QrToken.parse(issued));
+    }
+
+    @Test
+    @DisplayName("태그가 틀리거나 다른 키로 서명된 토큰은 거절한다")
+    void resolveOrNull_shouldReject_whenTagMismatches() {
+        // given
+        QrTokenCodec codec = new QrTokenCodec(HMAC_KEY, false, true);
+        String issued = codec.issue();
+        char last = issued.charAt(issued.length() - 1);
+        String tampered = issued.substring(0, issued.length() - 1) + (last == 'A' ? 'B' : 'A');
+        String otherKey = new QrTokenCodec("other-key", false, true).issue();
+
+        // when & then
+        assertThat(codec.resolveOrNull(tampered)).isNull();
+        assertThat(codec.resolveOrNull(otherKey)).isNull();
+        assertThatThrownBy(() -> codec.resolve(tampered))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("길이가 맞지 않는 토큰은 거절한다")
+    void resolveOrNull_shouldReject_whenLengthIsWrong() {
+        // given
+        QrTokenCodec codec = new QrTokenCodec(HMAC_KEY, false, true);
+        String issued = codec.issue();
+
+        // when & then
+        assertThat(codec.resolveOrNull(issued + "A")).isNull();
+        assertThat(codec.resolveOrNull(issued.substring(0, issued.length() - 1))).isNull();
+        assertThat(codec.resolveOrNull("")).isNull();
+        assertThat(codec.resolveOrNull(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("서명 없는 22자 토큰은 accept-unsigned일 때만 허용한다")
+    void resolveOrNull_shouldAcceptUnsigned_onlyWhenEnabled() {
+        // given
+        String unsigned = QrToken.random().toCompactString();
+
+        // when & then
+        assertThat(new QrTokenCodec(HMAC_KEY, false, true).resolveOrNull(unsigned)).isNull();
+        assertThat(new QrTokenCodec(HMAC_KEY, true, true).resolveOrNull(unsigned)).isEqualTo(QrToken.parse(unsigned));
+    }
+
+    @Test
+    @DisplayName("키가 없으면 accept-unsigned를 명시하지 않는 한 기동하지 않는다")
+    void constructor_shouldFail_whenKeyMissingAndUnsignedNotAccepted() {
+        assertThatThrownBy(() -> new QrTokenCodec("", false, true))
+                .isInstanceOf(IllegalStateException.class);
+
+        QrTokenCodec codec = new QrTokenCodec("", true, true);
+        String issued = codec.issue();
+        assertThat(issued).hasSize(QrToken.COMPACT_LENGTH);
+        assertThat(codec.resolveOrNull(issued)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기존 UUID 토큰은 accept-legacy인 동안 같은 128비트 값으로 검증된다")
+    void resolveOrNull_shouldAcceptLegacy_onlyWhenEnabled() {
+        // given
+        UUID uuid = UUID.randomUUID();
+
+        // when
+        QrToken token = new QrTokenCodec(HMAC_KEY, false, true).resolveOrNull(uuid.toString());
+
+        // then
+        assertThat(token.toLegacyString()).isEqualTo(uuid.toString());
+        assertThat(new QrTokenCodec(HMAC_KEY, false, false).resolveOrNull(uuid.toString())).isNull();
+    }
+}
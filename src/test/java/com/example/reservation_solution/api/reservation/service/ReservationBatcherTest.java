@@ -0,0 +1,141 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.dto.ReservationRequest;
+import com.example.reservation_solution.api.reservation.dto.ReservationResponse;
+import com.example.reservation_solution.global.exception.ReservationPendingException;
+import com.example.reservation_solution.global.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationBatcherTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    @Mock
+    private ReservationService reservationService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("배치 트랜잭션이 Error로 끝나도 같은 배치의 요청이 무한 대기하지 않고 같은 Error로 실패한다")
+    void submit_shouldFailAllRequests_whenBatchThrowsError() throws Exception {
+        // given
+        ReservationBatcher batcher = new ReservationBatcher(reservationService, 1000, 2, 5000);
+        given(reservationService.createReservations(eq(SCHEDULE_ID), anyList()))
+                .willThrow(new StackOverflowError("batch failed"));
+
+        // when
+        Future<?> leader = executor.submit(() -> batcher.submit(prepared("01011110000"), IGNORE_LATE));
+        Future<?> follower = executor.submit(() -> batcher.submit(prepared("01022220000"), IGNORE_LATE));
+
+        // then
+        for (Future<?> future : List.of(leader, follower)) {
+            assertThatThrownBy(() -> future.get(3, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 실행 중인 배치의 결과가 대기 시간 안에 오지 않으면 503으로 응답하고, 결과는 나중에 넘겨준다")
+    void submit_shouldHandOverLateOutcome_whenBatchIsSlow() throws Exception {
+        // given
+        ReservationBatcher batcher = new ReservationBatcher(reservationService, 1000, 2, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch executing = new CountDownLatch(1);
+        given(reservationService.createReservations(eq(SCHEDULE_ID), anyList())).willAnswer(invocation -> {
+            executing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(ReservationOutcome.failure(new IllegalStateException("late")),
+                    ReservationOutcome.failure(new IllegalStateException("late")));
+        });
+
+        // when
+        CompletableFuture<Throwable> lateError = new CompletableFuture<>();
+        BiConsumer<ReservationResponse, Throwable> lateOutcome = (response, error) -> lateError.complete(error);
+        Future<?> first = executor.submit(() -> batcher.submit(prepared("01011110000"), lateOutcome));
+        Future<?> second = executor.submit(() -> batcher.submit(prepared("01022220000"), lateOutcome));
+
+        // then
+        // 배치를 직접 실행하는 리더는 트랜잭션이 끝날 때까지 돌아오지 않고, 나머지 요청만 대기 시간 초과로 먼저 응답한다.
+        assertThat(executing.await(3, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!first.isDone() && !second.isDone() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Future<?> timedOut = first.isDone() ? first : second;
+        Future<?> leader = timedOut == first ? second : first;
+        assertThatThrownBy(() -> timedOut.get(0, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ReservationPendingException.class);
+        assertThat(leader.isDone()).isFalse();
+        assertThat(lateError.isDone()).isFalse();
+        release.countDown();
+        assertThatThrownBy(() -> leader.get(3, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(lateError.get(3, TimeUnit.SECONDS)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("리더가 실행하기 전에 대기 시간이 지난 요청은 배치에서 빠진다")
+    void submit_shouldSkipAbandonedRequest_whenTimedOutBeforeExecution() throws Exception {
+        // given
+        ReservationBatcher batcher = new ReservationBatcher(reservationService, 1000, 10, 100);
+        given(reservationService.createReservations(eq(SCHEDULE_ID), anyList())).willAnswer(invocation -> {
+            List<PreparedReservation> requests = invocation.getArgument(1);
+            return requests.stream()
+                    .map(request -> ReservationOutcome.failure(new IllegalStateException(request.phoneHash())))
+                    .toList();
+        });
+        Future<?> leader = executor.submit(() -> batcher.submit(prepared("01011110000"), IGNORE_LATE));
+        Thread.sleep(50);
+
+        // when
+        // 리더가 모으는 시간(1000ms)보다 대기 시간(100ms)이 짧다.
+        Throwable abandoned = catchThrowable(() -> batcher.submit(prepared("01022220000"), IGNORE_LATE));
+
+        // then
+        assertThat(abandoned).isInstanceOf(ServiceUnavailableException.class)
+                .isNotInstanceOf(ReservationPendingException.class);
+        assertThatThrownBy(() -> leader.get(3, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("01011110000");
+        verify(reservationService).createReservations(eq(SCHEDULE_ID), argThat(requests -> requests.size() == 1));
+    }
+
+    private static final BiConsumer<ReservationResponse, Throwable> IGNORE_LATE = (response, error) -> { };
+
+    private PreparedReservation prepared(String phoneNumber) {
+        ReservationRequest request = new ReservationRequest(SCHEDULE_ID, "게스트", phoneNumber, 1, List.of());
+        return new PreparedReservation(request, phoneNumber, phoneNumber, phoneNumber, List.of());
+    }
+}
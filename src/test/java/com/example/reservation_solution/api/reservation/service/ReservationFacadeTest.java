@@ -0,0 +1,163 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.queue.service.WaitingRoomService;
+import com.example.reservation_solution.api.reservation.dto.ReservationRequest;
+import com.example.reservation_solution.api.reservation.dto.ReservationResponse;
+import com.example.reservation_solution.global.exception.ConflictException;
+import com.example.reservation_solution.global.exception.ReservationPendingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationFacadeTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final String QUEUE_TOKEN = "queue-token";
+
+    @Mock
+    private ReservationValidator reservationValidator;
+
+    @Mock
+    private ReservationBatcher reservationBatcher;
+
+    @Mock
+    private SeatInventory seatInventory;
+
+    @Mock
+    private WaitingRoomService waitingRoomService;
+
+    @InjectMocks
+    private ReservationFacade reservationFacade;
+
+    @Test
+    @DisplayName("예약이 커밋된 뒤 대기열 반납이 실패해도 선점한 좌석을 돌려주지 않는다")
+    void createReservation_shouldKeepSeats_whenCompleteFails() {
+        // given
+        ReservationRequest request = request("01012345678");
+        PreparedReservation prepared = prepared(request, "phone-hash");
+        ReservationResponse response = mock(ReservationResponse.class);
+        given(reservationValidator.prepare(request)).willReturn(prepared);
+        given(seatInventory.tryReserve(SCHEDULE_ID, 2)).willReturn(true);
+        given(reservationBatcher.submit(eq(prepared), any())).willReturn(response);
+        willThrow(new IllegalStateException("redis down")).given(waitingRoomService).complete(SCHEDULE_ID, QUEUE_TOKEN);
+
+        // when
+        ReservationResponse result = reservationFacade.createReservation(request, QUEUE_TOKEN);
+
+        // then
+        assertThat(result).isSameAs(response);
+        verify(seatInventory).confirm(SCHEDULE_ID, 2);
+        verify(seatInventory, never()).abort(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("예약이 실패하면 좌석을 돌려주고 입장 토큰의 묶음을 풀어 다시 시도할 수 있게 한다")
+    void createReservation_shouldReleaseAdmission_whenSubmitFails() {
+        // given
+        ReservationRequest request = request("01012345678");
+        PreparedReservation prepared = prepared(request, "phone-hash");
+        given(reservationValidator.prepare(request)).willReturn(prepared);
+        given(seatInventory.tryReserve(SCHEDULE_ID, 2)).willReturn(true);
+        given(reservationBatcher.submit(eq(prepared), any())).willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> reservationFacade.createReservation(request, QUEUE_TOKEN))
+                .isInstanceOf(IllegalStateException.class);
+        verify(seatInventory).abort(SCHEDULE_ID, 2);
+        verify(waitingRoomService).releaseAdmission(SCHEDULE_ID, QUEUE_TOKEN);
+        verify(waitingRoomService, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("배치가 이미 실행 중인데 대기 시간이 지나면 좌석을 쥔 채 응답하고, 늦게 나온 결과로 정리한다")
+    void createReservation_shouldKeepHold_untilLateOutcome() {
+        // given
+        ReservationRequest request = request("01012345678");
+        PreparedReservation prepared = prepared(request, "phone-hash");
+        given(reservationValidator.prepare(request)).willReturn(prepared);
+        given(seatInventory.tryReserve(SCHEDULE_ID, 2)).willReturn(true);
+        ArgumentCaptor<BiConsumer<ReservationResponse, Throwable>> lateOutcome = ArgumentCaptor.forClass(BiConsumer.class);
+        given(reservationBatcher.submit(eq(prepared), lateOutcome.capture())).willThrow(new ReservationPendingException());
+
+        // when
+        assertThatThrownBy(() -> reservationFacade.createReservation(request, QUEUE_TOKEN))
+                .isInstanceOf(ReservationPendingException.class);
+
+        // then
+        verify(seatInventory, never()).abort(any(), anyInt());
+        verify(waitingRoomService, never()).releaseAdmission(any(), any());
+        // 결과가 나오기 전에는 같은 게스트의 재시도를 받지 않는다.
+        assertThatThrownBy(() -> reservationFacade.createReservation(request, "retry-token"))
+                .isInstanceOf(ConflictException.class);
+
+        lateOutcome.getValue().accept(null, new IllegalStateException("좌석 부족"));
+        verify(seatInventory).abort(SCHEDULE_ID, 2);
+        verify(waitingRoomService).releaseAdmission(SCHEDULE_ID, QUEUE_TOKEN);
+        verify(seatInventory, never()).confirm(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("전화번호 표기가 달라도 같은 게스트의 동시 요청은 하나만 진행한다")
+    void createReservation_shouldRejectConcurrentRequest_withSamePhoneHash() throws Exception {
+        // given
+        ReservationRequest first = request("01012345678");
+        ReservationRequest second = request("010-1234-5678");
+        PreparedReservation firstPrepared = prepared(first, "same-hash");
+        given(reservationValidator.prepare(first)).willReturn(firstPrepared);
+        given(reservationValidator.prepare(second)).willReturn(prepared(second, "same-hash"));
+        given(seatInventory.tryReserve(SCHEDULE_ID, 2)).willReturn(true);
+        CountDownLatch submitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(reservationBatcher.submit(eq(firstPrepared), any())).willAnswer(invocation -> {
+            submitted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return mock(ReservationResponse.class);
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<ReservationResponse> inFlight = executor.submit(() -> reservationFacade.createReservation(first, QUEUE_TOKEN));
+            submitted.await(5, TimeUnit.SECONDS);
+
+            // when & then
+            assertThatThrownBy(() -> reservationFacade.createReservation(second, QUEUE_TOKEN))
+                    .isInstanceOf(ConflictException.class);
+            release.countDown();
+            assertThat(inFlight.get(5, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ReservationRequest request(String phoneNumber) {
+        return new ReservationRequest(SCHEDULE_ID, "게스트", phoneNumber, 2, List.of());
+    }
+
+    private static PreparedReservation prepared(ReservationRequest request, String phoneHash) {
+        return new PreparedReservation(request, phoneHash, "suffix-hash", "encrypted", List.of());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.reservation.domain.Reservation;
+import com.example.reservation_solution.api.reservation.dto.ReservationSearchEntry;
+import com.example.reservation_solution.api.reservation.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationSearchIndexTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("이름 부분 일치와 전화번호 해시로 예약 ID를 내림차순으로 찾는다")
+    void search_shouldMatchNameAndPhone() {
+        // given
+        given(reservationRepository.findSearchEntriesByScheduleId(SCHEDULE_ID)).willReturn(List.of(
+                new ReservationSearchEntry(1L, "홍길동", "phone-1", "suffix-1"),
+                new ReservationSearchEntry(2L, "김길순", "phone-2", "suffix-2"),
+                new ReservationSearchEntry(3L, "Hong Gil", "phone-3", "suffix-1")
+        ));
+        ReservationSearchIndex index = createIndex(60);
+
+        // when & then
+        assertThat(index.search(List.of(SCHEDULE_ID), "길", null, null)).containsExactly(2L, 1L);
+        assertThat(index.search(List.of(SCHEDULE_ID), "홍길동", null, null)).containsExactly(1L);
+        assertThat(index.search(List.of(SCHEDULE_ID), " HONG ", null, null)).containsExactly(3L);
+        assertThat(index.search(List.of(SCHEDULE_ID), "없는이름", null, null)).isEmpty();
+        assertThat(index.search(List.of(SCHEDULE_ID), null, "phone-2", "suffix-1")).containsExactly(3L, 2L, 1L);
+        verify(reservationRepository, times(1)).findSearchEntriesByScheduleId(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("이 노드에서 생성된 예약은 재적재 없이 바로 검색된다")
+    void addAfterCommit_shouldBeSearchableWithoutReload() {
+        // given
+        given(reservationRepository.findSearchEntriesByScheduleId(SCHEDULE_ID)).willReturn(List.of(
+                new ReservationSearchEntry(1L, "홍길동", "phone-1", "suffix-1")
+        ));
+        ReservationSearchIndex index = createIndex(60);
+        index.search(List.of(SCHEDULE_ID), "홍", null, null);
+
+        // when
+        index.addAfterCommit(SCHEDULE_ID, List.of(reservation(2L, "홍길순")));
+
+        // then
+        assertThat(index.search(List.of(SCHEDULE_ID), "홍", null, null)).containsExactly(2L, 1L);
+        verify(reservationRepository, times(1)).findSearchEntriesByScheduleId(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("적재 후 만료 시간이 지나면 다시 적재해 다른 노드에서 생성된 예약도 검색된다")
+    void search_shouldReload_afterExpireAfterWrite() {
+        // given
+        given(reservationRepository.findSearchEntriesByScheduleId(SCHEDULE_ID)).willReturn(
+                List.of(new ReservationSearchEntry(1L, "홍길동", "phone-1", "suffix-1")),
+                List.of(new ReservationSearchEntry(1L, "홍길동", "phone-1", "suffix-1"),
+                        new ReservationSearchEntry(2L, "홍길순", "phone-2", "suffix-2"))
+        );
+        // 만료 시간 0초: 검색할 때마다 만료된 상태
+        ReservationSearchIndex index = createIndex(0);
+
+        // when
+        List<Long> first = index.search(List.of(SCHEDULE_ID), "홍", null, null);
+        List<Long> second = index.search(List.of(SCHEDULE_ID), "홍", null, null);
+
+        // then
+        assertThat(first).containsExactly(1L);
+        assertThat(second).containsExactly(2L, 1L);
+        verify(reservationRepository, times(2)).findSearchEntriesByScheduleId(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 DB에서 다시 적재한다")
+    void invalidateAll_shouldReloadOnNextSearch() {
+        // given
+        given(reservationRepository.findSearchEntriesByScheduleId(SCHEDULE_ID)).willReturn(List.of(
+                new ReservationSearchEntry(1L, "홍길동", "phone-1", "suffix-1")
+        ));
+        ReservationSearchIndex index = createIndex(60);
+        index.search(List.of(SCHEDULE_ID), "홍", null, null);
+
+        // when
+        index.invalidateAll();
+        index.search(List.of(SCHEDULE_ID), "홍", null, null);
+
+        // then
+        verify(reservationRepository, times(2)).findSearchEntriesByScheduleId(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("적재는 호출자 트랜잭션에 참여해 커넥션을 하나 더 빌리지 않는다")
+    void search_shouldLoadInCallerTransaction() {
+        // given
+        given(reservationRepository.findSearchEntriesByScheduleId(SCHEDULE_ID)).willReturn(List.of());
+        ReservationSearchIndex index = createIndex(60);
+
+        // when
+        index.search(List.of(SCHEDULE_ID), "홍", null, null);
+
+        // then
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_SUPPORTS));
+    }
+
+    private ReservationSearchIndex createIndex(long expireSeconds) {
+        return new ReservationSearchIndex(reservationRepository, transactionManager, 100, expireSeconds);
+    }
+
+    private Reservation reservation(Long id, String guestName) {
+        Reservation reservation = mock(Reservation.class);
+        given(reservation.getId()).willReturn(id);
+        given(reservation.getGuestName()).willReturn(guestName);
+        given(reservation.getGuestPhoneHash()).willReturn("phone-" + id);
+        given(reservation.getGuestPhoneSuffixHash()).willReturn("suffix-" + id);
+        return reservation;
+    }
+}
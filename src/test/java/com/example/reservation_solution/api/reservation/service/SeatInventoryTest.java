@@ -0,0 +1,222 @@
+package com.example.reservation_solution.api.reservation.service;
+
+import com.example.reservation_solution.api.event.domain.EventSchedule;
+import com.example.reservation_solution.api.event.repository.EventScheduleRepository;
+import com.example.reservation_solution.global.lock.InMemoryLockExecutor;
+import com.example.reservation_solution.global.lock.LockKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final int CAPACITY = 100;
+
+    @Mock
+    private EventScheduleRepository eventScheduleRepository;
+
+    @Mock
+    private EventSchedule schedule;
+
+    // DB의 EventSchedule.reservedCount 역할
+    private final AtomicInteger reservedCount = new AtomicInteger();
+    private final InMemoryLockExecutor lockExecutor = new InMemoryLockExecutor();
+    private SeatInventory seatInventory;
+
+    @BeforeEach
+    void setUp() {
+        given(eventScheduleRepository.findById(SCHEDULE_ID)).willReturn(Optional.of(schedule));
+        given(schedule.getAvailableSeats()).willAnswer(invocation -> CAPACITY - reservedCount.get());
+        seatInventory = new SeatInventory(eventScheduleRepository, lockExecutor, 100, 30, 1000);
+    }
+
+    @Test
+    @DisplayName("조회만 받는 노드도 재적재 주기가 지나면 다른 노드의 예약을 반영한다")
+    void getAvailableSeats_shouldResync_afterInterval() {
+        // given
+        SeatInventory readOnlyNode = new SeatInventory(eventScheduleRepository, lockExecutor, 100, 30, 0);
+        assertThat(readOnlyNode.getAvailableSeats(SCHEDULE_ID)).isEqualTo(CAPACITY);
+
+        // when
+        reservedCount.addAndGet(7); // 다른 노드가 7석을 예약했다.
+
+        // then
+        assertThat(readOnlyNode.getAvailableSeats(SCHEDULE_ID)).isEqualTo(CAPACITY - 7);
+    }
+
+    @Test
+    @DisplayName("재적재 주기 안에서는 잔여 좌석 조회가 DB를 다시 읽지 않는다")
+    void getAvailableSeats_shouldUseCounter_withinInterval() {
+        // given
+        assertThat(seatInventory.getAvailableSeats(SCHEDULE_ID)).isEqualTo(CAPACITY);
+
+        // when
+        reservedCount.addAndGet(7);
+
+        // then
+        assertThat(seatInventory.getAvailableSeats(SCHEDULE_ID)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 스케줄 락이 잡혀 있어도 기다리지 않고, 락이 풀리면 백그라운드에서 재적재한다")
+    void peekAvailableSeats_shouldNotBlock_whenScheduleLockIsHeld() throws Exception {
+        // given
+        SeatInventory readOnlyNode = new SeatInventory(eventScheduleRepository, lockExecutor, 100, 30, 0);
+        assertThat(readOnlyNode.peekAvailableSeats(SCHEDULE_ID)).isEmpty();
+        assertThat(awaitAvailableSeats(readOnlyNode, CAPACITY)).isTrue();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch unlock = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> {
+            lockExecutor.executeWithLock(LockKeyGenerator.schedule(SCHEDULE_ID), () -> {
+                locked.countDown();
+                awaitQuietly(unlock);
+            });
+            return null;
+        });
+        assertThat(locked.await(1, TimeUnit.SECONDS)).isTrue();
+        reservedCount.addAndGet(7); // 다른 노드가 7석을 예약했다.
+
+        try {
+            // when
+            long startedAt = System.nanoTime();
+            OptionalInt whileLocked = readOnlyNode.peekAvailableSeats(SCHEDULE_ID);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(whileLocked).hasValue(CAPACITY);
+            assertThat(elapsedMillis).isLessThan(1000);
+        } finally {
+            unlock.countDown();
+            holder.get(1, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+        assertThat(awaitAvailableSeats(readOnlyNode, CAPACITY - 7)).isTrue();
+        readOnlyNode.shutdown();
+    }
+
+    @Test
+    @DisplayName("재적재는 진행 중인 선점을 빼고 DB 잔여 좌석으로 맞춘다")
+    void invalidate_shouldKeepInFlightHolds_whenReseeded() {
+        // given
+        assertThat(seatInventory.tryReserve(SCHEDULE_ID, 3)).isTrue();
+        reservedCount.addAndGet(10); // 다른 노드가 10석을 예약했다.
+
+        // when
+        seatInventory.invalidate(SCHEDULE_ID);
+        boolean reserved = seatInventory.tryReserve(SCHEDULE_ID, 2);
+
+        // then
+        assertThat(reserved).isTrue();
+        assertThat(seatInventory.getAvailableSeats(SCHEDULE_ID)).isEqualTo(CAPACITY - 10 - 3 - 2);
+    }
+
+    @Test
+    @DisplayName("invalidate 이후에 끝난 선점의 abort도 같은 카운터에 반영된다")
+    void abort_shouldRestoreSeats_afterInvalidate() {
+        // given
+        assertThat(seatInventory.tryReserve(SCHEDULE_ID, 4)).isTrue();
+        seatInventory.invalidate(SCHEDULE_ID);
+
+        // when
+        seatInventory.abort(SCHEDULE_ID, 4);
+        seatInventory.tryReserve(SCHEDULE_ID, 1);
+
+        // then
+        assertThat(seatInventory.getAvailableSeats(SCHEDULE_ID)).isEqualTo(CAPACITY - 1);
+    }
+
+    @Test
+    @DisplayName("선점·커밋·취소와 재적재가 동시에 일어나도 카운터가 DB보다 많은 좌석을 허용하지 않고, 재적재하면 DB와 같아진다")
+    void tryReserve_shouldNotDrift_whenReseededConcurrently() throws Exception {
+        // given
+        int threadCount = 16;
+        int iterations = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            int worker = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < iterations; j++) {
+                    if (!seatInventory.tryReserve(SCHEDULE_ID, 1)) {
+                        continue;
+                    }
+                    if ((worker + j) % 3 == 0) {
+                        seatInventory.abort(SCHEDULE_ID, 1);
+                        continue;
+                    }
+                    reservedCount.incrementAndGet();
+                    seatInventory.confirm(SCHEDULE_ID, 1);
+                    // 취소는 DB 반영과 좌석 반환을 스케줄 락 안에서 함께 한다.
+                    lockExecutor.executeWithLock(LockKeyGenerator.schedule(SCHEDULE_ID), () -> {
+                        reservedCount.decrementAndGet();
+                        seatInventory.release(SCHEDULE_ID, 1);
+                    });
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            for (int j = 0; j < iterations; j++) {
+                seatInventory.invalidate(SCHEDULE_ID);
+                seatInventory.tryReserve(SCHEDULE_ID, 0);
+            }
+            return null;
+        }));
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(reservedCount.get()).isZero();
+        assertThat(seatInventory.getAvailableSeats(SCHEDULE_ID)).isLessThanOrEqualTo(CAPACITY);
+        seatInventory.invalidate(SCHEDULE_ID);
+        seatInventory.tryReserve(SCHEDULE_ID, 0);
+        assertThat(seatInventory.getAvailableSeats(SCHEDULE_ID)).isEqualTo(CAPACITY);
+    }
+
+    private static boolean awaitAvailableSeats(SeatInventory inventory, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < deadline) {
+            if (inventory.peekAvailableSeats(SCHEDULE_ID).orElse(-1) == expected) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.reservation_solution.global.idempotency;
+
+import com.example.reservation_solution.global.exception.IdempotencyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final String KEY = "reservation:key-1";
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, 60, 500);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 key의 재시도는 action을 다시 실행하지 않고 저장된 결과를 반환한다")
+    void execute_shouldReturnStoredResult_whenRetried() {
+        // given
+        String first = store.execute(KEY, "fp", String.class, this::reserve);
+
+        // when
+        String retried = store.execute(KEY, "fp", String.class, this::reserve);
+
+        // then
+        assertThat(retried).isEqualTo(first);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 key로 다른 요청을 보내면 422로 거절한다")
+    void execute_shouldThrow_whenFingerprintMismatch() {
+        // given
+        store.execute(KEY, "fp", String.class, this::reserve);
+
+        // when & then
+        assertThatThrownBy(() -> store.execute(KEY, "other", String.class, this::reserve))
+                .isInstanceOf(IdempotencyException.class)
+                .extracting("httpStatus")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("action이 실패하면 key를 비워 같은 key로 다시 실행할 수 있다")
+    void execute_shouldAllowRetry_afterFailure() {
+        // given
+        assertThatThrownBy(() -> store.execute(KEY, "fp", String.class, () -> {
+            throw new IllegalStateException("좌석 부족");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        String result = store.execute(KEY, "fp", String.class, this::reserve);
+
+        // then
+        assertThat(result).isEqualTo("reservation-1");
+    }
+
+    @Test
+    @DisplayName("action이 Error로 끝나도 key를 비워 같은 key로 다시 실행할 수 있다")
+    void execute_shouldAllowRetry_afterError() {
+        // given
+        assertThatThrownBy(() -> store.execute(KEY, "fp", String.class, () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        // when
+        String result = store.execute(KEY, "fp", String.class, this::reserve);
+
+        // then
+        assertThat(result).isEqualTo("reservation-1");
+    }
+
+    @Test
+    @DisplayName("처리 중인 같은 key의 요청은 실행하지 않고 결과를 기다린다")
+    void execute_shouldWaitForInFlightResult() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                store.execute(KEY, "fp", String.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return reserve();
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() ->
+                store.execute(KEY, "fp", String.class, this::reserve));
+        release.countDown();
+
+        // then
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(first.get(1, TimeUnit.SECONDS));
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 wait-timeout 안에 끝나지 않으면 409로 거절한다")
+    void execute_shouldThrowInProgress_whenWaitTimesOut() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                store.execute(KEY, "fp", String.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return reserve();
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> store.execute(KEY, "fp", String.class, this::reserve))
+                .isInstanceOf(IdempotencyException.class)
+                .extracting("httpStatus")
+                .isEqualTo(HttpStatus.CONFLICT);
+        release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+    }
+
+    private String reserve() {
+        return "reservation-" + executions.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.reservation_solution.global.idempotency;
+
+import com.example.reservation_solution.global.exception.IdempotencyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisIdempotencyStoreTest {
+
+    private static final String KEY = "reservation:key-1";
+    private static final String REDIS_KEY = "idem:" + KEY;
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<RedisIdempotencyStore> stores = new ArrayList<>();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(RedisIdempotencyStore::shutdown);
+    }
+
+    @Test
+    @DisplayName("다른 노드로 들어온 같은 key의 재시도는 action을 다시 실행하지 않고 저장된 결과를 반환한다")
+    void execute_shouldReturnStoredResult_acrossNodes() {
+        // given
+        RedisIdempotencyStore nodeA = createStore(1000);
+        RedisIdempotencyStore nodeB = createStore(1000);
+        String first = nodeA.execute(KEY, "fp", String.class, this::reserve);
+
+        // when
+        String retried = nodeB.execute(KEY, "fp", String.class, this::reserve);
+
+        // then
+        assertThat(retried).isEqualTo(first);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 key로 다른 요청을 보내면 422로 거절한다")
+    void execute_shouldThrow_whenFingerprintMismatch() {
+        // given
+        RedisIdempotencyStore store = createStore(1000);
+        store.execute(KEY, "fp", String.class, this::reserve);
+
+        // when & then
+        assertThatThrownBy(() -> store.execute(KEY, "other", String.class, this::reserve))
+                .isInstanceOf(IdempotencyException.class)
+                .extracting("httpStatus")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    @DisplayName("action이 실패하면 선점한 key를 지워 같은 key로 다시 실행할 수 있다")
+    void execute_shouldReleaseKey_afterFailure() {
+        // given
+        RedisIdempotencyStore store = createStore(1000);
+        assertThatThrownBy(() -> store.execute(KEY, "fp", String.class, () -> {
+            throw new IllegalStateException("좌석 부족");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // when
+        String result = store.execute(KEY, "fp", String.class, this::reserve);
+
+        // then
+        assertThat(result).isEqualTo("reservation-1");
+    }
+
+    @Test
+    @DisplayName("action이 wait-timeout보다 오래 걸려도 선점이 연장되어 다른 노드가 같은 요청을 다시 실행하지 않는다")
+    void execute_shouldRenewPendingLease_whileActionRuns() throws Exception {
+        // given
+        RedisIdempotencyStore nodeA = createStore(300);
+        RedisIdempotencyStore nodeB = createStore(300);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() ->
+                nodeA.execute(KEY, "fp", String.class, () -> {
+                    started.countDown();
+                    await(release);
+                    return reserve();
+                }));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(600); // 연장이 없었다면 선점이 만료되었을 시간
+
+        // when & then
+        assertThatThrownBy(() -> nodeB.execute(KEY, "fp", String.class, this::reserve))
+                .isInstanceOf(IdempotencyException.class)
+                .extracting("httpStatus")
+                .isEqualTo(HttpStatus.CONFLICT);
+        release.countDown();
+        String result = first.get(1, TimeUnit.SECONDS);
+        assertThat(nodeB.execute(KEY, "fp", String.class, this::reserve)).isEqualTo(result);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선점을 잃은 뒤 끝난 action은 다른 노드가 선점한 key를 결과로 덮어쓰지 않는다")
+    void execute_shouldNotOverwrite_whenPendingLeaseLost() {
+        // given
+        RedisIdempotencyStore store = createStore(1000);
+        String otherPending = "P|fp|other-owner";
+
+        // when
+        String result = store.execute(KEY, "fp", String.class, () -> {
+            // 선점이 만료되어 다른 노드가 같은 key를 선점했다.
+            redisTemplate.opsForValue().set(REDIS_KEY, otherPending);
+            return reserve();
+        });
+
+        // then
+        assertThat(result).isEqualTo("reservation-1");
+        assertThat(redisTemplate.opsForValue().get(REDIS_KEY)).isEqualTo(otherPending);
+    }
+
+    private RedisIdempotencyStore createStore(long waitTimeoutMillis) {
+        RedisIdempotencyStore store = new RedisIdempotencyStore(redisTemplate, objectMapper, 60, waitTimeoutMillis);
+        stores.add(store);
+        return store;
+    }
+
+    private String reserve() {
+        return "reservation-" + executions.incrementAndGet();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.reservation_solution.global.lock;
+
+import com.example.reservation_solution.global.exception.LockAcquisitionException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisLockExecutorTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final List<RedisLockExecutor> executors = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        executors.forEach(RedisLockExecutor::shutdown);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 같은 키로 실행해도 임계 구역은 한 번에 하나만 실행된다")
+    void executeWithLock_shouldBeMutuallyExclusive() throws Exception {
+        // given
+        RedisLockExecutor nodeA = newExecutor(10_000, 5_000);
+        RedisLockExecutor nodeB = newExecutor(10_000, 5_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            RedisLockExecutor executor = (i % 2 == 0) ? nodeA : nodeB;
+            futures.add(pool.submit(() -> {
+                start.await();
+                executor.executeWithLock("schedule:1", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(10);
+                    running.decrementAndGet();
+                });
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        // 대기자가 모두 떠나면 키별 알림 항목도 남지 않는다.
+        assertThat(nodeA.releaseSignalCount()).isZero();
+        assertThat(nodeB.releaseSignalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("락을 획득할 때마다 키별 펜싱 토큰이 증가한다")
+    void executeWithLock_shouldIssueIncreasingFencingTokens() throws Exception {
+        // given
+        RedisLockExecutor executor = newExecutor(10_000, 5_000);
+
+        // when
+        long first = executor.executeWithLock("schedule:1", () -> FencingTokenHolder.current().orElseThrow());
+        long second = executor.executeWithLock("schedule:1", () -> FencingTokenHolder.current().orElseThrow());
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(FencingTokenHolder.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보유자가 해제하지 못하고 사라져도 임대가 만료되면 락을 획득한다")
+    void executeWithLock_shouldAcquireAfterLeaseExpires() throws Exception {
+        // given - 죽은 노드가 남긴 락
+        redisTemplate.opsForValue().set("lock:schedule:1", "dead-owner", Duration.ofMillis(300));
+        RedisLockExecutor executor = newExecutor(10_000, 5_000);
+
+        // when
+        long startedAt = System.currentTimeMillis();
+        boolean executed = executor.executeWithLock("schedule:1", () -> true);
+
+        // then
+        assertThat(executed).isTrue();
+        assertThat(System.currentTimeMillis() - startedAt).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("작업이 임대 시간보다 길어지면 워치독이 임대를 연장하여 다른 노드가 획득하지 못한다")
+    void executeWithLock_shouldRenewLeaseWhileRunning() throws Exception {
+        // given
+        RedisLockExecutor holder = newExecutor(300, 5_000);
+        RedisLockExecutor contender = newExecutor(300, 600);
+        CountDownLatch acquired = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        Future<?> holding = pool.submit(() -> {
+            holder.executeWithLock("schedule:1", () -> {
+                acquired.countDown();
+                sleep(1_200);
+            });
+            return null;
+        });
+        acquired.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> contender.executeWithLock("schedule:1", () -> true))
+                .isInstanceOf(LockAcquisitionException.class);
+        holding.get(5, TimeUnit.SECONDS);
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("락이 해제되면 Pub/Sub 알림으로 대기자가 임대 만료를 기다리지 않고 깨어난다")
+    void executeWithLock_shouldWakeWaiterOnRelease() throws Exception {
+        // given
+        RedisLockExecutor holder = newExecutor(10_000, 5_000);
+        RedisLockExecutor waiter = newExecutor(10_000, 5_000);
+        CountDownLatch acquired = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        pool.submit(() -> {
+            holder.executeWithLock("schedule:1", () -> {
+                acquired.countDown();
+                sleep(200);
+            });
+            return null;
+        });
+        acquired.await(5, TimeUnit.SECONDS);
+
+        // when
+        long startedAt = System.currentTimeMillis();
+        waiter.executeWithLock("schedule:1", () -> true);
+        long waited = System.currentTimeMillis() - startedAt;
+
+        // then - 임대 시간(10초)이 아닌 보유 시간(200ms) 수준으로 대기
+        assertThat(waited).isLessThan(2_000);
+        pool.shutdown();
+    }
+
+    private RedisLockExecutor newExecutor(long leaseTimeMillis, long waitTimeMillis) {
+        RedisLockExecutor executor = new RedisLockExecutor(redisTemplate, leaseTimeMillis, waitTimeMillis);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(executor, new ChannelTopic(RedisLockExecutor.RELEASE_CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        executors.add(executor);
+        return executor;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.reservation_solution.global.security;
+
+import com.example.reservation_solution.api.auth.domain.Host;
+import com.example.reservation_solution.api.auth.domain.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HostPrincipalCacheTest {
+
+    private static final String EMAIL = "host@example.com";
+
+    @Mock
+    private HostUserDetailsService hostUserDetailsService;
+
+    @Test
+    @DisplayName("ttl 안에서는 같은 이메일의 호스트를 다시 조회하지 않는다")
+    void get_shouldUseCache_withinTtl() {
+        // given
+        given(hostUserDetailsService.loadUserByUsername(EMAIL)).willReturn(hostDetails());
+        HostPrincipalCache cache = createCache(60);
+
+        // when
+        HostUserDetails first = cache.get(EMAIL);
+        HostUserDetails second = cache.get(EMAIL);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(hostUserDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 호스트를 다시 조회한다")
+    void get_shouldReload_afterTtl() {
+        // given
+        given(hostUserDetailsService.loadUserByUsername(EMAIL)).willReturn(hostDetails());
+        // ttl 0초: 조회할 때마다 만료된 상태
+        HostPrincipalCache cache = createCache(0);
+
+        // when
+        cache.get(EMAIL);
+        cache.get(EMAIL);
+
+        // then
+        verify(hostUserDetailsService, times(2)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 호스트는 캐시하지 않으므로 가입 직후 바로 조회된다")
+    void get_shouldNotCacheMissingHost() {
+        // given
+        given(hostUserDetailsService.loadUserByUsername(EMAIL))
+                .willThrow(new UsernameNotFoundException("없음"))
+                .willReturn(hostDetails());
+        HostPrincipalCache cache = createCache(60);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(EMAIL)).isInstanceOf(UsernameNotFoundException.class);
+        assertThat(cache.get(EMAIL).getUsername()).isEqualTo(EMAIL);
+    }
+
+    private HostPrincipalCache createCache(long ttlSeconds) {
+        return new HostPrincipalCache(hostUserDetailsService, new SimpleMeterRegistry(), 100, ttlSeconds);
+    }
+
+    private static HostUserDetails hostDetails() {
+        return new HostUserDetails(Host.create(EMAIL, "password", "호스트", Role.HOST));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.reservation_solution.global.security;
+
+import com.example.reservation_solution.api.auth.domain.Host;
+import com.example.reservation_solution.api.auth.domain.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtProviderTest {
+
+    private static final String SECRET = "testsecretkeyforunittestingonly1234567890";
+    private static final String EMAIL = "host@example.com";
+
+    @Mock
+    private HostUserDetailsService hostUserDetailsService;
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = createProvider(SECRET, 3_600_000);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰으로 호스트 인증 정보를 만든다")
+    void authenticate_shouldReturnHostPrincipal_forIssuedToken() {
+        // given
+        given(hostUserDetailsService.loadUserByUsername(EMAIL))
+                .willReturn(new HostUserDetails(Host.create(EMAIL, "password", "호스트", Role.HOST)));
+        String token = jwtProvider.generateToken(EMAIL, Role.HOST.name());
+
+        // when
+        Optional<Authentication> first = jwtProvider.authenticate(token);
+        Optional<Authentication> second = jwtProvider.authenticate(token);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(((HostUserDetails) first.get().getPrincipal()).getUsername()).isEqualTo(EMAIL);
+        assertThat(first.get().getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_HOST");
+        assertThat(second).isPresent();
+        verify(hostUserDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 호스트를 조회하지 않고 거절한다")
+    void authenticate_shouldReject_whenSignedWithOtherKey() {
+        // given
+        String forged = createProvider("anothersecretkeyforunittestingonly12345", 3_600_000)
+                .generateToken(EMAIL, Role.HOST.name());
+
+        // when & then
+        assertThat(jwtProvider.authenticate(forged)).isEmpty();
+        verify(hostUserDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰과 형식이 틀린 토큰은 거절한다")
+    void authenticate_shouldReject_whenExpiredOrMalformed() {
+        // given
+        String expired = createProvider(SECRET, -1_000).generateToken(EMAIL, Role.HOST.name());
+
+        // when & then
+        assertThat(jwtProvider.authenticate(expired)).isEmpty();
+        assertThat(jwtProvider.authenticate("not-a-jwt")).isEmpty();
+        verify(hostUserDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    private JwtProvider createProvider(String secret, long expirationMillis) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new JwtProvider(secret, expirationMillis,
+                new HostPrincipalCache(hostUserDetailsService, meterRegistry, 100, 60),
+                new VerifiedTokenCache(meterRegistry, 100, 100, 30));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.reservation_solution.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    @DisplayName("유효한 토큰은 만료 시각(exp)까지만 캐시하고, 그 뒤에는 다시 검증한다")
+    void get_shouldExpireAtTokenExp() throws InterruptedException {
+        // given
+        VerifiedTokenCache cache = createCache(10);
+        long expiresAt = System.currentTimeMillis() + 300;
+        Function<String, VerifiedTokenCache.VerifiedToken> verifier = valid(expiresAt);
+
+        // when
+        cache.get(TOKEN, verifier);
+        cache.get(TOKEN, verifier);
+        int beforeExp = verifications.get();
+        Thread.sleep(Math.max(0, expiresAt - System.currentTimeMillis()) + 100);
+        cache.get(TOKEN, verifier);
+
+        // then
+        assertThat(beforeExp).isEqualTo(1);
+        assertThat(verifications.get()).isEqualTo(2);
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 negative-ttl 동안 다시 검증하지 않는다")
+    void get_shouldCacheRejection() {
+        // given
+        VerifiedTokenCache cache = createCache(10);
+
+        // when
+        VerifiedTokenCache.VerifiedToken first = cache.get(TOKEN, invalid());
+        VerifiedTokenCache.VerifiedToken second = cache.get(TOKEN, invalid());
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(lookups("negative_hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("JWS 형식이 아닌 값은 검증하지도 캐시하지도 않는다")
+    void get_shouldRejectMalformedToken_withoutVerifying() {
+        // given
+        VerifiedTokenCache cache = createCache(10);
+        String tooLong = "a.b." + "c".repeat(VerifiedTokenCache.MAX_TOKEN_LENGTH);
+
+        // when & then
+        assertThat(cache.get("not-a-jwt", invalid())).isNull();
+        assertThat(cache.get("a..c", invalid())).isNull();
+        assertThat(cache.get("a.b.c.d", invalid())).isNull();
+        assertThat(cache.get("a.b+c.d", invalid())).isNull();
+        assertThat(cache.get(tooLong, invalid())).isNull();
+        assertThat(cache.get(null, invalid())).isNull();
+        assertThat(verifications.get()).isZero();
+        assertThat(lookups("malformed")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이 많이 들어와도 유효한 토큰 캐시는 밀려나지 않는다")
+    void get_shouldKeepValidTokens_whenRejectedCacheOverflows() {
+        // given
+        VerifiedTokenCache cache = createCache(10);
+        Function<String, VerifiedTokenCache.VerifiedToken> verifier = valid(System.currentTimeMillis() + 60_000);
+        cache.get(TOKEN, verifier);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.get("header.payload.forged" + i, invalid());
+        }
+        cache.get(TOKEN, verifier);
+
+        // then
+        // 유효한 토큰 검증 1번 + 잘못된 토큰 1000번
+        assertThat(verifications.get()).isEqualTo(1001);
+        assertThat(lookups("hit")).isEqualTo(1);
+    }
+
+    private VerifiedTokenCache createCache(long negativeMaxSize) {
+        return new VerifiedTokenCache(meterRegistry, 100, negativeMaxSize, 30);
+    }
+
+    private Function<String, VerifiedTokenCache.VerifiedToken> valid(long expiresAtMillis) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedTokenCache.VerifiedToken("host@example.com", expiresAtMillis);
+        };
+    }
+
+    private Function<String, VerifiedTokenCache.VerifiedToken> invalid() {
+        return token -> {
+            verifications.incrementAndGet();
+            return null;
+        };
+    }
+
+    private long lookups(String result) {
+        return meterRegistry.get("jwt.verified-cache.lookup").tag("result", result).timer().count();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.reservation_solution.global.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheLoadsTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 미적중은 한 번만 적재한다")
+    void getOrLoad_shouldLoadOnce_forConcurrentMisses() throws Exception {
+        // given
+        AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<String> first = executor.submit(() -> CacheLoads.getOrLoad(cache, "key", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<String> second = executor.submit(() -> CacheLoads.getOrLoad(cache, "key", key -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(loads.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 원래 예외를 던지고 캐시에 남기지 않는다")
+    void getOrLoad_shouldRethrowAndNotCache_whenLoaderFails() {
+        // given
+        AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+
+        // when & then
+        assertThatThrownBy(() -> CacheLoads.getOrLoad(cache, "key", key -> {
+            throw new IllegalArgumentException("없음");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("없음");
+        assertThat(CacheLoads.getOrLoad(cache, "key", key -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("적재 중에 invalidate되면 적재 결과는 캐시에 남지 않는다")
+    void getOrLoad_shouldNotKeepResult_whenInvalidatedDuringLoad() {
+        // given
+        AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+
+        // when
+        String loaded = CacheLoads.getOrLoad(cache, "key", key -> {
+            cache.synchronous().invalidate(key);
+            return "stale";
+        });
+
+        // then
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(CacheLoads.getOrLoad(cache, "key", key -> "fresh")).isEqualTo("fresh");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
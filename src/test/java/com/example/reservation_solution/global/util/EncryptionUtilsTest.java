@@ -0,0 +1,104 @@
+package com.example.reservation_solution.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EncryptionUtilsTest {
+
+    private static final String SECRET_KEY = "test-secret-key-for-encryption-utils";
+    private static final List<String> PLAIN_TEXTS = List.of(
+            "01012345678", "0101234567", "1", "12", "123", "전화번호-비ASCII", "0".repeat(100));
+
+    private final EncryptionUtils encryptionUtils = new EncryptionUtils(SECRET_KEY);
+
+    @Test
+    @DisplayName("암호화한 값을 복호화하면 원문이 나온다")
+    void decrypt_shouldReturnPlainText_whenEncrypted() {
+        for (String plainText : PLAIN_TEXTS) {
+            // given
+            String encrypted = encryptionUtils.encrypt(plainText);
+
+            // when
+            String decrypted = encryptionUtils.decrypt(encrypted);
+
+            // then
+            assertThat(decrypted).isEqualTo(plainText);
+        }
+    }
+
+    @Test
+    @DisplayName("기존 방식(호출마다 Cipher 생성 + JDK Base64)과 같은 암호문을 만든다")
+    void encrypt_shouldMatchLegacyCiphertext() throws Exception {
+        for (String plainText : PLAIN_TEXTS) {
+            // given
+            String legacy = legacyEncrypt(plainText);
+
+            // when
+            String encrypted = encryptionUtils.encrypt(plainText);
+
+            // then
+            assertThat(encrypted).isEqualTo(legacy);
+        }
+    }
+
+    @Test
+    @DisplayName("기존 방식으로 저장된 암호문을 복호화할 수 있다")
+    void decrypt_shouldReadLegacyCiphertext() throws Exception {
+        for (String plainText : PLAIN_TEXTS) {
+            // given
+            String legacy = legacyEncrypt(plainText);
+
+            // when
+            String decrypted = encryptionUtils.decrypt(legacy);
+
+            // then
+            assertThat(decrypted).isEqualTo(plainText);
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 복호화는 입력 순서를 유지하고 빈 값은 그대로 돌려준다")
+    void decryptAll_shouldKeepOrder() {
+        // given
+        List<String> encrypted = Arrays.asList(encryptionUtils.encrypt("01011112222"), null, "",
+                encryptionUtils.encrypt("01033334444"));
+
+        // when
+        List<String> decrypted = encryptionUtils.decryptAll(encrypted);
+
+        // then
+        assertThat(decrypted).containsExactly("01011112222", null, "", "01033334444");
+    }
+
+    @Test
+    @DisplayName("Base64가 아닌 암호문은 복호화에 실패한다")
+    void decrypt_shouldThrowException_whenNotBase64() {
+        // given
+        String invalid = "not*base64";
+
+        // when & then
+        assertThatThrownBy(() -> encryptionUtils.decrypt(invalid))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageStartingWith("복호화 실패");
+    }
+
+    private String legacyEncrypt(String plainText) throws Exception {
+        byte[] key = Arrays.copyOf(MessageDigest.getInstance("SHA-256")
+                .digest(SECRET_KEY.getBytes(StandardCharsets.UTF_8)), 32);
+        Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(Arrays.copyOf(key, 16)));
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+}